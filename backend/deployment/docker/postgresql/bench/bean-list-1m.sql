@@ -0,0 +1,61 @@
+-- 원두 목록 조회 비교용 데이터 (원두 100만 건, 원두당 flavor 3개)
+-- 애플리케이션이 스키마를 만든 뒤 실행: psql -U user -d coffeedia_db -f bean-list-1m.sql
+
+-- beans / bean_flavors 는 애플리케이션이 시퀀스(pooled)로 id 를 할당하므로 id 를 직접 넣고 끝에서 시퀀스를 맞춤
+INSERT INTO beans (id, user_id, name, origin_country, origin_region, roaster, roast_date, grams,
+                   roast_level, process_type, blend_type, is_decaf, memo, status,
+                   created_at, updated_at)
+SELECT (SELECT COALESCE(MAX(id), 0) FROM beans) + g,
+       1,
+       '벤치마크 원두 ' || g,
+       '에티오피아',
+       '예가체프',
+       '벤치마크 로스터',
+       CURRENT_DATE - (g % 365),
+       250,
+       'MEDIUM',
+       'WASHED',
+       'SINGLE_ORIGIN',
+       false,
+       NULL,
+       'ACTIVE',
+       now() - (g || ' seconds')::interval,
+       now() - (g || ' seconds')::interval
+FROM generate_series(1, 1000000) AS g;
+
+INSERT INTO bean_flavors (id, bean_id, flavor_id, created_at, updated_at)
+SELECT (SELECT COALESCE(MAX(id), 0) FROM bean_flavors) + row_number() OVER (), b.id, f.id, now(), now()
+FROM beans b
+CROSS JOIN LATERAL (
+    SELECT id FROM flavors ORDER BY (id + b.id) % 7 LIMIT 3
+) f;
+
+SELECT setval('beans_seq', (SELECT MAX(id) FROM beans));
+SELECT setval('bean_flavors_seq', (SELECT MAX(id) FROM bean_flavors));
+
+ANALYZE beans;
+ANALYZE bean_flavors;
+
+-- 이전: 페이지 조회 후 IN 절로 flavor 를 다시 조회 (두 번 왕복, 두 번째 쿼리는 정렬 없음)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM beans b ORDER BY b.created_at DESC OFFSET 100000 LIMIT 21;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT b.*, bf.*
+FROM beans b
+LEFT JOIN bean_flavors bf ON bf.bean_id = b.id
+WHERE b.id IN (SELECT id FROM beans ORDER BY created_at DESC OFFSET 100000 LIMIT 21);
+
+-- 이후: 한 번의 쿼리로 페이지와 flavor id 배열을 함께 조회
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT b.id, b.user_id, b.name, b.origin_country, b.origin_region, b.roaster,
+       b.roast_date, b.grams, b.roast_level, b.process_type, b.blend_type, b.is_decaf,
+       b.memo, b.status, b.created_at, b.updated_at,
+       ARRAY(
+           SELECT bf.flavor_id FROM bean_flavors bf
+           WHERE bf.bean_id = b.id
+           ORDER BY bf.id
+       ) AS flavor_ids
+FROM beans b
+ORDER BY b.created_at DESC, b.id DESC
+LIMIT 21 OFFSET 100000;
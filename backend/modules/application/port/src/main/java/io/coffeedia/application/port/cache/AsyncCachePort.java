@@ -0,0 +1,21 @@
+package io.coffeedia.application.port.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 요청 스레드를 막지 않는 캐시 포트
+ * <p>
+ * 모든 연산은 Redis 응답을 기다리지 않고 바로 반환합니다. CachePort 와 마찬가지로 캐시 장애는 예외 대신 빈 결과(null, false)로
+ * 완료됩니다.
+ */
+public interface AsyncCachePort {
+
+    CompletableFuture<Boolean> exists(String key);
+
+    <T> CompletableFuture<T> read(String key, Class<T> valueType);
+
+    <T> CompletableFuture<Void> write(String key, T value, Duration ttl);
+
+    CompletableFuture<Void> delete(String key);
+}
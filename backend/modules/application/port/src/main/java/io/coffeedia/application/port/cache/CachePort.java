@@ -1,6 +1,11 @@
 package io.coffeedia.application.port.cache;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 public interface CachePort {
 
@@ -13,4 +18,52 @@ public interface CachePort {
     <T> void write(String key, T value, Duration ttl);
 
     void delete(String key);
+
+    /**
+     * 여러 키를 한 번에 조회합니다. 값이 없는 키는 결과에 포함되지 않습니다.
+     */
+    <T> Map<String, T> readAll(Collection<String> keys, Class<T> valueType);
+
+    <T> void writeAll(Map<String, T> values, Duration ttl);
+
+    void deleteAll(Collection<String> keys);
+
+    /**
+     * 캐시된 값을 반환하고, 없으면 loader 로 적재해 저장한 뒤 반환합니다.
+     * <p>
+     * 같은 키에 대한 동시 적재는 노드 안팎에서 하나로 합쳐지며, 만료가 가까운 키는 확률적으로 미리 갱신됩니다.
+     */
+    <T> T getOrLoad(String key, Class<T> valueType, Duration ttl, Supplier<T> loader);
+
+    /**
+     * 존재하지 않을 수 있는 값을 위한 getOrLoad
+     * <p>
+     * 적재 결과가 비어 있으면 negativeTtl 동안 툼스톤을 저장해 같은 키의 반복 조회가 저장소까지 내려가지 않도록 합니다. ttl 이 0 이면 값은
+     * 캐시하지 않고 툼스톤만 저장합니다.
+     */
+    <T> Optional<T> getOrLoadOptional(
+        String key,
+        Class<T> valueType,
+        Duration ttl,
+        Duration negativeTtl,
+        Supplier<Optional<T>> loader
+    );
+
+    /**
+     * 목록 값을 요소 타입 그대로 캐시하는 getOrLoad
+     */
+    <T> List<T> getOrLoadList(
+        String key,
+        Class<T> elementType,
+        Duration ttl,
+        Supplier<List<T>> loader
+    );
+
+    /**
+     * 네임스페이스의 현재 세대 번호를 조회합니다. 세대 번호를 키에 포함하면 세대를 올리는 것만으로 해당 네임스페이스의 키가 모두
+     * 무효화됩니다.
+     */
+    long generation(String generationKey);
+
+    void bumpGeneration(String generationKey);
 }
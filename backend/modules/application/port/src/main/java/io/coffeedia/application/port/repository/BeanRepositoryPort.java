@@ -1,6 +1,9 @@
 package io.coffeedia.application.port.repository;
 
 import io.coffeedia.domain.model.Bean;
+import io.coffeedia.domain.model.BeanFacets;
+import io.coffeedia.domain.vo.BeanFilter;
+import io.coffeedia.domain.vo.PageCursor;
 import io.coffeedia.domain.vo.PageSize;
 import io.coffeedia.domain.vo.SortType;
 import java.util.List;
@@ -20,5 +23,21 @@ public interface BeanRepositoryPort {
 
     List<Bean> findAll(PageSize pageSize, List<SortType> sorts);
 
+    /**
+     * 커서 다음의 원두 목록을 조회합니다. 다음 페이지 확인용으로 size 보다 한 건을 더 조회합니다.
+     */
+    List<Bean> findAllAfter(PageCursor cursor, int size, SortType sort);
+
+    /**
+     * 필터에 일치하는 원두 목록을 조회합니다. 다음 페이지 확인용으로 size 보다 한 건을 더 조회합니다.
+     */
+    List<Bean> search(BeanFilter filter, PageSize pageSize, List<SortType> sorts);
+
+    /**
+     * 필터에 일치하는 원두의 로스팅 레벨, 가공 방식, 블렌드 타입, 디카페인 여부, 원산지 국가, flavor 별 개수를 조회합니다. 각 항목의
+     * 개수는 그 항목 자신의 조건을 빼고 셉니다.
+     */
+    BeanFacets countFacets(BeanFilter filter);
+
     void delete(Long beanId);
 }
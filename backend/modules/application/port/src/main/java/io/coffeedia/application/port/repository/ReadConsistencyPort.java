@@ -0,0 +1,19 @@
+package io.coffeedia.application.port.repository;
+
+/**
+ * 읽기 일관성 포트
+ * <p>
+ * 요청을 처리하는 동안 사용자 식별 키를 설정해, 같은 사용자가 방금 쓴 데이터를 복제 지연된 저장소에서 읽지 않도록 합니다.
+ */
+public interface ReadConsistencyPort {
+
+    /**
+     * 요청 시작 시 사용자 식별 키를 설정합니다. 키가 없으면 요청 단위로만 동작합니다.
+     */
+    void begin(String key);
+
+    /**
+     * 요청 종료 시 설정한 키를 정리합니다.
+     */
+    void end();
+}
@@ -0,0 +1,26 @@
+package io.coffeedia.application.port.repository;
+
+import io.coffeedia.domain.vo.RecipeTagFilter;
+import java.util.List;
+
+/**
+ * 레시피 태그, 카테고리, 상태 역색인
+ */
+public interface RecipeFilterIndexPort {
+
+    /**
+     * 필터에 일치하는 활성 레시피 ID 를 최신(ID 내림차순)부터 조회합니다.
+     *
+     * @param filter   태그, 카테고리 필터
+     * @param beforeId 이 ID 보다 작은 레시피부터 조회 (첫 페이지면 null)
+     * @param size     페이지 크기 (다음 페이지 확인용으로 한 건을 더 조회합니다)
+     */
+    List<Long> findIds(RecipeTagFilter filter, Long beforeId, int size);
+
+    /**
+     * 레시피 한 건의 색인을 저장된 값으로 다시 맞춥니다. 레시피가 없으면 색인에서 제거합니다.
+     *
+     * @param recipeId 레시피 ID
+     */
+    void refresh(Long recipeId);
+}
@@ -2,6 +2,7 @@ package io.coffeedia.application.port.repository;
 
 import io.coffeedia.domain.model.Recipe;
 import io.coffeedia.domain.model.RecipeSummary;
+import io.coffeedia.domain.vo.PageCursor;
 import io.coffeedia.domain.vo.PageSize;
 import io.coffeedia.domain.vo.SortType;
 import java.util.List;
@@ -11,6 +12,14 @@ public interface RecipeRepositoryPort {
 
     Recipe save(Recipe recipe);
 
+    /**
+     * 기존 레시피를 수정합니다. 재료, 단계, 태그는 바뀐 항목만 반영합니다.
+     *
+     * @param recipe 수정할 레시피 (ID 필수)
+     * @return 수정된 레시피 정보
+     */
+    Recipe update(Recipe recipe);
+
     /**
      * 레시피 ID로 상세 정보를 조회합니다.
      *
@@ -21,6 +30,22 @@ public interface RecipeRepositoryPort {
 
     List<RecipeSummary> findAll(PageSize pageSize, List<SortType> sorts);
 
+    /**
+     * 커서 다음의 활성 레시피 목록을 조회합니다.
+     *
+     * @param cursor 마지막으로 읽은 레시피 위치 (첫 페이지면 null)
+     * @param size   페이지 크기 (다음 페이지 확인용으로 한 건을 더 조회합니다)
+     * @param sort   정렬 조건
+     */
+    List<RecipeSummary> findAllAfter(PageCursor cursor, int size, SortType sort);
+
+    /**
+     * ID 목록의 활성 레시피를 요청한 순서대로 조회합니다. 없거나 비활성인 레시피는 제외합니다.
+     *
+     * @param ids 레시피 ID 목록
+     */
+    List<RecipeSummary> findAllSummariesByIds(List<Long> ids);
+
     /**
      * 레시피를 삭제합니다.
      *
@@ -0,0 +1,29 @@
+package io.coffeedia.application.port.repository;
+
+import io.coffeedia.domain.model.RecipeSearchResult;
+import io.coffeedia.domain.vo.SearchCursor;
+import java.util.List;
+
+/**
+ * 레시피 검색 문서 저장소
+ */
+public interface RecipeSearchPort {
+
+    /**
+     * 검색어와 일치하는 활성 레시피를 관련도 순으로 조회합니다.
+     *
+     * @param keyword 검색어
+     * @param cursor  마지막으로 읽은 결과 위치 (첫 페이지면 null)
+     * @param size    페이지 크기 (다음 페이지 확인용으로 한 건을 더 조회합니다)
+     */
+    List<RecipeSearchResult> search(String keyword, SearchCursor cursor, int size);
+
+    /**
+     * 정규화 테이블에서 레시피 한 건의 검색 문서를 다시 만듭니다.
+     *
+     * @param recipeId 레시피 ID
+     */
+    void refresh(Long recipeId);
+
+    void delete(Long recipeId);
+}
@@ -0,0 +1,39 @@
+package io.coffeedia.application.port.repository;
+
+import io.coffeedia.domain.model.Recipe;
+import java.util.Optional;
+
+/**
+ * 레시피 상세 읽기 모델 저장소
+ */
+public interface RecipeViewRepositoryPort {
+
+    /**
+     * 읽기 모델에서 레시피 상세를 조회합니다.
+     *
+     * @param recipeId 레시피 ID
+     * @return 레시피 상세 (읽기 모델이 아직 없으면 빈 값)
+     */
+    Optional<Recipe> findById(Long recipeId);
+
+    /**
+     * 정규화 테이블에서 레시피 한 건의 읽기 모델을 다시 만듭니다.
+     *
+     * @param recipeId 레시피 ID
+     */
+    void refresh(Long recipeId);
+
+    /**
+     * 레시피 ID 가 (fromId, toId] 범위인 읽기 모델을 다시 만들고, 사라진 레시피의 읽기 모델은 삭제합니다.
+     *
+     * @return 다시 만든 읽기 모델 수
+     */
+    int refreshRange(long fromId, long toId);
+
+    void delete(Long recipeId);
+
+    /**
+     * 읽기 모델을 만들 레시피 ID 의 최대값을 조회합니다.
+     */
+    long findMaxRecipeId();
+}
@@ -0,0 +1,10 @@
+package io.coffeedia.application.usecase;
+
+import io.coffeedia.application.usecase.dto.BeanResponse;
+import io.coffeedia.application.usecase.dto.CursorPage;
+import io.coffeedia.application.usecase.dto.CursorQuery;
+
+public interface GetBeansByCursorUseCase {
+
+    CursorPage<BeanResponse> invoke(CursorQuery query);
+}
@@ -0,0 +1,17 @@
+package io.coffeedia.application.usecase;
+
+import io.coffeedia.application.usecase.dto.RebuildRecipeViewsResponse;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 레시피 상세 읽기 모델 재생성 UseCase
+ */
+public interface RebuildRecipeViewsUseCase {
+
+    /**
+     * 정규화 테이블에서 모든 레시피의 읽기 모델을 백그라운드에서 다시 만듭니다. 이미 실행 중이면 진행 중인 재생성을 돌려줍니다.
+     *
+     * @return 재생성이 끝나면 결과로 완료되는 future
+     */
+    CompletableFuture<RebuildRecipeViewsResponse> invoke();
+}
@@ -0,0 +1,9 @@
+package io.coffeedia.application.usecase;
+
+import io.coffeedia.application.usecase.dto.BeanSearchQuery;
+import io.coffeedia.application.usecase.dto.BeanSearchResponse;
+
+public interface SearchBeansUseCase {
+
+    BeanSearchResponse invoke(BeanSearchQuery query);
+}
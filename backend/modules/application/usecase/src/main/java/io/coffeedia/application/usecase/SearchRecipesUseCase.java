@@ -0,0 +1,10 @@
+package io.coffeedia.application.usecase;
+
+import io.coffeedia.application.usecase.dto.CursorPage;
+import io.coffeedia.application.usecase.dto.RecipeKeywordQuery;
+import io.coffeedia.application.usecase.dto.RecipeSummaryResponse;
+
+public interface SearchRecipesUseCase {
+
+    CursorPage<RecipeSummaryResponse> invoke(RecipeKeywordQuery query);
+}
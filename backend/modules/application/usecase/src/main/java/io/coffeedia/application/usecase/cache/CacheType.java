@@ -0,0 +1,50 @@
+package io.coffeedia.application.usecase.cache;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 유스케이스에서 사용하는 캐시 키 접두사와 만료 시간 (negativeTtl: 존재하지 않는 대상을 기록하는 툼스톤의 만료 시간)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CacheType {
+    BEAN_DETAIL("beans:detail:", Duration.ofMinutes(30), Duration.ofMinutes(1)),
+    BEAN_LIST("beans:list:", Duration.ofMinutes(10), Duration.ZERO),
+    // 원두 검색 항목별 개수. 원두가 바뀌면 함께 무효화되도록 BEAN_LIST 의 세대를 사용합니다.
+    BEAN_FACETS("beans:facets:", Duration.ofMinutes(10), Duration.ZERO),
+    // 장비는 수정/삭제 이벤트가 없어 값은 캐시하지 않고 존재하지 않는 ID 만 기록합니다.
+    EQUIPMENT_DETAIL("equipments:detail:", Duration.ZERO, Duration.ofMinutes(1)),
+    RECIPE_DETAIL("recipes:detail:", Duration.ofMinutes(30), Duration.ofMinutes(1)),
+    RECIPE_LIST("recipes:list:", Duration.ofMinutes(10), Duration.ZERO),
+    ;
+
+    private static final String GENERATION_SUFFIX = "gen";
+    private static final String DELIMITER = ":";
+
+    private final String prefix;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+
+    public String key(final Object id) {
+        return prefix + id;
+    }
+
+    /**
+     * 세대 번호를 포함한 키 (예: recipes:list:v3:0:10:CREATED_AT_DESC)
+     * <p>
+     * 세대가 바뀌면 이전 세대의 키는 더 이상 조회되지 않고 TTL 로 만료됩니다.
+     */
+    public String key(final long generation, final Object... parts) {
+        return prefix + "v" + generation + DELIMITER + Arrays.stream(parts)
+            .map(String::valueOf)
+            .collect(Collectors.joining(DELIMITER));
+    }
+
+    public String generationKey() {
+        return prefix + GENERATION_SUFFIX;
+    }
+}
@@ -1,5 +1,6 @@
 package io.coffeedia.application.usecase.dto;
 
+import io.coffeedia.domain.vo.BeanFilter;
 import io.coffeedia.domain.vo.PageSize;
 import io.coffeedia.domain.vo.SortType;
 import java.util.Arrays;
@@ -11,18 +12,29 @@ import lombok.Builder;
 @Builder(access = AccessLevel.PRIVATE)
 public record BeanSearchQuery(
     PageSize pageSize,
-    List<SortType> sort
+    List<SortType> sort,
+    BeanFilter filter
 ) {
 
     public static BeanSearchQuery of(
         int page,
         int size,
         String sort
+    ) {
+        return of(page, size, sort, BeanFilter.none());
+    }
+
+    public static BeanSearchQuery of(
+        int page,
+        int size,
+        String sort,
+        BeanFilter filter
     ) {
         List<SortType> validSort = parseSort(sort);
         return BeanSearchQuery.builder()
             .pageSize(new PageSize(page, size))
             .sort(validSort)
+            .filter(filter != null ? filter : BeanFilter.none())
             .build();
     }
 
@@ -0,0 +1,19 @@
+package io.coffeedia.application.usecase.dto;
+
+import io.coffeedia.domain.model.BeanFacets;
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * 원두 검색 결과
+ *
+ * @param beans  요청한 페이지의 원두 (다음 페이지 확인용으로 한 건을 더 포함할 수 있습니다)
+ * @param facets 페이지와 관계없이 검색 조건에 일치하는 전체 원두의 항목별 개수
+ */
+@Builder
+public record BeanSearchResponse(
+    List<BeanResponse> beans,
+    BeanFacets facets
+) {
+
+}
@@ -0,0 +1,40 @@
+package io.coffeedia.application.usecase.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 목록 조회 결과
+ *
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ */
+public record CursorPage<T>(
+    List<T> content,
+    String nextCursor
+) {
+
+    /**
+     * 요청 크기보다 한 건 더 조회한 결과에서 초과분을 잘라내고, 마지막 행 위치로 다음 커서를 만듭니다.
+     *
+     * @param rows     size + 1 건까지 조회한 결과
+     * @param cursorOf 행의 위치를 인코딩한 커서
+     * @param mapper   응답 변환
+     */
+    public static <R, T> CursorPage<T> of(
+        final List<R> rows,
+        final int size,
+        final Function<R, String> cursorOf,
+        final Function<R, T> mapper
+    ) {
+        boolean hasNext = rows.size() > size;
+        List<R> actualRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext
+            ? cursorOf.apply(actualRows.get(actualRows.size() - 1))
+            : null;
+        return new CursorPage<>(actualRows.stream().map(mapper).toList(), nextCursor);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
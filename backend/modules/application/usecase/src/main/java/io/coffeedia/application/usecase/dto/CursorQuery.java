@@ -0,0 +1,60 @@
+package io.coffeedia.application.usecase.dto;
+
+import io.coffeedia.domain.vo.PageCursor;
+import io.coffeedia.domain.vo.SortType;
+import lombok.AccessLevel;
+import lombok.Builder;
+
+/**
+ * 커서 기반 목록 조회 조건
+ * <p>
+ * 커서는 한 가지 정렬 기준의 위치만 담으므로 정렬은 "field:direction" 하나만 받습니다. 정렬을 생략하면 커서에 담긴 정렬을 따릅니다.
+ */
+@Builder(access = AccessLevel.PRIVATE)
+public record CursorQuery(
+    PageCursor cursor,
+    int size,
+    SortType sort
+) {
+
+    private static final int MIN_SIZE = 1;
+
+    public static CursorQuery of(
+        String cursor,
+        int size,
+        String sort
+    ) {
+        PageCursor pageCursor = (cursor == null || cursor.isBlank())
+            ? null
+            : PageCursor.decode(cursor);
+        SortType sortType = resolveSort(pageCursor, sort);
+        return CursorQuery.builder()
+            .cursor(pageCursor)
+            .size(Math.max(size, MIN_SIZE))
+            .sort(sortType)
+            .build();
+    }
+
+    private static SortType resolveSort(final PageCursor cursor, final String sort) {
+        if (sort == null || sort.isBlank()) {
+            return cursor != null ? cursor.sort() : SortType.CREATED_AT_DESC; // 기본값
+        }
+        SortType sortType = parseSort(sort);
+        if (cursor != null && cursor.sort() != sortType) {
+            throw new IllegalArgumentException(
+                String.format("커서와 정렬 조건이 일치하지 않습니다. ('%s')", sort)
+            );
+        }
+        return sortType;
+    }
+
+    private static SortType parseSort(final String sort) {
+        String[] parts = sort.split(":");
+        if (parts.length != 2 || parts[0].isBlank() || parts[1].isBlank()) {
+            throw new IllegalArgumentException(
+                String.format("잘못된 정렬 형식입니다. ('%s')", sort)
+            );
+        }
+        return SortType.sortType(parts[0].trim(), parts[1].trim());
+    }
+}
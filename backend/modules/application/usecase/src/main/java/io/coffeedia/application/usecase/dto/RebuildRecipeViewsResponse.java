@@ -0,0 +1,12 @@
+package io.coffeedia.application.usecase.dto;
+
+import lombok.Builder;
+
+@Builder
+public record RebuildRecipeViewsResponse(
+    long refreshed,     // 다시 만든 읽기 모델 수
+    int chunks,         // 나눠 처리한 구간 수
+    long elapsedMillis  // 소요 시간
+) {
+
+}
@@ -0,0 +1,44 @@
+package io.coffeedia.application.usecase.dto;
+
+import io.coffeedia.domain.vo.CategoryType;
+import io.coffeedia.domain.vo.FilterCursor;
+import io.coffeedia.domain.vo.RecipeTagFilter;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+
+/**
+ * 레시피 태그, 카테고리 필터 조회 조건
+ * <p>
+ * 결과는 최신(ID 내림차순)순이며, 커서는 이전 페이지 마지막 레시피의 ID 를 인코딩한 FilterCursor 입니다.
+ */
+@Builder(access = AccessLevel.PRIVATE)
+public record RecipeFilterQuery(
+    RecipeTagFilter filter,
+    Long cursor,
+    int size
+) {
+
+    private static final int MIN_SIZE = 1;
+
+    public static RecipeFilterQuery of(
+        List<String> allTags,
+        List<String> anyTags,
+        List<String> excludeTags,
+        List<CategoryType> categories,
+        String cursor,
+        int size
+    ) {
+        RecipeTagFilter filter = RecipeTagFilter.builder()
+            .allTags(allTags)
+            .anyTags(anyTags)
+            .excludeTags(excludeTags)
+            .categories(categories)
+            .build();
+        return RecipeFilterQuery.builder()
+            .filter(filter)
+            .cursor((cursor == null || cursor.isBlank()) ? null : FilterCursor.decode(cursor).id())
+            .size(Math.max(size, MIN_SIZE))
+            .build();
+    }
+}
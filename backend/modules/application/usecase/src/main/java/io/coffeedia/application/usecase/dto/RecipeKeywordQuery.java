@@ -0,0 +1,39 @@
+package io.coffeedia.application.usecase.dto;
+
+import io.coffeedia.domain.vo.SearchCursor;
+import lombok.AccessLevel;
+import lombok.Builder;
+
+/**
+ * 레시피 검색 조건
+ */
+@Builder(access = AccessLevel.PRIVATE)
+public record RecipeKeywordQuery(
+    String keyword,
+    SearchCursor cursor,
+    int size
+) {
+
+    private static final int MAX_KEYWORD_LENGTH = 100;
+    private static final int MIN_SIZE = 1;
+
+    public static RecipeKeywordQuery of(
+        String keyword,
+        String cursor,
+        int size
+    ) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("검색어는 필수입니다.");
+        }
+        if (keyword.length() > MAX_KEYWORD_LENGTH) {
+            throw new IllegalArgumentException(
+                String.format("검색어는 %d자 이하여야 합니다.", MAX_KEYWORD_LENGTH)
+            );
+        }
+        return RecipeKeywordQuery.builder()
+            .keyword(keyword.trim())
+            .cursor((cursor == null || cursor.isBlank()) ? null : SearchCursor.decode(cursor))
+            .size(Math.max(size, MIN_SIZE))
+            .build();
+    }
+}
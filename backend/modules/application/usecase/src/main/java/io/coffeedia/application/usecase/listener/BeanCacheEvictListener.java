@@ -0,0 +1,42 @@
+package io.coffeedia.application.usecase.listener;
+
+import io.coffeedia.application.port.cache.CachePort;
+import io.coffeedia.application.usecase.cache.CacheType;
+import io.coffeedia.domain.event.BeanEvent.BeanCreated;
+import io.coffeedia.domain.event.BeanEvent.BeanDeleted;
+import io.coffeedia.domain.event.BeanEvent.BeanUpdated;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 원두 변경 이벤트 발생 시 원두 상세 캐시 무효화 및 목록 캐시 세대 갱신
+ * <p>
+ * 트랜잭션이 커밋된 이후에만 실행되므로, 롤백된 변경으로 캐시가 비워지지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+class BeanCacheEvictListener {
+
+    private final CachePort cachePort;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(final BeanCreated event) {
+        // 생성 전에 조회되어 기록된 툼스톤을 제거합니다.
+        cachePort.delete(CacheType.BEAN_DETAIL.key(event.beanId()));
+        cachePort.bumpGeneration(CacheType.BEAN_LIST.generationKey());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(final BeanUpdated event) {
+        cachePort.delete(CacheType.BEAN_DETAIL.key(event.beanId()));
+        cachePort.bumpGeneration(CacheType.BEAN_LIST.generationKey());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(final BeanDeleted event) {
+        cachePort.delete(CacheType.BEAN_DETAIL.key(event.beanId()));
+        cachePort.bumpGeneration(CacheType.BEAN_LIST.generationKey());
+    }
+}
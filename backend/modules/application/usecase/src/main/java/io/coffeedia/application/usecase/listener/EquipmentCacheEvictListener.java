@@ -0,0 +1,24 @@
+package io.coffeedia.application.usecase.listener;
+
+import io.coffeedia.application.port.cache.CachePort;
+import io.coffeedia.application.usecase.cache.CacheType;
+import io.coffeedia.domain.event.EquipmentEvent.EquipmentCreated;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 장비 생성 이벤트 발생 시 생성 전에 기록된 장비 툼스톤 제거
+ */
+@Component
+@RequiredArgsConstructor
+class EquipmentCacheEvictListener {
+
+    private final CachePort cachePort;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(final EquipmentCreated event) {
+        cachePort.delete(CacheType.EQUIPMENT_DETAIL.key(event.equipmentId()));
+    }
+}
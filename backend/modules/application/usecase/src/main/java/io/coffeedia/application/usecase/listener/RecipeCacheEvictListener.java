@@ -0,0 +1,40 @@
+package io.coffeedia.application.usecase.listener;
+
+import io.coffeedia.application.port.cache.CachePort;
+import io.coffeedia.application.usecase.cache.CacheType;
+import io.coffeedia.domain.event.RecipeEvent.RecipeCreated;
+import io.coffeedia.domain.event.RecipeEvent.RecipeDeleted;
+import io.coffeedia.domain.event.RecipeEvent.RecipeUpdated;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 레시피 변경 이벤트 발생 시 레시피 상세 캐시 무효화 및 목록 캐시 세대 갱신
+ */
+@Component
+@RequiredArgsConstructor
+class RecipeCacheEvictListener {
+
+    private final CachePort cachePort;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(final RecipeCreated event) {
+        // 생성 전에 조회되어 기록된 툼스톤을 제거합니다.
+        cachePort.delete(CacheType.RECIPE_DETAIL.key(event.recipeId()));
+        cachePort.bumpGeneration(CacheType.RECIPE_LIST.generationKey());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(final RecipeUpdated event) {
+        cachePort.delete(CacheType.RECIPE_DETAIL.key(event.recipeId()));
+        cachePort.bumpGeneration(CacheType.RECIPE_LIST.generationKey());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(final RecipeDeleted event) {
+        cachePort.delete(CacheType.RECIPE_DETAIL.key(event.recipeId()));
+        cachePort.bumpGeneration(CacheType.RECIPE_LIST.generationKey());
+    }
+}
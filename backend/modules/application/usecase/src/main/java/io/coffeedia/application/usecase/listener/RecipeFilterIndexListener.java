@@ -0,0 +1,37 @@
+package io.coffeedia.application.usecase.listener;
+
+import io.coffeedia.application.port.repository.RecipeFilterIndexPort;
+import io.coffeedia.domain.event.RecipeEvent.RecipeCreated;
+import io.coffeedia.domain.event.RecipeEvent.RecipeDeleted;
+import io.coffeedia.domain.event.RecipeEvent.RecipeUpdated;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 레시피 변경 이벤트 발생 시 태그, 카테고리 역색인 갱신
+ * <p>
+ * 색인은 커밋된 값을 다시 읽어 맞추므로 커밋 이후에 실행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+class RecipeFilterIndexListener {
+
+    private final RecipeFilterIndexPort indexPort;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(final RecipeCreated event) {
+        indexPort.refresh(event.recipeId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(final RecipeUpdated event) {
+        indexPort.refresh(event.recipeId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(final RecipeDeleted event) {
+        indexPort.refresh(event.recipeId());
+    }
+}
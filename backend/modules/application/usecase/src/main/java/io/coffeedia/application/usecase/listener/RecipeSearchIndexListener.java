@@ -0,0 +1,37 @@
+package io.coffeedia.application.usecase.listener;
+
+import io.coffeedia.application.port.repository.RecipeSearchPort;
+import io.coffeedia.domain.event.RecipeEvent.RecipeCreated;
+import io.coffeedia.domain.event.RecipeEvent.RecipeDeleted;
+import io.coffeedia.domain.event.RecipeEvent.RecipeUpdated;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 레시피 변경 이벤트 발생 시 검색 문서 갱신
+ * <p>
+ * 읽기 모델과 같이 커밋 직전에 실행되므로, 커밋된 레시피는 바로 검색됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+class RecipeSearchIndexListener {
+
+    private final RecipeSearchPort searchPort;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(final RecipeCreated event) {
+        searchPort.refresh(event.recipeId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(final RecipeUpdated event) {
+        searchPort.refresh(event.recipeId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(final RecipeDeleted event) {
+        searchPort.delete(event.recipeId());
+    }
+}
@@ -0,0 +1,37 @@
+package io.coffeedia.application.usecase.listener;
+
+import io.coffeedia.application.port.repository.RecipeViewRepositoryPort;
+import io.coffeedia.domain.event.RecipeEvent.RecipeCreated;
+import io.coffeedia.domain.event.RecipeEvent.RecipeDeleted;
+import io.coffeedia.domain.event.RecipeEvent.RecipeUpdated;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 레시피 변경 이벤트 발생 시 레시피 상세 읽기 모델 갱신
+ * <p>
+ * 커밋 직전에 같은 트랜잭션 안에서 실행되므로, 정규화 테이블과 읽기 모델이 함께 커밋되거나 함께 롤백됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+class RecipeViewProjectionListener {
+
+    private final RecipeViewRepositoryPort viewRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(final RecipeCreated event) {
+        viewRepository.refresh(event.recipeId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(final RecipeUpdated event) {
+        viewRepository.refresh(event.recipeId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(final RecipeDeleted event) {
+        viewRepository.delete(event.recipeId());
+    }
+}
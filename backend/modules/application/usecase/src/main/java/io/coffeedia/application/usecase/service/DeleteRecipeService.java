@@ -4,10 +4,13 @@ import io.coffeedia.application.port.repository.RecipeRepositoryPort;
 import io.coffeedia.application.usecase.DeleteRecipeUseCase;
 import io.coffeedia.application.usecase.dto.DeleteRecipeCommand;
 import io.coffeedia.application.usecase.dto.DeleteRecipeResponse;
+import io.coffeedia.domain.event.RecipeEvent.RecipeDeleted;
 import io.coffeedia.domain.exception.AccessDeniedException;
 import io.coffeedia.domain.exception.RecipeNotFoundException;
 import io.coffeedia.domain.model.Recipe;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 class DeleteRecipeService implements DeleteRecipeUseCase {
 
     private final RecipeRepositoryPort repository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -31,7 +35,14 @@ class DeleteRecipeService implements DeleteRecipeUseCase {
         validateOwnership(recipe, command.userId());
         
         repository.deleteById(command.recipeId());
-        
+
+        eventPublisher.publishEvent(
+            RecipeDeleted.builder()
+                .recipeId(command.recipeId())
+                .issuedAt(LocalDateTime.now())
+                .build()
+        );
+
         return DeleteRecipeResponse.of(command.recipeId());
     }
 
@@ -0,0 +1,42 @@
+package io.coffeedia.application.usecase.service;
+
+import io.coffeedia.application.port.repository.RecipeFilterIndexPort;
+import io.coffeedia.application.port.repository.RecipeRepositoryPort;
+import io.coffeedia.application.usecase.FilterRecipesUseCase;
+import io.coffeedia.application.usecase.dto.CursorPage;
+import io.coffeedia.application.usecase.dto.RecipeFilterQuery;
+import io.coffeedia.application.usecase.dto.RecipeSummaryResponse;
+import io.coffeedia.application.usecase.mapper.RecipeMapper;
+import io.coffeedia.domain.vo.FilterCursor;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 필터 조건은 메모리 역색인에서 계산하고, 최종 페이지의 레시피만 DB 에서 조회합니다.
+ */
+@Service
+@RequiredArgsConstructor
+class FilterRecipesService implements FilterRecipesUseCase {
+
+    private final RecipeFilterIndexPort indexPort;
+    private final RecipeRepositoryPort repository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<RecipeSummaryResponse> invoke(final RecipeFilterQuery query) {
+        List<Long> ids = indexPort.findIds(query.filter(), query.cursor(), query.size());
+        boolean hasNext = ids.size() > query.size();
+        List<Long> pageIds = hasNext ? ids.subList(0, query.size()) : ids;
+
+        // 다음 커서는 색인 결과로 정하므로, 조회 사이에 비활성화된 레시피가 빠져도 다음 페이지가 끊기지 않습니다.
+        List<RecipeSummaryResponse> content = repository.findAllSummariesByIds(pageIds).stream()
+            .map(RecipeMapper::toResponse)
+            .toList();
+        String nextCursor = hasNext
+            ? new FilterCursor(pageIds.get(pageIds.size() - 1)).encode()
+            : null;
+        return new CursorPage<>(content, nextCursor);
+    }
+}
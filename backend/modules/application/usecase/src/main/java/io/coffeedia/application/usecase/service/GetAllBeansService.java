@@ -1,12 +1,16 @@
 package io.coffeedia.application.usecase.service;
 
+import io.coffeedia.application.port.cache.CachePort;
 import io.coffeedia.application.port.repository.BeanRepositoryPort;
 import io.coffeedia.application.usecase.GetAllBeansUseCase;
+import io.coffeedia.application.usecase.cache.CacheType;
 import io.coffeedia.application.usecase.dto.BeanResponse;
 import io.coffeedia.application.usecase.dto.BeanSearchQuery;
 import io.coffeedia.application.usecase.mapper.BeanMapper;
 import io.coffeedia.domain.model.Bean;
+import io.coffeedia.domain.vo.SortType;
 import java.util.List;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,13 +20,33 @@ import org.springframework.transaction.annotation.Transactional;
 class GetAllBeansService implements GetAllBeansUseCase {
 
     private final BeanRepositoryPort repository;
+    private final CachePort cachePort;
 
     @Override
     @Transactional(readOnly = true)
     public List<BeanResponse> invoke(final BeanSearchQuery query) {
+        long generation = cachePort.generation(CacheType.BEAN_LIST.generationKey());
+        String key = CacheType.BEAN_LIST.key(
+            generation, query.pageSize().page(), query.pageSize().size(), sortKey(query.sort())
+        );
+        return cachePort.getOrLoadList(
+            key,
+            BeanResponse.class,
+            CacheType.BEAN_LIST.getTtl(),
+            () -> findAll(query)
+        );
+    }
+
+    private List<BeanResponse> findAll(final BeanSearchQuery query) {
         List<Bean> beans = repository.findAll(query.pageSize(), query.sort());
         return beans.stream()
             .map(BeanMapper::toResponse)
             .toList();
     }
+
+    private static String sortKey(final List<SortType> sort) {
+        return sort.stream()
+            .map(SortType::name)
+            .collect(Collectors.joining(","));
+    }
 }
@@ -1,11 +1,15 @@
 package io.coffeedia.application.usecase.service;
 
+import io.coffeedia.application.port.cache.CachePort;
 import io.coffeedia.application.port.repository.RecipeRepositoryPort;
 import io.coffeedia.application.usecase.GetAllRecipeSummariesUseCase;
+import io.coffeedia.application.usecase.cache.CacheType;
 import io.coffeedia.application.usecase.dto.RecipeSearchQuery;
 import io.coffeedia.application.usecase.dto.RecipeSummaryResponse;
 import io.coffeedia.application.usecase.mapper.RecipeMapper;
+import io.coffeedia.domain.vo.SortType;
 import java.util.List;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,12 +19,33 @@ import org.springframework.transaction.annotation.Transactional;
 class GetAllRecipeSummariesService implements GetAllRecipeSummariesUseCase {
 
     private final RecipeRepositoryPort repository;
+    private final CachePort cachePort;
 
     @Override
     @Transactional(readOnly = true)
     public List<RecipeSummaryResponse> invoke(final RecipeSearchQuery query) {
+        // 레시피가 변경되면 세대가 올라가므로 이전 세대의 목록 캐시는 조회되지 않습니다.
+        long generation = cachePort.generation(CacheType.RECIPE_LIST.generationKey());
+        String key = CacheType.RECIPE_LIST.key(
+            generation, query.pageSize().page(), query.pageSize().size(), sortKey(query.sort())
+        );
+        return cachePort.getOrLoadList(
+            key,
+            RecipeSummaryResponse.class,
+            CacheType.RECIPE_LIST.getTtl(),
+            () -> findAll(query)
+        );
+    }
+
+    private List<RecipeSummaryResponse> findAll(final RecipeSearchQuery query) {
         return repository.findAll(query.pageSize(), query.sort()).stream()
             .map(RecipeMapper::toResponse)
             .toList();
     }
+
+    private static String sortKey(final List<SortType> sort) {
+        return sort.stream()
+            .map(SortType::name)
+            .collect(Collectors.joining(","));
+    }
 }
@@ -1,10 +1,11 @@
 package io.coffeedia.application.usecase.service;
 
+import io.coffeedia.application.port.cache.CachePort;
 import io.coffeedia.application.port.repository.BeanRepositoryPort;
 import io.coffeedia.application.usecase.GetBeanUseCase;
+import io.coffeedia.application.usecase.cache.CacheType;
 import io.coffeedia.application.usecase.dto.BeanResponse;
 import io.coffeedia.application.usecase.mapper.BeanMapper;
-import io.coffeedia.domain.model.Bean;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,12 +15,20 @@ import org.springframework.transaction.annotation.Transactional;
 class GetBeanService implements GetBeanUseCase {
 
     private final BeanRepositoryPort repository;
+    private final CachePort cachePort;
 
     @Override
     @Transactional(readOnly = true)
     public BeanResponse invoke(final Long beanId) {
-        Bean bean = repository.findById(beanId)
-            .orElseThrow(() -> new IllegalArgumentException("원두를 찾을 수 없습니다. (" + beanId + ")"));
-        return BeanMapper.toResponse(bean);
+        return cachePort.getOrLoadOptional(
+                CacheType.BEAN_DETAIL.key(beanId),
+                BeanResponse.class,
+                CacheType.BEAN_DETAIL.getTtl(),
+                CacheType.BEAN_DETAIL.getNegativeTtl(),
+                () -> repository.findById(beanId).map(BeanMapper::toResponse)
+            )
+            .orElseThrow(() -> new IllegalArgumentException(
+                "원두를 찾을 수 없습니다. (" + beanId + ")"
+            ));
     }
 }
@@ -0,0 +1,33 @@
+package io.coffeedia.application.usecase.service;
+
+import io.coffeedia.application.port.repository.BeanRepositoryPort;
+import io.coffeedia.application.usecase.GetBeansByCursorUseCase;
+import io.coffeedia.application.usecase.dto.BeanResponse;
+import io.coffeedia.application.usecase.dto.CursorPage;
+import io.coffeedia.application.usecase.dto.CursorQuery;
+import io.coffeedia.application.usecase.mapper.BeanMapper;
+import io.coffeedia.domain.model.Bean;
+import io.coffeedia.domain.vo.PageCursor;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+class GetBeansByCursorService implements GetBeansByCursorUseCase {
+
+    private final BeanRepositoryPort repository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<BeanResponse> invoke(final CursorQuery query) {
+        List<Bean> beans = repository.findAllAfter(query.cursor(), query.size(), query.sort());
+        return CursorPage.of(
+            beans,
+            query.size(),
+            bean -> new PageCursor(query.sort(), bean.createdAt(), bean.id()).encode(),
+            BeanMapper::toResponse
+        );
+    }
+}
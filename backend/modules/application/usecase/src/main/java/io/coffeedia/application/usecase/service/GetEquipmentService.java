@@ -1,11 +1,12 @@
 package io.coffeedia.application.usecase.service;
 
+import io.coffeedia.application.port.cache.CachePort;
 import io.coffeedia.application.port.repository.EquipmentRepositoryPort;
 import io.coffeedia.application.usecase.GetEquipmentUseCase;
+import io.coffeedia.application.usecase.cache.CacheType;
 import io.coffeedia.application.usecase.dto.EquipmentResponse;
 import io.coffeedia.application.usecase.mapper.EquipmentMapper;
 import io.coffeedia.domain.exception.EquipmentNotFoundException;
-import io.coffeedia.domain.model.Equipment;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,12 +18,17 @@ public class GetEquipmentService implements GetEquipmentUseCase {
 
     private final EquipmentRepositoryPort equipmentRepository;
     private final EquipmentMapper equipmentMapper;
+    private final CachePort cachePort;
 
     @Override
     public EquipmentResponse invoke(Long equipmentId) {
-        Equipment equipment = equipmentRepository.findById(equipmentId)
+        return cachePort.getOrLoadOptional(
+                CacheType.EQUIPMENT_DETAIL.key(equipmentId),
+                EquipmentResponse.class,
+                CacheType.EQUIPMENT_DETAIL.getTtl(),
+                CacheType.EQUIPMENT_DETAIL.getNegativeTtl(),
+                () -> equipmentRepository.findById(equipmentId).map(equipmentMapper::toResponse)
+            )
             .orElseThrow(() -> new EquipmentNotFoundException(equipmentId));
-            
-        return equipmentMapper.toResponse(equipment);
     }
 }
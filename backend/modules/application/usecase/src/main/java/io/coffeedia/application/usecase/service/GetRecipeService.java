@@ -1,33 +1,47 @@
 package io.coffeedia.application.usecase.service;
 
+import io.coffeedia.application.port.cache.CachePort;
 import io.coffeedia.application.port.repository.RecipeRepositoryPort;
+import io.coffeedia.application.port.repository.RecipeViewRepositoryPort;
 import io.coffeedia.application.usecase.GetRecipeUseCase;
+import io.coffeedia.application.usecase.cache.CacheType;
 import io.coffeedia.application.usecase.dto.RecipeResponse;
 import io.coffeedia.application.usecase.mapper.RecipeMapper;
 import io.coffeedia.domain.exception.RecipeNotFoundException;
-import io.coffeedia.domain.model.Recipe;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 레시피 상세 조회 서비스 구현체
+ * <p>
+ * 읽기 모델(recipe_views)을 기본 키로 한 번 조회합니다. 읽기 모델이 아직 없는 레시피(재생성 전 데이터 등)만 정규화 테이블에서 읽습니다.
  */
 @Service
 @RequiredArgsConstructor
 class GetRecipeService implements GetRecipeUseCase {
 
+    private final RecipeViewRepositoryPort viewRepository;
     private final RecipeRepositoryPort repository;
+    private final CachePort cachePort;
 
     @Override
     @Transactional(readOnly = true)
     public RecipeResponse invoke(final Long recipeId) {
         validateRecipeId(recipeId);
-        
-        Recipe recipe = repository.findById(recipeId)
-            .orElseThrow(() -> new RecipeNotFoundException("레시피를 찾을 수 없습니다. ID: " + recipeId));
-        
-        return RecipeMapper.toResponse(recipe);
+
+        return cachePort.getOrLoadOptional(
+                CacheType.RECIPE_DETAIL.key(recipeId),
+                RecipeResponse.class,
+                CacheType.RECIPE_DETAIL.getTtl(),
+                CacheType.RECIPE_DETAIL.getNegativeTtl(),
+                () -> viewRepository.findById(recipeId)
+                    .or(() -> repository.findById(recipeId))
+                    .map(RecipeMapper::toResponse)
+            )
+            .orElseThrow(() -> new RecipeNotFoundException(
+                "레시피를 찾을 수 없습니다. ID: " + recipeId
+            ));
     }
 
     private void validateRecipeId(Long recipeId) {
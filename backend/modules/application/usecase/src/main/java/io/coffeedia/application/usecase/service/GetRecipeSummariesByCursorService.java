@@ -0,0 +1,38 @@
+package io.coffeedia.application.usecase.service;
+
+import io.coffeedia.application.port.repository.RecipeRepositoryPort;
+import io.coffeedia.application.usecase.GetRecipeSummariesByCursorUseCase;
+import io.coffeedia.application.usecase.dto.CursorPage;
+import io.coffeedia.application.usecase.dto.CursorQuery;
+import io.coffeedia.application.usecase.dto.RecipeSummaryResponse;
+import io.coffeedia.application.usecase.mapper.RecipeMapper;
+import io.coffeedia.domain.model.RecipeSummary;
+import io.coffeedia.domain.vo.PageCursor;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 커서 조회는 위치마다 키가 달라 재사용이 거의 없으므로 목록 캐시를 거치지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+class GetRecipeSummariesByCursorService implements GetRecipeSummariesByCursorUseCase {
+
+    private final RecipeRepositoryPort repository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<RecipeSummaryResponse> invoke(final CursorQuery query) {
+        List<RecipeSummary> summaries = repository.findAllAfter(
+            query.cursor(), query.size(), query.sort()
+        );
+        return CursorPage.of(
+            summaries,
+            query.size(),
+            summary -> new PageCursor(query.sort(), summary.createdAt(), summary.id()).encode(),
+            RecipeMapper::toResponse
+        );
+    }
+}
@@ -0,0 +1,94 @@
+package io.coffeedia.application.usecase.service;
+
+import io.coffeedia.application.port.repository.RecipeViewRepositoryPort;
+import io.coffeedia.application.usecase.RebuildRecipeViewsUseCase;
+import io.coffeedia.application.usecase.dto.RebuildRecipeViewsResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 레시피 상세 읽기 모델 재생성 서비스 구현체
+ * <p>
+ * 레시피 ID 를 일정 크기의 구간으로 나누고 여러 작업자가 다음 구간을 차례로 가져가며 다시 만듭니다. 구간마다 한 문장으로 처리하므로
+ * 실패한 구간만 다시 실행해도 되며, 재생성 중에 들어온 변경은 이벤트로도 반영됩니다.
+ * <p>
+ * 전체를 다시 만드는 데 오래 걸리므로 요청 스레드를 붙잡지 않도록 애플리케이션 공용 실행기(spring.task.execution)에서 실행하고, 이미
+ * 실행 중이면 새로 시작하지 않고 진행 중인 재생성을 돌려줍니다. 공용 실행기를 독점하지 않도록 작업자는 PARALLELISM 개만 띄웁니다.
+ */
+@Slf4j
+@Service
+class RebuildRecipeViewsService implements RebuildRecipeViewsUseCase {
+
+    private static final long CHUNK_SIZE = 1_000;
+    private static final int PARALLELISM = 4;
+
+    private final RecipeViewRepositoryPort viewRepository;
+    private final TaskExecutor taskExecutor;
+
+    private CompletableFuture<RebuildRecipeViewsResponse> running;
+
+    RebuildRecipeViewsService(
+        final RecipeViewRepositoryPort viewRepository,
+        @Qualifier("applicationTaskExecutor") final TaskExecutor taskExecutor
+    ) {
+        this.viewRepository = viewRepository;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @Override
+    public synchronized CompletableFuture<RebuildRecipeViewsResponse> invoke() {
+        if (running != null && !running.isDone()) {
+            return running;
+        }
+        running = CompletableFuture.supplyAsync(this::rebuild, taskExecutor)
+            .whenComplete((response, error) -> {
+                if (error != null) {
+                    log.error("Recipe views rebuild failed", error);
+                }
+            });
+        return running;
+    }
+
+    private RebuildRecipeViewsResponse rebuild() {
+        long startedAt = System.currentTimeMillis();
+        long maxId = viewRepository.findMaxRecipeId();
+        int chunks = (int) ((maxId + CHUNK_SIZE - 1) / CHUNK_SIZE);
+
+        AtomicLong nextChunk = new AtomicLong();
+        List<CompletableFuture<Long>> workers = IntStream.range(0, Math.min(PARALLELISM, chunks))
+            .mapToObj(i -> CompletableFuture.supplyAsync(
+                () -> refreshChunks(nextChunk, chunks, maxId), taskExecutor))
+            .toList();
+        long refreshed = workers.stream()
+            .mapToLong(CompletableFuture::join)
+            .sum();
+
+        long elapsed = System.currentTimeMillis() - startedAt;
+        log.info("Recipe views rebuilt - refreshed: {}, chunks: {}, elapsed: {}ms",
+            refreshed, chunks, elapsed);
+        return RebuildRecipeViewsResponse.builder()
+            .refreshed(refreshed)
+            .chunks(chunks)
+            .elapsedMillis(elapsed)
+            .build();
+    }
+
+    /**
+     * 남은 구간이 없을 때까지 다음 구간을 가져가 다시 만들고, 다시 만든 수를 반환합니다.
+     */
+    private long refreshChunks(final AtomicLong nextChunk, final int chunks, final long maxId) {
+        long refreshed = 0;
+        for (long chunk = nextChunk.getAndIncrement(); chunk < chunks;
+            chunk = nextChunk.getAndIncrement()) {
+            long from = chunk * CHUNK_SIZE;
+            refreshed += viewRepository.refreshRange(from, Math.min(from + CHUNK_SIZE, maxId));
+        }
+        return refreshed;
+    }
+}
@@ -0,0 +1,88 @@
+package io.coffeedia.application.usecase.service;
+
+import io.coffeedia.application.port.cache.CachePort;
+import io.coffeedia.application.port.repository.BeanRepositoryPort;
+import io.coffeedia.application.usecase.SearchBeansUseCase;
+import io.coffeedia.application.usecase.cache.CacheType;
+import io.coffeedia.application.usecase.dto.BeanResponse;
+import io.coffeedia.application.usecase.dto.BeanSearchQuery;
+import io.coffeedia.application.usecase.dto.BeanSearchResponse;
+import io.coffeedia.application.usecase.mapper.BeanMapper;
+import io.coffeedia.domain.model.BeanFacets;
+import io.coffeedia.domain.vo.BeanFilter;
+import io.coffeedia.domain.vo.SortType;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 원두 검색 서비스 구현체
+ * <p>
+ * 목록과 항목별 개수를 따로 캐시합니다. 항목별 개수는 페이지와 관계없으므로 같은 조건으로 페이지를 넘기는 동안에는 다시 세지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+class SearchBeansService implements SearchBeansUseCase {
+
+    private final BeanRepositoryPort repository;
+    private final CachePort cachePort;
+
+    @Override
+    @Transactional(readOnly = true)
+    public BeanSearchResponse invoke(final BeanSearchQuery query) {
+        long generation = cachePort.generation(CacheType.BEAN_LIST.generationKey());
+        String filterKey = filterKey(query.filter());
+
+        List<BeanResponse> beans = cachePort.getOrLoadList(
+            CacheType.BEAN_LIST.key(generation, query.pageSize().page(),
+                query.pageSize().size(), sortKey(query.sort()), filterKey),
+            BeanResponse.class,
+            CacheType.BEAN_LIST.getTtl(),
+            () -> search(query)
+        );
+        BeanFacets facets = cachePort.getOrLoad(
+            CacheType.BEAN_FACETS.key(generation, filterKey),
+            BeanFacets.class,
+            CacheType.BEAN_FACETS.getTtl(),
+            () -> repository.countFacets(query.filter())
+        );
+        return BeanSearchResponse.builder()
+            .beans(beans)
+            .facets(facets)
+            .build();
+    }
+
+    private List<BeanResponse> search(final BeanSearchQuery query) {
+        return repository.search(query.filter(), query.pageSize(), query.sort()).stream()
+            .map(BeanMapper::toResponse)
+            .toList();
+    }
+
+    private static String sortKey(final List<SortType> sort) {
+        return sort.stream()
+            .map(SortType::name)
+            .collect(Collectors.joining(","));
+    }
+
+    /**
+     * 필터 값은 정렬되어 있으므로 같은 조건은 항상 같은 키가 됩니다.
+     */
+    private static String filterKey(final BeanFilter filter) {
+        return String.join("|",
+            join(filter.roastLevels()),
+            join(filter.processTypes()),
+            join(filter.blendTypes()),
+            String.valueOf(filter.isDecaf()),
+            join(filter.countries()),
+            join(filter.flavorIds())
+        );
+    }
+
+    private static String join(final List<?> values) {
+        return values.stream()
+            .map(String::valueOf)
+            .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,35 @@
+package io.coffeedia.application.usecase.service;
+
+import io.coffeedia.application.port.repository.RecipeSearchPort;
+import io.coffeedia.application.usecase.SearchRecipesUseCase;
+import io.coffeedia.application.usecase.dto.CursorPage;
+import io.coffeedia.application.usecase.dto.RecipeKeywordQuery;
+import io.coffeedia.application.usecase.dto.RecipeSummaryResponse;
+import io.coffeedia.application.usecase.mapper.RecipeMapper;
+import io.coffeedia.domain.model.RecipeSearchResult;
+import io.coffeedia.domain.vo.SearchCursor;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+class SearchRecipesService implements SearchRecipesUseCase {
+
+    private final RecipeSearchPort searchPort;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<RecipeSummaryResponse> invoke(final RecipeKeywordQuery query) {
+        List<RecipeSearchResult> results = searchPort.search(
+            query.keyword(), query.cursor(), query.size()
+        );
+        return CursorPage.of(
+            results,
+            query.size(),
+            result -> new SearchCursor(result.score(), result.summary().id()).encode(),
+            result -> RecipeMapper.toResponse(result.summary())
+        );
+    }
+}
@@ -5,11 +5,13 @@ import io.coffeedia.application.usecase.UpdateRecipeUseCase;
 import io.coffeedia.application.usecase.dto.RecipeResponse;
 import io.coffeedia.application.usecase.dto.UpdateRecipeCommand;
 import io.coffeedia.application.usecase.mapper.RecipeMapper;
+import io.coffeedia.domain.event.RecipeEvent.RecipeUpdated;
 import io.coffeedia.domain.exception.AccessDeniedException;
 import io.coffeedia.domain.exception.RecipeNotFoundException;
 import io.coffeedia.domain.model.Recipe;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 class UpdateRecipeService implements UpdateRecipeUseCase {
 
     private final RecipeRepositoryPort repository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -34,7 +37,14 @@ class UpdateRecipeService implements UpdateRecipeUseCase {
         validateOwnership(existingRecipe, command.userId());
 
         Recipe updatedRecipe = updateRecipe(existingRecipe, command);
-        Recipe savedRecipe = repository.save(updatedRecipe);
+        Recipe savedRecipe = repository.update(updatedRecipe);
+
+        eventPublisher.publishEvent(
+            RecipeUpdated.builder()
+                .recipeId(savedRecipe.id())
+                .issuedAt(LocalDateTime.now())
+                .build()
+        );
 
         return RecipeMapper.toResponse(savedRecipe);
     }
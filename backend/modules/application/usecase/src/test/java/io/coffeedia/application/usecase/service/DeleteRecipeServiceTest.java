@@ -11,6 +11,7 @@ import io.coffeedia.application.port.repository.RecipeRepositoryPort;
 import io.coffeedia.application.usecase.DeleteRecipeUseCase;
 import io.coffeedia.application.usecase.dto.DeleteRecipeCommand;
 import io.coffeedia.application.usecase.dto.DeleteRecipeResponse;
+import io.coffeedia.domain.event.RecipeEvent.RecipeDeleted;
 import io.coffeedia.domain.exception.AccessDeniedException;
 import io.coffeedia.domain.exception.RecipeNotFoundException;
 import io.coffeedia.domain.model.Ingredient;
@@ -30,6 +31,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class DeleteRecipeServiceTest {
@@ -37,11 +39,14 @@ class DeleteRecipeServiceTest {
     @Mock
     private RecipeRepositoryPort repository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private DeleteRecipeUseCase deleteRecipeUseCase;
 
     @BeforeEach
     void setUp() {
-        deleteRecipeUseCase = new DeleteRecipeService(repository);
+        deleteRecipeUseCase = new DeleteRecipeService(repository, eventPublisher);
     }
 
     @Nested
@@ -71,6 +76,7 @@ class DeleteRecipeServiceTest {
 
             then(repository).should(times(1)).findById(recipeId);
             then(repository).should(times(1)).deleteById(recipeId);
+            then(eventPublisher).should(times(1)).publishEvent(any(RecipeDeleted.class));
         }
 
         @Test
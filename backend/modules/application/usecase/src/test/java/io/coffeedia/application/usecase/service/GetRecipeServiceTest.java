@@ -2,11 +2,22 @@ package io.coffeedia.application.usecase.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 
+import io.coffeedia.application.port.cache.CachePort;
 import io.coffeedia.application.port.repository.RecipeRepositoryPort;
+import io.coffeedia.application.port.repository.RecipeViewRepositoryPort;
 import io.coffeedia.application.usecase.GetRecipeUseCase;
+import io.coffeedia.application.usecase.cache.CacheType;
 import io.coffeedia.application.usecase.dto.RecipeResponse;
+import io.coffeedia.application.usecase.mapper.RecipeMapper;
 import io.coffeedia.domain.exception.RecipeNotFoundException;
 import io.coffeedia.domain.model.Ingredient;
 import io.coffeedia.domain.model.Recipe;
@@ -17,6 +28,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -28,14 +40,28 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class GetRecipeServiceTest {
 
+    @Mock
+    private RecipeViewRepositoryPort viewRepository;
+
     @Mock
     private RecipeRepositoryPort repository;
 
+    @Mock
+    private CachePort cachePort;
+
     private GetRecipeUseCase getRecipeUseCase;
 
     @BeforeEach
     void setUp() {
-        getRecipeUseCase = new GetRecipeService(repository);
+        getRecipeUseCase = new GetRecipeService(viewRepository, repository, cachePort);
+
+        // 캐시 미스 상황: loader 를 그대로 실행
+        lenient().when(cachePort.getOrLoadOptional(
+                anyString(), eq(RecipeResponse.class), any(), any(), any()
+            ))
+            .thenAnswer(invocation ->
+                invocation.<Supplier<Optional<RecipeResponse>>>getArgument(4).get()
+            );
     }
 
     @Nested
@@ -66,6 +92,22 @@ class GetRecipeServiceTest {
             assertThat(response.status()).isEqualTo(ActiveStatus.ACTIVE);
         }
 
+        @Test
+        @DisplayName("읽기 모델이 있으면 정규화 테이블을 조회하지 않고 반환한다")
+        void should_return_recipe_from_view_without_repository() {
+            // given
+            Long recipeId = 1L;
+            given(viewRepository.findById(recipeId))
+                .willReturn(Optional.of(createSampleRecipe(recipeId)));
+
+            // when
+            RecipeResponse response = getRecipeUseCase.invoke(recipeId);
+
+            // then
+            assertThat(response.id()).isEqualTo(recipeId);
+            then(repository).should(never()).findById(any());
+        }
+
         @Test
         @DisplayName("존재하지 않는 레시피 ID로 조회시 RecipeNotFoundException이 발생한다")
         void should_throw_recipe_not_found_exception_when_recipe_not_exists() {
@@ -102,6 +144,67 @@ class GetRecipeServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("레시피 상세 캐시")
+    class RecipeCacheTest {
+
+        @Test
+        @DisplayName("캐시에 저장된 레시피는 저장소를 조회하지 않고 반환한다")
+        void should_return_cached_recipe_without_repository() {
+            // given
+            Long recipeId = 1L;
+            RecipeResponse cached = RecipeMapper.toResponse(createSampleRecipe(recipeId));
+            willReturn(Optional.of(cached)).given(cachePort).getOrLoadOptional(
+                eq(CacheType.RECIPE_DETAIL.key(recipeId)), eq(RecipeResponse.class), any(), any(),
+                any()
+            );
+
+            // when
+            RecipeResponse response = getRecipeUseCase.invoke(recipeId);
+
+            // then
+            assertThat(response).isEqualTo(cached);
+            then(repository).should(never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("레시피 상세 캐시 키와 만료 시간으로 조회한다")
+        void should_load_with_recipe_detail_cache_key() {
+            // given
+            Long recipeId = 1L;
+            given(repository.findById(recipeId))
+                .willReturn(Optional.of(createSampleRecipe(recipeId)));
+
+            // when
+            getRecipeUseCase.invoke(recipeId);
+
+            // then
+            then(cachePort).should().getOrLoadOptional(
+                eq(CacheType.RECIPE_DETAIL.key(recipeId)),
+                eq(RecipeResponse.class),
+                eq(CacheType.RECIPE_DETAIL.getTtl()),
+                eq(CacheType.RECIPE_DETAIL.getNegativeTtl()),
+                any()
+            );
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 레시피로 기록된 ID는 저장소를 조회하지 않고 RecipeNotFoundException이 발생한다")
+        void should_throw_without_repository_when_recipe_is_tombstoned() {
+            // given
+            Long recipeId = 999L;
+            willReturn(Optional.empty()).given(cachePort).getOrLoadOptional(
+                eq(CacheType.RECIPE_DETAIL.key(recipeId)), eq(RecipeResponse.class), any(), any(),
+                any()
+            );
+
+            // when & then
+            assertThatThrownBy(() -> getRecipeUseCase.invoke(recipeId))
+                .isInstanceOf(RecipeNotFoundException.class);
+            then(repository).should(never()).findById(any());
+        }
+    }
+
     private Recipe createSampleRecipe(Long recipeId) {
         List<Ingredient> ingredients = List.of(
             Ingredient.builder()
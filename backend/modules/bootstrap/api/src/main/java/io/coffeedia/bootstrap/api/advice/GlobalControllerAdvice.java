@@ -8,6 +8,7 @@ import io.coffeedia.domain.exception.RecipeNotFoundException;
 import io.coffeedia.domain.exception.UnauthorizedException;
 import io.coffeedia.domain.exception.UserNotFoundException;
 import io.coffeedia.domain.exception.ForbiddenException;
+import io.coffeedia.domain.exception.QueryBudgetExceededException;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
@@ -150,6 +151,26 @@ class GlobalControllerAdvice extends ResponseEntityExceptionHandler {
         );
     }
 
+    /**
+     * QueryBudgetExceededException 에러 - 요청의 DB 처리 시간이 제한을 넘은 경우
+     */
+    @ExceptionHandler(QueryBudgetExceededException.class)
+    protected ResponseEntity<?> handleQueryBudgetExceededException(
+        QueryBudgetExceededException exception,
+        WebRequest request
+    ) {
+        log.warn(
+            "Query budget exceeded - path: {}, useCase: {}, reason: {}",
+            getRequestPath(request),
+            exception.getUseCase(),
+            exception.getReason()
+        );
+        return error(
+            HttpStatus.SERVICE_UNAVAILABLE,  // 503 Service Unavailable
+            exception.getMessage()
+        );
+    }
+
     /**
      * 예상하지 못한 에러
      */
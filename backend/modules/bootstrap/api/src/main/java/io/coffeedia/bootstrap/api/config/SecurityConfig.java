@@ -1,8 +1,10 @@
 package io.coffeedia.bootstrap.api.config;
 
+import io.coffeedia.application.port.repository.ReadConsistencyPort;
 import io.coffeedia.bootstrap.api.security.CustomAccessDeniedHandler;
 import io.coffeedia.bootstrap.api.security.CustomAuthenticationEntryPoint;
 import io.coffeedia.bootstrap.api.security.JwtAuthenticationFilter;
+import io.coffeedia.bootstrap.api.security.ReadConsistencyFilter;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -33,6 +35,7 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CustomAccessDeniedHandler accessDeniedHandler;
     private final CustomAuthenticationEntryPoint authenticationEntryPoint;
+    private final ReadConsistencyPort readConsistencyPort;
 
     /**
      * 보안 필터 체인 설정
@@ -72,6 +75,10 @@ public class SecurityConfig {
 //                    .requestMatchers("/api/admin/**")
 //                    .hasRole("EMPLOYEE")
 
+                    // 관리자 전용 작업
+                    .requestMatchers(HttpMethod.POST, "/api/recipes/views/rebuild")
+                    .hasRole("EMPLOYEE")
+
                     // 나머지는 인증 필요
                     .anyRequest().authenticated()
             )
@@ -85,6 +92,9 @@ public class SecurityConfig {
             // JWT 필터 추가
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
 
+            // 쓰기 직후 같은 사용자의 읽기를 MAIN 으로 보내기 위한 필터
+            .addFilterAfter(new ReadConsistencyFilter(readConsistencyPort), JwtAuthenticationFilter.class)
+
             .build();
     }
 
@@ -6,16 +6,28 @@ import io.coffeedia.application.usecase.CreateBeanUseCase;
 import io.coffeedia.application.usecase.DeleteBeanUseCase;
 import io.coffeedia.application.usecase.GetAllBeansUseCase;
 import io.coffeedia.application.usecase.GetBeanUseCase;
+import io.coffeedia.application.usecase.GetBeansByCursorUseCase;
+import io.coffeedia.application.usecase.SearchBeansUseCase;
 import io.coffeedia.application.usecase.UpdateBeanUseCase;
 import io.coffeedia.application.usecase.dto.BeanResponse;
 import io.coffeedia.application.usecase.dto.BeanSearchQuery;
+import io.coffeedia.application.usecase.dto.BeanSearchResponse;
 import io.coffeedia.application.usecase.dto.CreateBeanCommand;
+import io.coffeedia.application.usecase.dto.CursorPage;
+import io.coffeedia.application.usecase.dto.CursorQuery;
 import io.coffeedia.application.usecase.dto.DeleteBeanCommand;
 import io.coffeedia.application.usecase.dto.DeleteBeanResponse;
 import io.coffeedia.application.usecase.dto.UpdateBeanCommand;
 import io.coffeedia.bootstrap.api.controller.docs.BeanControllerDocs;
 import io.coffeedia.bootstrap.api.controller.dto.BaseResponse;
+import io.coffeedia.bootstrap.api.controller.dto.CursorPageResponse;
+import io.coffeedia.bootstrap.api.controller.dto.FacetPageResponse;
 import io.coffeedia.bootstrap.api.controller.dto.PageResponse;
+import io.coffeedia.domain.model.BeanFacets;
+import io.coffeedia.domain.vo.BeanFilter;
+import io.coffeedia.domain.vo.BlendType;
+import io.coffeedia.domain.vo.ProcessType;
+import io.coffeedia.domain.vo.RoastLevel;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -37,6 +49,8 @@ public class BeanController extends BaseController implements BeanControllerDocs
 
     private final CreateBeanUseCase createUseCase;
     private final GetAllBeansUseCase getAllUseCase;
+    private final GetBeansByCursorUseCase getByCursorUseCase;
+    private final SearchBeansUseCase searchUseCase;
     private final GetBeanUseCase getUseCase;
     private final UpdateBeanUseCase updateUseCase;
     private final DeleteBeanUseCase deleteUseCase;
@@ -60,6 +74,46 @@ public class BeanController extends BaseController implements BeanControllerDocs
         return ok(PageResponse.of(page, size, response));
     }
 
+    @Override
+    @GetMapping("/scroll")
+    public ResponseEntity<BaseResponse<CursorPageResponse<BeanResponse>>> getBeansByCursor(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(required = false) String sort  // field:asc
+    ) {
+        CursorPage<BeanResponse> response = getByCursorUseCase.invoke(
+            CursorQuery.of(cursor, size, sort)
+        );
+        return ok(CursorPageResponse.of(response));
+    }
+
+    @Override
+    @GetMapping("/search")
+    public ResponseEntity<BaseResponse<FacetPageResponse<BeanResponse, BeanFacets>>> searchBeans(
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(required = false) String sort,  // field1:asc,field2:desc
+        @RequestParam(required = false) List<RoastLevel> roastLevel,
+        @RequestParam(required = false) List<ProcessType> processType,
+        @RequestParam(required = false) List<BlendType> blendType,
+        @RequestParam(required = false) Boolean isDecaf,
+        @RequestParam(required = false) List<String> country,
+        @RequestParam(required = false) List<Long> flavorId
+    ) {
+        BeanFilter filter = BeanFilter.builder()
+            .roastLevels(roastLevel)
+            .processTypes(processType)
+            .blendTypes(blendType)
+            .isDecaf(isDecaf)
+            .countries(country)
+            .flavorIds(flavorId)
+            .build();
+        BeanSearchResponse response = searchUseCase.invoke(
+            BeanSearchQuery.of(page, size, sort, filter)
+        );
+        return ok(FacetPageResponse.of(page, size, response.beans(), response.facets()));
+    }
+
     @Override
     @GetMapping("/{beanId}")
     public ResponseEntity<BaseResponse<BeanResponse>> getBean(
@@ -4,21 +4,32 @@ import static io.coffeedia.common.constant.CommonConstant.USER_ID;
 
 import io.coffeedia.application.usecase.CreateRecipeUseCase;
 import io.coffeedia.application.usecase.DeleteRecipeUseCase;
+import io.coffeedia.application.usecase.FilterRecipesUseCase;
 import io.coffeedia.application.usecase.GetAllRecipeSummariesUseCase;
+import io.coffeedia.application.usecase.GetRecipeSummariesByCursorUseCase;
 import io.coffeedia.application.usecase.GetRecipeUseCase;
+import io.coffeedia.application.usecase.RebuildRecipeViewsUseCase;
+import io.coffeedia.application.usecase.SearchRecipesUseCase;
 import io.coffeedia.application.usecase.UpdateRecipeUseCase;
 import io.coffeedia.application.usecase.dto.CreateRecipeCommand;
+import io.coffeedia.application.usecase.dto.CursorQuery;
 import io.coffeedia.application.usecase.dto.DeleteRecipeCommand;
 import io.coffeedia.application.usecase.dto.DeleteRecipeResponse;
+import io.coffeedia.application.usecase.dto.RecipeFilterQuery;
+import io.coffeedia.application.usecase.dto.RecipeKeywordQuery;
 import io.coffeedia.application.usecase.dto.RecipeResponse;
 import io.coffeedia.application.usecase.dto.RecipeSearchQuery;
 import io.coffeedia.application.usecase.dto.RecipeSummaryResponse;
 import io.coffeedia.application.usecase.dto.UpdateRecipeCommand;
 import io.coffeedia.bootstrap.api.controller.docs.RecipeControllerDocs;
 import io.coffeedia.bootstrap.api.controller.dto.BaseResponse;
+import io.coffeedia.bootstrap.api.controller.dto.CursorPageResponse;
 import io.coffeedia.bootstrap.api.controller.dto.PageResponse;
+import io.coffeedia.domain.vo.CategoryType;
 import jakarta.validation.Valid;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -37,9 +48,13 @@ public class RecipeController extends BaseController implements RecipeController
 
     private final CreateRecipeUseCase createUseCase;
     private final GetAllRecipeSummariesUseCase getAllUseCase;
+    private final GetRecipeSummariesByCursorUseCase getByCursorUseCase;
+    private final SearchRecipesUseCase searchUseCase;
+    private final FilterRecipesUseCase filterUseCase;
     private final GetRecipeUseCase getRecipeUseCase;
     private final UpdateRecipeUseCase updateRecipeUseCase;
     private final DeleteRecipeUseCase deleteRecipeUseCase;
+    private final RebuildRecipeViewsUseCase rebuildRecipeViewsUseCase;
 
     @Override
     @PostMapping
@@ -60,6 +75,42 @@ public class RecipeController extends BaseController implements RecipeController
         return ok(PageResponse.of(page, size, response));
     }
 
+    @Override
+    @GetMapping("/scroll")
+    public ResponseEntity<BaseResponse<CursorPageResponse<RecipeSummaryResponse>>> getRecipeSummariesByCursor(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(required = false) String sort  // field:asc
+    ) {
+        var response = getByCursorUseCase.invoke(CursorQuery.of(cursor, size, sort));
+        return ok(CursorPageResponse.of(response));
+    }
+
+    @Override
+    @GetMapping("/search")
+    public ResponseEntity<BaseResponse<CursorPageResponse<RecipeSummaryResponse>>> searchRecipes(
+        @RequestParam(required = false) String keyword,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        var response = searchUseCase.invoke(RecipeKeywordQuery.of(keyword, cursor, size));
+        return ok(CursorPageResponse.of(response));
+    }
+
+    @Override
+    @GetMapping("/filter")
+    public ResponseEntity<BaseResponse<CursorPageResponse<RecipeSummaryResponse>>> filterRecipes(
+        @RequestParam(required = false) List<String> tag,
+        @RequestParam(required = false) List<String> anyTag,
+        @RequestParam(required = false) List<String> excludeTag,
+        @RequestParam(required = false) List<CategoryType> category,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        var query = RecipeFilterQuery.of(tag, anyTag, excludeTag, category, cursor, size);
+        return ok(CursorPageResponse.of(filterUseCase.invoke(query)));
+    }
+
     /**
      * 레시피 상세 조회 API
      *
@@ -98,4 +149,11 @@ public class RecipeController extends BaseController implements RecipeController
         DeleteRecipeResponse response = deleteRecipeUseCase.invoke(command);
         return ok(response);
     }
+
+    @Override
+    @PostMapping("/views/rebuild")
+    public ResponseEntity<BaseResponse<Void>> rebuildRecipeViews() {
+        rebuildRecipeViewsUseCase.invoke();
+        return response(HttpStatus.ACCEPTED, "레시피 읽기 모델 재생성을 시작했습니다.", null);
+    }
 }
@@ -5,7 +5,13 @@ import io.coffeedia.application.usecase.dto.CreateBeanCommand;
 import io.coffeedia.application.usecase.dto.DeleteBeanResponse;
 import io.coffeedia.application.usecase.dto.UpdateBeanCommand;
 import io.coffeedia.bootstrap.api.controller.dto.BaseResponse;
+import io.coffeedia.bootstrap.api.controller.dto.CursorPageResponse;
+import io.coffeedia.bootstrap.api.controller.dto.FacetPageResponse;
 import io.coffeedia.bootstrap.api.controller.dto.PageResponse;
+import io.coffeedia.domain.model.BeanFacets;
+import io.coffeedia.domain.vo.BlendType;
+import io.coffeedia.domain.vo.ProcessType;
+import io.coffeedia.domain.vo.RoastLevel;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -16,6 +22,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.List;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -132,6 +139,68 @@ public interface BeanControllerDocs {
         @RequestParam(required = false) String sort
     );
 
+    @Operation(
+        summary = "원두 목록 커서 조회",
+        description = "원두 목록을 커서 기반으로 조회합니다. 첫 페이지는 cursor 없이 요청하고, " +
+            "이후에는 응답의 nextCursor 를 그대로 전달합니다. 페이지 번호 방식과 달리 뒤쪽 페이지도 앞쪽과 같은 속도로 조회되며, " +
+            "조회 중 원두가 추가되어도 항목이 중복되거나 누락되지 않습니다. 정렬은 'field:direction' 하나만 지정할 수 있습니다.",
+        parameters = {
+            @Parameter(
+                name = "cursor",
+                description = "이전 응답의 nextCursor (첫 페이지는 생략)",
+                in = ParameterIn.QUERY
+            ),
+            @Parameter(
+                name = "size",
+                description = "페이지당 조회할 원두 개수",
+                example = "10",
+                in = ParameterIn.QUERY
+            ),
+            @Parameter(
+                name = "sort",
+                description = "정렬 조건 (생략하면 커서의 정렬, 첫 페이지는 'createdAt:desc')",
+                example = "createdAt:desc",
+                in = ParameterIn.QUERY
+            )
+        }
+    )
+    ResponseEntity<BaseResponse<CursorPageResponse<BeanResponse>>> getBeansByCursor(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(required = false) String sort
+    );
+
+    @Operation(
+        summary = "원두 검색",
+        description = "로스팅 레벨, 가공 방식, 블렌드 타입, 디카페인 여부, 원산지 국가, 플레이버로 원두를 거르고, " +
+            "조건에 일치하는 전체 원두의 항목별 개수(facets)를 함께 조회합니다. " +
+            "항목별 개수는 그 항목 자신의 조건만 빼고 세므로, 이미 고른 항목에서도 다른 값의 개수를 볼 수 있습니다. " +
+            "같은 항목의 값은 여러 개 지정할 수 있으며(하나만 일치해도 포함), 서로 다른 항목은 모두 일치해야 합니다. " +
+            "facets 의 value 를 그대로 필터 값으로 사용할 수 있습니다.",
+        parameters = {
+            @Parameter(name = "page", description = "페이지 번호 (0부터 시작)", example = "0", in = ParameterIn.QUERY),
+            @Parameter(name = "size", description = "페이지당 조회할 원두 개수", example = "10", in = ParameterIn.QUERY),
+            @Parameter(name = "sort", description = "정렬 조건 (예: 'createdAt:desc')", example = "createdAt:desc", in = ParameterIn.QUERY),
+            @Parameter(name = "roastLevel", description = "로스팅 레벨 (예: 'MEDIUM')", in = ParameterIn.QUERY),
+            @Parameter(name = "processType", description = "가공 방식 (예: 'WASHED')", in = ParameterIn.QUERY),
+            @Parameter(name = "blendType", description = "블렌드 타입 (예: 'SINGLE_ORIGIN')", in = ParameterIn.QUERY),
+            @Parameter(name = "isDecaf", description = "디카페인 여부", in = ParameterIn.QUERY),
+            @Parameter(name = "country", description = "원산지 국가 (예: '에티오피아')", in = ParameterIn.QUERY),
+            @Parameter(name = "flavorId", description = "플레이버 ID", in = ParameterIn.QUERY)
+        }
+    )
+    ResponseEntity<BaseResponse<FacetPageResponse<BeanResponse, BeanFacets>>> searchBeans(
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(required = false) String sort,
+        @RequestParam(required = false) List<RoastLevel> roastLevel,
+        @RequestParam(required = false) List<ProcessType> processType,
+        @RequestParam(required = false) List<BlendType> blendType,
+        @RequestParam(required = false) Boolean isDecaf,
+        @RequestParam(required = false) List<String> country,
+        @RequestParam(required = false) List<Long> flavorId
+    );
+
     @Operation(
         summary = "원두 상세 조회",
         description = "특정 원두의 상세 정보를 조회합니다. 원두 ID를 통해 해당 원두의 모든 정보를 확인할 수 있습니다."
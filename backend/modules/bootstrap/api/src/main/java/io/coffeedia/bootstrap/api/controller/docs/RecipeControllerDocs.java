@@ -6,7 +6,9 @@ import io.coffeedia.application.usecase.dto.RecipeResponse;
 import io.coffeedia.application.usecase.dto.RecipeSummaryResponse;
 import io.coffeedia.application.usecase.dto.UpdateRecipeCommand;
 import io.coffeedia.bootstrap.api.controller.dto.BaseResponse;
+import io.coffeedia.bootstrap.api.controller.dto.CursorPageResponse;
 import io.coffeedia.bootstrap.api.controller.dto.PageResponse;
+import io.coffeedia.domain.vo.CategoryType;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -17,6 +19,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.List;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -166,6 +169,122 @@ public interface RecipeControllerDocs {
         @RequestParam(required = false) String sort
     );
 
+    @Operation(
+        summary = "레시피 목록 커서 조회",
+        description = "레시피 목록을 커서 기반으로 조회합니다. 첫 페이지는 cursor 없이 요청하고, " +
+            "이후에는 응답의 nextCursor 를 그대로 전달합니다. 마지막 페이지면 nextCursor 가 null 입니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "레시피 목록 조회 성공",
+            content = @Content(schema = @Schema(implementation = CursorPageResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "잘못된 커서 또는 커서와 다른 정렬 조건",
+            content = @Content(
+                examples = @ExampleObject(
+                    value = """
+                        {
+                            "success": false,
+                            "message": "잘못된 커서입니다.",
+                            "data": null
+                        }
+                        """
+                )
+            )
+        )
+    })
+    ResponseEntity<BaseResponse<CursorPageResponse<RecipeSummaryResponse>>> getRecipeSummariesByCursor(
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "페이지당 조회할 레시피 개수", example = "10")
+        @RequestParam(defaultValue = "10") int size,
+        @Parameter(description = "정렬 조건 (생략하면 커서의 정렬, 첫 페이지는 'createdAt:desc')", example = "createdAt:desc")
+        @RequestParam(required = false) String sort
+    );
+
+    @Operation(
+        summary = "레시피 검색",
+        description = "제목, 태그, 재료 이름, 설명에서 검색어를 모두 포함하는 레시피를 관련도 순으로 조회합니다. " +
+            "제목에 일치하면 태그, 재료, 설명보다 먼저 노출됩니다. 한글은 두 글자 단위로 비교하므로 '드립' 으로 '핸드드립' 도 찾을 수 있습니다. " +
+            "다음 페이지는 응답의 nextCursor 를 같은 검색어와 함께 전달합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "레시피 검색 성공",
+            content = @Content(schema = @Schema(implementation = CursorPageResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "검색어 누락 또는 잘못된 커서",
+            content = @Content(
+                examples = @ExampleObject(
+                    value = """
+                        {
+                            "success": false,
+                            "message": "검색어는 필수입니다.",
+                            "data": null
+                        }
+                        """
+                )
+            )
+        )
+    })
+    ResponseEntity<BaseResponse<CursorPageResponse<RecipeSummaryResponse>>> searchRecipes(
+        @Parameter(description = "검색어", required = true, example = "콜드브루")
+        @RequestParam(required = false) String keyword,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "페이지당 조회할 레시피 개수", example = "10")
+        @RequestParam(defaultValue = "10") int size
+    );
+
+    @Operation(
+        summary = "레시피 태그, 카테고리 필터",
+        description = "태그와 카테고리 조건에 일치하는 레시피를 최신순으로 조회합니다. " +
+            "tag 는 모두 포함(AND), anyTag 는 하나 이상 포함(OR), excludeTag 는 제외(NOT)하며, category 는 하나라도 일치하면 됩니다. " +
+            "다음 페이지는 응답의 nextCursor 를 같은 조건과 함께 전달합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "레시피 필터 조회 성공",
+            content = @Content(schema = @Schema(implementation = CursorPageResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "잘못된 커서",
+            content = @Content(
+                examples = @ExampleObject(
+                    value = """
+                        {
+                            "success": false,
+                            "message": "잘못된 커서입니다.",
+                            "data": null
+                        }
+                        """
+                )
+            )
+        )
+    })
+    ResponseEntity<BaseResponse<CursorPageResponse<RecipeSummaryResponse>>> filterRecipes(
+        @Parameter(description = "모두 포함해야 하는 태그", example = "아이스")
+        @RequestParam(required = false) List<String> tag,
+        @Parameter(description = "하나 이상 포함해야 하는 태그", example = "산미")
+        @RequestParam(required = false) List<String> anyTag,
+        @Parameter(description = "포함하면 안 되는 태그", example = "우유")
+        @RequestParam(required = false) List<String> excludeTag,
+        @Parameter(description = "카테고리", example = "HAND_DRIP")
+        @RequestParam(required = false) List<CategoryType> category,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "페이지당 조회할 레시피 개수", example = "10")
+        @RequestParam(defaultValue = "10") int size
+    );
+
     @Operation(
         summary = "레시피 상세 조회",
         description = "레시피 ID로 상세 정보를 조회합니다."
@@ -384,4 +503,33 @@ public interface RecipeControllerDocs {
         @Parameter(description = "삭제할 레시피 ID", required = true, example = "1")
         @PathVariable Long recipeId
     );
+
+    @Operation(
+        summary = "레시피 상세 읽기 모델 재생성",
+        description = "정규화 테이블에서 모든 레시피의 상세 읽기 모델을 백그라운드에서 다시 만듭니다. " +
+            "직원 권한이 필요하며, 이미 재생성 중이면 새로 시작하지 않습니다. " +
+            "레시피 ID 구간별로 나눠 병렬로 처리하며, 재생성 중에도 상세 조회는 계속 가능합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "202",
+            description = "재생성 시작",
+            content = @Content(
+                examples = @ExampleObject(
+                    value = """
+                        {
+                            "success": true,
+                            "message": "레시피 읽기 모델 재생성을 시작했습니다.",
+                            "data": null
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "직원 권한 없음"
+        )
+    })
+    ResponseEntity<BaseResponse<Void>> rebuildRecipeViews();
 }
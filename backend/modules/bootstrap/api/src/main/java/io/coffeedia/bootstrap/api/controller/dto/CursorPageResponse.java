@@ -0,0 +1,22 @@
+package io.coffeedia.bootstrap.api.controller.dto;
+
+import io.coffeedia.application.usecase.dto.CursorPage;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+
+@Builder(access = AccessLevel.PRIVATE)
+public record CursorPageResponse<T>(
+    String nextCursor,
+    boolean hasNext,
+    List<T> content
+) {
+
+    public static <T> CursorPageResponse<T> of(final CursorPage<T> page) {
+        return CursorPageResponse.<T>builder()
+            .nextCursor(page.nextCursor())
+            .hasNext(page.hasNext())
+            .content(page.content())
+            .build();
+    }
+}
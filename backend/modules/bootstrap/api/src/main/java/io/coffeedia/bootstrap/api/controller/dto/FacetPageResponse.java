@@ -0,0 +1,29 @@
+package io.coffeedia.bootstrap.api.controller.dto;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+
+@Builder(access = AccessLevel.PRIVATE)
+public record FacetPageResponse<T, F>(
+    int page,
+    boolean hasNext,
+    List<T> content,
+    F facets
+) {
+
+    public static <T, F> FacetPageResponse<T, F> of(
+        final int page,
+        final int size,
+        final List<T> contents,
+        final F facets
+    ) {
+        PageResponse<T> pageResponse = PageResponse.of(page, size, contents);
+        return FacetPageResponse.<T, F>builder()
+            .page(pageResponse.page())
+            .hasNext(pageResponse.hasNext())
+            .content(pageResponse.content())
+            .facets(facets)
+            .build();
+    }
+}
@@ -0,0 +1,48 @@
+package io.coffeedia.bootstrap.api.security;
+
+import io.coffeedia.application.port.repository.ReadConsistencyPort;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 읽기 일관성 필터
+ * <p>
+ * 인증된 사용자 이름을 읽기 일관성 키로 설정해, 쓰기 직후 같은 사용자의 조회가 Replica 의 이전 데이터를 읽지 않도록 합니다.
+ * JWT 인증 필터 뒤에서 실행되어야 합니다.
+ */
+@RequiredArgsConstructor
+public class ReadConsistencyFilter extends OncePerRequestFilter {
+
+    private final ReadConsistencyPort readConsistencyPort;
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        readConsistencyPort.begin(currentUsername());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            readConsistencyPort.end();
+        }
+    }
+
+    private String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+            || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -2,9 +2,11 @@ package io.coffeedia;
 
 import static io.coffeedia.common.constant.CommonConstant.USER_ID;
 
+import io.coffeedia.application.port.cache.CachePort;
 import io.coffeedia.application.port.repository.BeanRepositoryPort;
 import io.coffeedia.application.port.repository.EquipmentRepositoryPort;
 import io.coffeedia.application.port.repository.RecipeRepositoryPort;
+import io.coffeedia.application.usecase.cache.CacheType;
 import io.coffeedia.bootstrap.ApiApplication;
 import io.coffeedia.bootstrap.api.security.JwtTokenProvider;
 import io.coffeedia.domain.model.Bean;
@@ -55,6 +57,9 @@ public abstract class IntegrationSupportTest {
     @Autowired
     protected JwtTokenProvider jwtTokenProvider;
 
+    @Autowired
+    protected CachePort cachePort;
+
     // 테스트용 사용자 정보
     protected static final String TEST_USERNAME = "bjorn";
     protected static final List<String> TEST_ROLES = List.of("customer");
@@ -164,6 +169,7 @@ public abstract class IntegrationSupportTest {
 
     protected void cleanUpBeans() {
         beanRepository.deleteAll();
+        cachePort.bumpGeneration(CacheType.BEAN_LIST.generationKey());
     }
 
     protected void cleanUpEquipments() {
@@ -172,6 +178,7 @@ public abstract class IntegrationSupportTest {
 
     protected void cleanUpRecipes() {
         recipeRepository.deleteAll();
+        cachePort.bumpGeneration(CacheType.RECIPE_LIST.generationKey());
     }
 
     protected Bean createBean() {
@@ -180,6 +187,8 @@ public abstract class IntegrationSupportTest {
             Flavor.builder().id(2L).name("플레이버2").build()
         );
 
+        // 저장소에 직접 저장하면 변경 이벤트가 발행되지 않으므로 목록 캐시 세대를 직접 올립니다.
+        cachePort.bumpGeneration(CacheType.BEAN_LIST.generationKey());
         return beanRepository.create(
             Bean.builder()
                 .userId(USER_ID)
@@ -231,6 +240,7 @@ public abstract class IntegrationSupportTest {
             beans.add(bean);
         }
 
+        cachePort.bumpGeneration(CacheType.BEAN_LIST.generationKey());
         return beanRepository.createAll(beans);
     }
 
@@ -309,6 +319,7 @@ public abstract class IntegrationSupportTest {
             .status(ActiveStatus.ACTIVE)  // 필수: null 불가
             .build();
 
+        cachePort.bumpGeneration(CacheType.RECIPE_LIST.generationKey());
         return recipeRepository.save(recipe);
     }
 
@@ -31,9 +31,9 @@ public final class TestContainerManager {
         registry.add("spring.datasource.main.hikari.username", POSTGRES_CONTAINER::getUsername);
         registry.add("spring.datasource.main.hikari.password", POSTGRES_CONTAINER::getPassword);
         // replica
-        registry.add("spring.datasource.replica.hikari.jdbc-url", POSTGRES_CONTAINER::getJdbcUrl);
-        registry.add("spring.datasource.replica.hikari.username", POSTGRES_CONTAINER::getUsername);
-        registry.add("spring.datasource.replica.hikari.password", POSTGRES_CONTAINER::getPassword);
+        registry.add("spring.datasource.replicas.replica-1.jdbc-url", POSTGRES_CONTAINER::getJdbcUrl);
+        registry.add("spring.datasource.replicas.replica-1.username", POSTGRES_CONTAINER::getUsername);
+        registry.add("spring.datasource.replicas.replica-1.password", POSTGRES_CONTAINER::getPassword);
     }
 
     static void registerRedisProperties(DynamicPropertyRegistry registry) {
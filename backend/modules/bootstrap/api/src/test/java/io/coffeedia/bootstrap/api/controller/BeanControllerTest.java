@@ -1,6 +1,7 @@
 package io.coffeedia.bootstrap.api.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import io.coffeedia.IntegrationSupportTest;
@@ -9,14 +10,19 @@ import io.coffeedia.application.usecase.dto.CreateBeanCommand;
 import io.coffeedia.application.usecase.dto.DeleteBeanResponse;
 import io.coffeedia.application.usecase.dto.UpdateBeanCommand;
 import io.coffeedia.bootstrap.api.controller.dto.BaseResponse;
+import io.coffeedia.bootstrap.api.controller.dto.CursorPageResponse;
+import io.coffeedia.bootstrap.api.controller.dto.FacetPageResponse;
 import io.coffeedia.bootstrap.api.controller.dto.PageResponse;
 import io.coffeedia.domain.model.Bean;
+import io.coffeedia.domain.model.BeanFacets;
+import io.coffeedia.domain.model.FacetCount;
 import io.coffeedia.domain.vo.ActiveStatus;
 import io.coffeedia.domain.vo.BlendType;
 import io.coffeedia.domain.vo.Origin;
 import io.coffeedia.domain.vo.ProcessType;
 import io.coffeedia.domain.vo.RoastLevel;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -197,6 +203,138 @@ class BeanControllerTest extends IntegrationSupportTest {
         }
     }
 
+    @Nested
+    @DisplayName("원두 목록 커서 조회")
+    class GetBeansByCursorTest {
+
+        @Test
+        @DisplayName("nextCursor 를 따라가면 모든 원두를 최신순으로 중복 없이 조회한다")
+        void followsCursorToLastPage() {
+            // given
+            List<Long> expected = createBeans(5).stream()
+                .map(Bean::id)
+                .toList()
+                .reversed();
+            List<Long> actual = new ArrayList<>();
+
+            // when
+            CursorPageResponse<BeanResponse> page = scroll("/api/beans/scroll?size=2");
+            actual.addAll(page.content().stream().map(BeanResponse::beanId).toList());
+            while (page.hasNext()) {
+                page = scroll("/api/beans/scroll?size=2&cursor={cursor}", page.nextCursor());
+                actual.addAll(page.content().stream().map(BeanResponse::beanId).toList());
+            }
+
+            // then
+            assertThat(actual).containsExactlyElementsOf(expected);
+        }
+
+        @Test
+        @DisplayName("잘못된 커서로 조회하면 400 Bad Request를 반환한다")
+        void getBeansWithInvalidCursorReturns400() {
+            // when & then
+            authenticatedGet("/api/beans/scroll?cursor={cursor}", "invalid")
+                .exchange()
+                .expectStatus().isBadRequest();
+        }
+
+        private CursorPageResponse<BeanResponse> scroll(String uri, Object... uriVariables) {
+            return authenticatedGet(uri, uriVariables)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(
+                    new ParameterizedTypeReference<BaseResponse<CursorPageResponse<BeanResponse>>>() {
+                    })
+                .returnResult()
+                .getResponseBody()
+                .data();
+        }
+    }
+
+    @Nested
+    @DisplayName("원두 검색")
+    class SearchBeansTest {
+
+        @BeforeEach
+        void setUp() {
+            createBeans(3);
+        }
+
+        @Test
+        @DisplayName("필터에 일치하는 원두와 항목별 개수를 함께 조회한다")
+        void searchesWithFacets() {
+            // when
+            FacetPageResponse<BeanResponse, BeanFacets> page = search(
+                "/api/beans/search?roastLevel=MEDIUM&country=에티오피아");
+
+            // then
+            BeanFacets facets = page.facets();
+            assertAll(
+                () -> assertThat(page.content()).hasSize(3),
+                () -> assertThat(facets.total()).isEqualTo(3),
+                () -> assertThat(facets.roastLevels())
+                    .extracting(FacetCount::value, FacetCount::count)
+                    .containsExactly(tuple("MEDIUM", 3L)),
+                () -> assertThat(facets.decaf())
+                    .extracting(FacetCount::value, FacetCount::label, FacetCount::count)
+                    .containsExactly(tuple("false", "일반", 3L)),
+                () -> assertThat(facets.flavors())
+                    .extracting(FacetCount::value)
+                    .containsExactlyInAnyOrder("1", "2")
+            );
+        }
+
+        @Test
+        @DisplayName("일치하는 원두가 없으면 빈 목록과 0 개수를 반환하고, 배전도 개수는 배전도 조건을 빼고 센다")
+        void returnsEmptyFacetsWhenNothingMatches() {
+            // when
+            FacetPageResponse<BeanResponse, BeanFacets> page = search(
+                "/api/beans/search?roastLevel=DARK&roastLevel=LIGHT");
+
+            // then
+            assertAll(
+                () -> assertThat(page.content()).isEmpty(),
+                () -> assertThat(page.hasNext()).isFalse(),
+                () -> assertThat(page.facets().total()).isZero(),
+                () -> assertThat(page.facets().roastLevels())
+                    .extracting(FacetCount::value, FacetCount::count)
+                    .containsExactly(tuple("MEDIUM", 3L)),
+                () -> assertThat(page.facets().decaf()).isEmpty()
+            );
+        }
+
+        @Test
+        @DisplayName("항목별 개수는 자기 항목의 조건만 빼고 나머지 조건을 모두 적용해 센다")
+        void countsEachFacetWithoutItsOwnFilter() {
+            // when
+            FacetPageResponse<BeanResponse, BeanFacets> page = search(
+                "/api/beans/search?roastLevel=DARK&country=에티오피아");
+
+            // then
+            BeanFacets facets = page.facets();
+            assertAll(
+                () -> assertThat(facets.total()).isZero(),
+                () -> assertThat(facets.roastLevels())
+                    .extracting(FacetCount::value, FacetCount::count)
+                    .containsExactly(tuple("MEDIUM", 3L)),
+                () -> assertThat(facets.countries()).isEmpty(),
+                () -> assertThat(facets.decaf()).isEmpty()
+            );
+        }
+
+        private FacetPageResponse<BeanResponse, BeanFacets> search(String uri) {
+            return authenticatedGet(uri)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(
+                    new ParameterizedTypeReference<BaseResponse<FacetPageResponse<BeanResponse, BeanFacets>>>() {
+                    })
+                .returnResult()
+                .getResponseBody()
+                .data();
+        }
+    }
+
     @Nested
     @DisplayName("원두 상세 조회")
     class GetBeanTest {
@@ -722,4 +722,33 @@ class RecipeControllerTest extends IntegrationSupportTest {
                 });
         }
     }
+
+    @Nested
+    @DisplayName("레시피 읽기 모델 재생성")
+    class RebuildRecipeViewsTest {
+
+        @Test
+        @DisplayName("직원 권한이 없으면 403 Forbidden을 반환한다")
+        void rebuildWithoutEmployeeRoleReturns403() {
+            // when & then
+            authenticatedPost("/api/recipes/views/rebuild")
+                .exchange()
+                .expectStatus().isForbidden();
+        }
+
+        @Test
+        @DisplayName("직원은 재생성을 요청하면 끝날 때까지 기다리지 않고 202 Accepted를 받는다")
+        void rebuildWithEmployeeRoleReturns202() {
+            // when & then
+            adminPost("/api/recipes/views/rebuild")
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectBody(new ParameterizedTypeReference<BaseResponse<Void>>() {
+                })
+                .value(response -> {
+                    assertThat(response.success()).isTrue();
+                    assertThat(response.data()).isNull();
+                });
+        }
+    }
 }
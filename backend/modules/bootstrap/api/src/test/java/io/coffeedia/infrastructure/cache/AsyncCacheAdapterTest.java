@@ -0,0 +1,70 @@
+package io.coffeedia.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.coffeedia.IntegrationSupportTest;
+import io.coffeedia.domain.vo.RoastLevel;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class AsyncCacheAdapterTest extends IntegrationSupportTest {
+
+    @Autowired
+    private AsyncCacheAdapter asyncCacheAdapter;
+
+    @Autowired
+    private CacheAdapter cacheAdapter;
+
+    private static final String TEST_KEY_PREFIX = "test:async-cache-adapter:";
+
+    @Nested
+    @DisplayName("비동기 캐시 연산")
+    class AsyncOperationTest {
+
+        @Test
+        @DisplayName("비동기로 저장한 값을 비동기로 조회할 수 있다")
+        void writesAndReadsAsynchronously() {
+            // given
+            String key = TEST_KEY_PREFIX + "write-read";
+
+            // when
+            asyncCacheAdapter.write(key, RoastLevel.MEDIUM, Duration.ofMinutes(1)).join();
+            RoastLevel result = asyncCacheAdapter.read(key, RoastLevel.class).join();
+
+            // then
+            assertThat(result).isEqualTo(RoastLevel.MEDIUM);
+        }
+
+        @Test
+        @DisplayName("동기 포트로 저장한 값을 비동기 포트로 조회할 수 있다")
+        void readsValueWrittenBySyncPort() {
+            // given
+            String key = TEST_KEY_PREFIX + "sync-write";
+            cacheAdapter.write(key, "sync-value", Duration.ofMinutes(1));
+
+            // when
+            String result = asyncCacheAdapter.read(key, String.class).join();
+
+            // then
+            assertThat(result).isEqualTo("sync-value");
+        }
+
+        @Test
+        @DisplayName("비동기로 삭제한 키는 더 이상 존재하지 않는다")
+        void deletesAsynchronously() {
+            // given
+            String key = TEST_KEY_PREFIX + "delete";
+            cacheAdapter.write(key, "value", Duration.ofMinutes(1));
+
+            // when
+            asyncCacheAdapter.delete(key).join();
+
+            // then
+            assertThat(asyncCacheAdapter.exists(key).join()).isFalse();
+            assertThat(asyncCacheAdapter.read(key, String.class).join()).isNull();
+        }
+    }
+}
@@ -9,6 +9,14 @@ import io.coffeedia.domain.vo.RoastLevel;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import lombok.Builder;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -307,6 +315,183 @@ public class CacheAdapterTest extends IntegrationSupportTest {
         }
     }
 
+    @Nested
+    @DisplayName("여러 키 일괄 처리")
+    class BatchOperationTest {
+
+        @Test
+        @DisplayName("여러 키를 한 번에 저장하면 한 번에 조회할 수 있다")
+        void writesAndReadsMultipleKeys() {
+            // given
+            Map<String, String> values = Map.of(
+                TEST_KEY_PREFIX + "batch-1", "value-1",
+                TEST_KEY_PREFIX + "batch-2", "value-2"
+            );
+
+            // when
+            cacheAdapter.writeAll(values, Duration.ofMinutes(1));
+            Map<String, String> result = cacheAdapter.readAll(values.keySet(), String.class);
+
+            // then
+            assertThat(result).containsExactlyInAnyOrderEntriesOf(values);
+        }
+
+        @Test
+        @DisplayName("일괄 조회 결과에는 존재하지 않는 키가 포함되지 않는다")
+        void excludesMissingKeys() {
+            // given
+            String key = TEST_KEY_PREFIX + "batch-exists";
+            String missingKey = TEST_KEY_PREFIX + "batch-missing";
+            cacheAdapter.write(key, "value", Duration.ofMinutes(1));
+
+            // when
+            Map<String, String> result = cacheAdapter.readAll(List.of(key, missingKey),
+                String.class);
+
+            // then
+            assertThat(result).containsOnlyKeys(key);
+        }
+
+        @Test
+        @DisplayName("여러 키를 한 번에 삭제하면 모두 조회되지 않는다")
+        void deletesMultipleKeys() {
+            // given
+            List<String> keys = List.of(TEST_KEY_PREFIX + "batch-delete-1",
+                TEST_KEY_PREFIX + "batch-delete-2");
+            keys.forEach(key -> cacheAdapter.write(key, "value", Duration.ofMinutes(1)));
+
+            // when
+            cacheAdapter.deleteAll(keys);
+
+            // then
+            assertThat(cacheAdapter.readAll(keys, String.class)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("캐시 미스 시 적재")
+    class GetOrLoadTest {
+
+        @Test
+        @DisplayName("캐시에 값이 없으면 적재한 값을 저장하고 이후에는 캐시에서 조회한다")
+        void loadsOnceAndReadsFromCache() {
+            // given
+            String key = TEST_KEY_PREFIX + "get-or-load";
+            AtomicInteger loadCount = new AtomicInteger();
+
+            // when
+            String first = cacheAdapter.getOrLoad(key, String.class, Duration.ofMinutes(1), () -> {
+                loadCount.incrementAndGet();
+                return "loaded-value";
+            });
+            String second = cacheAdapter.getOrLoad(key, String.class, Duration.ofMinutes(1), () -> {
+                loadCount.incrementAndGet();
+                return "reloaded-value";
+            });
+
+            // then
+            assertThat(first).isEqualTo("loaded-value");
+            assertThat(second).isEqualTo("loaded-value");
+            assertThat(loadCount).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("동시에 같은 키를 요청하면 적재는 한 번만 수행된다")
+        void coalescesConcurrentLoads() throws Exception {
+            // given
+            String key = TEST_KEY_PREFIX + "get-or-load-concurrent";
+            int threadCount = 10;
+            AtomicInteger loadCount = new AtomicInteger();
+            CountDownLatch startLatch = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+            // when
+            List<CompletableFuture<String>> futures = IntStream.range(0, threadCount)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                    awaitLatch(startLatch);
+                    return cacheAdapter.getOrLoad(key, String.class, Duration.ofMinutes(1), () -> {
+                        loadCount.incrementAndGet();
+                        sleep(200);
+                        return "loaded-value";
+                    });
+                }, executor))
+                .toList();
+            startLatch.countDown();
+            List<String> results = futures.stream().map(CompletableFuture::join).toList();
+            executor.shutdown();
+
+            // then
+            assertThat(results).containsOnly("loaded-value");
+            assertThat(loadCount).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("적재 결과가 비어 있으면 툼스톤을 저장하고 만료 전까지 다시 적재하지 않는다")
+        void cachesEmptyResultAsTombstone() {
+            // given
+            String key = TEST_KEY_PREFIX + "get-or-load-negative";
+            AtomicInteger loadCount = new AtomicInteger();
+            Supplier<Optional<String>> loader = () -> {
+                loadCount.incrementAndGet();
+                return Optional.empty();
+            };
+
+            // when
+            Optional<String> first = cacheAdapter.getOrLoadOptional(key, String.class,
+                Duration.ofMinutes(1), Duration.ofMinutes(1), loader);
+            Optional<String> second = cacheAdapter.getOrLoadOptional(key, String.class,
+                Duration.ofMinutes(1), Duration.ofMinutes(1), loader);
+
+            // then
+            assertThat(first).isEmpty();
+            assertThat(second).isEmpty();
+            assertThat(loadCount).hasValue(1);
+        }
+
+        private void awaitLatch(CountDownLatch latch) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void sleep(long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("세대 기반 무효화")
+    class GenerationTest {
+
+        @Test
+        @DisplayName("세대를 올리면 이전 세대 키로 저장한 목록은 조회되지 않는다")
+        void bumpGenerationHidesPreviousKeys() {
+            // given
+            String generationKey = TEST_KEY_PREFIX + "list:gen";
+            long before = cacheAdapter.generation(generationKey);
+            String previousKey = TEST_KEY_PREFIX + "list:v" + before;
+            cacheAdapter.getOrLoadList(previousKey, String.class, Duration.ofMinutes(1),
+                () -> List.of("a", "b"));
+
+            // when
+            cacheAdapter.bumpGeneration(generationKey);
+            long after = cacheAdapter.generation(generationKey);
+            List<String> result = cacheAdapter.getOrLoadList(
+                TEST_KEY_PREFIX + "list:v" + after, String.class, Duration.ofMinutes(1),
+                () -> List.of("c"));
+
+            // then
+            assertThat(after).isGreaterThan(before);
+            assertThat(result).containsExactly("c");
+        }
+    }
+
     @Builder
     public record TestCoffeeData(
         String name,
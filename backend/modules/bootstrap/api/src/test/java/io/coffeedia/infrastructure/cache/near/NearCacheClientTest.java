@@ -0,0 +1,140 @@
+package io.coffeedia.infrastructure.cache.near;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.coffeedia.IntegrationSupportTest;
+import io.coffeedia.infrastructure.cache.CacheClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class NearCacheClientTest extends IntegrationSupportTest {
+
+    @Autowired
+    private NearCacheClient nearCacheClient;
+
+    @Autowired
+    private NearCacheProperties properties;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private static final String NEAR_KEY_PREFIX = "recipes:near-cache-test:";
+    private static final String REMOTE_KEY_PREFIX = "test:near-cache-test:";
+
+    @Nested
+    @DisplayName("로컬 캐시 적용 대상 키")
+    class SupportedKeyTest {
+
+        @Test
+        @DisplayName("한 번 조회한 값은 Redis 에서 지워져도 로컬 캐시에서 조회된다")
+        void readsFromLocalAfterRemoteRemoved() {
+            // given
+            String key = NEAR_KEY_PREFIX + "local-hit";
+            nearCacheClient.write(key, "cached-value", Duration.ofMinutes(1));
+            redisTemplate.delete(key);
+
+            // when
+            String result = nearCacheClient.read(key);
+
+            // then
+            assertThat(result).isEqualTo("cached-value");
+        }
+
+        @Test
+        @DisplayName("다른 노드의 무효화 메시지를 받으면 로컬 캐시가 비워진다")
+        void evictsLocalOnRemoteInvalidation() {
+            // given
+            String key = NEAR_KEY_PREFIX + "remote-invalidation";
+            nearCacheClient.write(key, "cached-value", Duration.ofMinutes(1));
+            redisTemplate.delete(key);
+
+            // when
+            nearCacheClient.onMessage(invalidationMessage("other-node", key), null);
+
+            // then
+            assertThat(nearCacheClient.read(key)).isNull();
+        }
+
+        @Test
+        @DisplayName("적재한 값은 Redis 와 로컬 캐시에 모두 저장된다")
+        void fillsBothTiers() {
+            // given
+            String key = NEAR_KEY_PREFIX + "fill";
+
+            nearCacheClient.tryLock(CacheClient.lockKey(key), "token", Duration.ofMinutes(1));
+
+            // when
+            boolean stored = nearCacheClient.fill(key, "loaded-value", Duration.ofMinutes(1), "token");
+
+            // then
+            assertThat(stored).isTrue();
+            assertThat(redisTemplate.hasKey(key)).isTrue();
+            redisTemplate.delete(key);
+            assertThat(nearCacheClient.read(key)).isEqualTo("loaded-value");
+        }
+
+        @Test
+        @DisplayName("적재 도중 키가 삭제되면 적재한 값을 저장하지 않는다")
+        void skipsFillAfterDelete() {
+            // given
+            String key = NEAR_KEY_PREFIX + "fill-after-delete";
+            nearCacheClient.tryLock(CacheClient.lockKey(key), "token", Duration.ofMinutes(1));
+            nearCacheClient.delete(key);
+
+            // when
+            boolean stored = nearCacheClient.fill(key, "stale-value", Duration.ofMinutes(1), "token");
+
+            // then
+            assertThat(stored).isFalse();
+            assertThat(nearCacheClient.read(key)).isNull();
+        }
+
+        @Test
+        @DisplayName("삭제하면 로컬 캐시와 Redis 에서 모두 제거된다")
+        void deletesFromBothTiers() {
+            // given
+            String key = NEAR_KEY_PREFIX + "delete";
+            nearCacheClient.write(key, "cached-value", Duration.ofMinutes(1));
+
+            // when
+            nearCacheClient.delete(key);
+
+            // then
+            assertThat(nearCacheClient.exists(key)).isFalse();
+            assertThat(nearCacheClient.read(key)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("로컬 캐시 적용 대상이 아닌 키")
+    class UnsupportedKeyTest {
+
+        @Test
+        @DisplayName("Redis 에서 지워지면 바로 조회되지 않는다")
+        void readsThroughToRemote() {
+            // given
+            String key = REMOTE_KEY_PREFIX + "remote-only";
+            nearCacheClient.write(key, "cached-value", Duration.ofMinutes(1));
+            redisTemplate.delete(key);
+
+            // when
+            String result = nearCacheClient.read(key);
+
+            // then
+            assertThat(result).isNull();
+        }
+    }
+
+    private DefaultMessage invalidationMessage(String nodeId, String key) {
+        return new DefaultMessage(
+            properties.channel().getBytes(StandardCharsets.UTF_8),
+            (nodeId + "|" + key).getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
@@ -0,0 +1,139 @@
+package io.coffeedia.infrastructure.cache.redis;
+
+import static io.coffeedia.TestContainerManager.REDIS_CONTAINER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.testcontainers.shaded.org.awaitility.Awaitility.await;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.coffeedia.infrastructure.cache.codec.JacksonCacheValueCodec;
+import io.coffeedia.infrastructure.cache.redis.RedisCircuitBreaker.State;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Set;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+@Tag("integration")
+@DisplayName("Redis 클라이언트 서킷 브레이커")
+class RedisClientTest {
+
+    private static final String KEY_PREFIX = "redis-client-test:";
+    private static final int MINIMUM_CALLS = 4;
+    private static final Duration OPEN_DURATION = Duration.ofMillis(300);
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final long FAST = Duration.ofMillis(1).toNanos();
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    private RedisCircuitBreaker circuitBreaker;
+    private RedisClient redisClient;
+
+    @BeforeAll
+    static void connect() {
+        REDIS_CONTAINER.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+            REDIS_CONTAINER.getHost(), REDIS_CONTAINER.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RedisTemplate<String, byte[]> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(RedisSerializer.string());
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        redisTemplate.afterPropertiesSet();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        circuitBreaker = new RedisCircuitBreaker(
+            new RedisCircuitBreakerProperties(true, 10, MINIMUM_CALLS, 50,
+                Duration.ofMillis(200), 80, OPEN_DURATION, 1),
+            meterRegistry
+        );
+        redisClient = new RedisClient(
+            redisTemplate,
+            stringRedisTemplate,
+            new JacksonCacheValueCodec(objectMapper, 1024),
+            objectMapper,
+            circuitBreaker,
+            new RedisInvalidationBacklog(meterRegistry),
+            new StaticListableBeanFactory().getBeanProvider(RedisTrackingCache.class)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        Set<String> keys = stringRedisTemplate.keys(KEY_PREFIX + "*");
+        if (keys != null && !keys.isEmpty()) {
+            stringRedisTemplate.delete(keys);
+        }
+    }
+
+    @Test
+    @DisplayName("서킷이 열려 있는 동안 삭제한 키는 복구된 뒤 다시 삭제된다")
+    void replaysDeleteDroppedWhileOpen() {
+        // given
+        String key = KEY_PREFIX + "detail";
+        redisClient.write(key, "before", Duration.ofMinutes(30));
+        tripCircuitBreaker();
+
+        // when
+        redisClient.delete(key);
+
+        // then
+        assertThat(stringRedisTemplate.hasKey(key)).isTrue();
+        await()
+            .atMost(TIMEOUT)
+            .pollInterval(Duration.ofMillis(50))
+            .until(() -> {
+                redisClient.exists(KEY_PREFIX + "probe");
+                return !stringRedisTemplate.hasKey(key);
+            });
+        assertThat(circuitBreaker.state()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("서킷이 열려 있는 동안 올리지 못한 세대는 복구된 뒤 올라간다")
+    void replaysGenerationBumpDroppedWhileOpen() {
+        // given
+        String key = KEY_PREFIX + "generation";
+        long before = redisClient.generation(key);
+        tripCircuitBreaker();
+
+        // when
+        long dropped = redisClient.incrementGeneration(key);
+
+        // then
+        assertThat(dropped).isZero();
+        await()
+            .atMost(TIMEOUT)
+            .pollInterval(Duration.ofMillis(50))
+            .until(() -> redisClient.generation(key) > before);
+    }
+
+    private void tripCircuitBreaker() {
+        for (int i = 0; i < MINIMUM_CALLS; i++) {
+            circuitBreaker.onError(FAST);
+        }
+        assertThat(circuitBreaker.state()).isEqualTo(State.OPEN);
+    }
+}
@@ -0,0 +1,179 @@
+package io.coffeedia.infrastructure.cache.redis;
+
+import static io.coffeedia.TestContainerManager.REDIS_CONTAINER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.testcontainers.shaded.org.awaitility.Awaitility.await;
+
+import io.lettuce.core.KillArgs;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("integration")
+@DisplayName("Redis 클라이언트 캐시")
+class RedisTrackingCacheTest {
+
+    private static final String KEY_PREFIX = "tracking-cache-test:";
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private static io.lettuce.core.RedisClient client;
+    private static StatefulRedisConnection<String, String> connection;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RedisTrackingCache trackingCache;
+
+    @BeforeAll
+    static void connect() {
+        REDIS_CONTAINER.start();
+        client = io.lettuce.core.RedisClient.create(redisUri());
+        connection = client.connect();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connection.close();
+        client.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (trackingCache != null) {
+            trackingCache.close();
+        }
+        List<String> keys = redis().keys(KEY_PREFIX + "*");
+        if (!keys.isEmpty()) {
+            redis().del(keys.toArray(String[]::new));
+        }
+    }
+
+    @Test
+    @DisplayName("읽은 키는 로컬 사본으로 응답하고, 다른 클라이언트가 바꾸면 무효화 메시지를 받아 새 값을 읽는다")
+    void evictsLocalCopyOnInvalidationPush() {
+        // given
+        String key = KEY_PREFIX + "invalidation";
+        redis().set(key, "before");
+        trackingCache = trackingCache(100);
+        read(key);
+
+        // when
+        String cached = read(key);
+        redis().set(key, "after");
+
+        // then
+        assertThat(cached).isEqualTo("before");
+        assertThat(requests("hit")).isEqualTo(1.0);
+        await()
+            .atMost(TIMEOUT)
+            .pollInterval(Duration.ofMillis(50))
+            .until(() -> "after".equals(read(key)));
+    }
+
+    @Test
+    @DisplayName("연결이 끊기면 로컬 사본을 비우고, 다시 연결되면 추적을 켜서 이후 변경도 무효화된다")
+    void clearsOnDisconnectAndRetracksOnReconnect() {
+        // given
+        String key = KEY_PREFIX + "reconnect";
+        redis().set(key, "before");
+        trackingCache = trackingCache(100);
+        read(key);
+        assertThat(localSize()).isEqualTo(1.0);
+
+        // when
+        long killed = redis().clientKill(KillArgs.Builder.id(trackingClientId().orElseThrow()));
+
+        // then
+        assertThat(killed).isEqualTo(1L);
+        await()
+            .atMost(TIMEOUT)
+            .pollInterval(Duration.ofMillis(50))
+            .until(() -> localSize() == 0.0 && trackingClientId().isPresent());
+
+        assertThat(read(key)).isEqualTo("before");
+        redis().set(key, "after");
+        await()
+            .atMost(TIMEOUT)
+            .pollInterval(Duration.ofMillis(50))
+            .until(() -> "after".equals(read(key)));
+    }
+
+    @Test
+    @DisplayName("로컬 사본은 최대 키 수를 넘지 않도록 제거된다")
+    void boundsLocalEntries() {
+        // given
+        trackingCache = trackingCache(2);
+        List<String> keys = IntStream.range(0, 10)
+            .mapToObj(i -> KEY_PREFIX + "bounded-" + i)
+            .toList();
+        keys.forEach(key -> redis().set(key, "value"));
+
+        // when
+        keys.forEach(this::read);
+
+        // then
+        await()
+            .atMost(TIMEOUT)
+            .pollInterval(Duration.ofMillis(50))
+            .until(() -> localSize() <= 2.0);
+    }
+
+    private RedisTrackingCache trackingCache(final long maximumSize) {
+        return new RedisTrackingCache(
+            redisUri(),
+            new RedisTrackingProperties(true, maximumSize, List.of(KEY_PREFIX)),
+            meterRegistry
+        );
+    }
+
+    private String read(final String key) {
+        byte[] value = trackingCache.get(key);
+        return value != null ? new String(value, StandardCharsets.UTF_8) : null;
+    }
+
+    private double localSize() {
+        return meterRegistry.get("cache.tracking.size").gauge().value();
+    }
+
+    private double requests(final String result) {
+        return meterRegistry.get("cache.tracking.requests").tag("result", result).counter().count();
+    }
+
+    /**
+     * CLIENT LIST 에서 추적(flags 에 t)이 켜진 연결의 id 를 찾습니다.
+     */
+    private static OptionalLong trackingClientId() {
+        return redis().clientList().lines()
+            .map(line -> Arrays.stream(line.split(" ")).toList())
+            .filter(fields -> fields.stream()
+                .anyMatch(field -> field.startsWith("flags=") && field.contains("t")))
+            .flatMap(fields -> fields.stream().filter(field -> field.startsWith("id=")))
+            .mapToLong(field -> Long.parseLong(field.substring("id=".length())))
+            .findFirst();
+    }
+
+    private static RedisCommands<String, String> redis() {
+        return connection.sync();
+    }
+
+    private static RedisURI redisUri() {
+        return RedisURI.create(REDIS_CONTAINER.getHost(), REDIS_CONTAINER.getMappedPort(6379));
+    }
+}
@@ -0,0 +1,147 @@
+package io.coffeedia.infrastructure.persistence.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.coffeedia.IntegrationSupportTest;
+import io.coffeedia.domain.model.Ingredient;
+import io.coffeedia.domain.model.Recipe;
+import io.coffeedia.domain.model.RecipeStep;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+@Import(RecipeDetailQueryTest.StatementCountingConfig.class)
+public class RecipeDetailQueryTest extends IntegrationSupportTest {
+
+    @AfterEach
+    void tearDown() {
+        cleanUpRecipes();
+    }
+
+    @Nested
+    @DisplayName("레시피 상세 조회")
+    class FindByIdTest {
+
+        @Test
+        @DisplayName("태그, 재료, 단계를 포함한 레시피 전체를 쿼리 한 번으로 조회한다")
+        void loadsAggregateInSingleQuery() {
+            // given
+            Recipe saved = createRecipe();
+
+            // when
+            StatementCounter.start();
+            Optional<Recipe> result = recipeRepository.findById(saved.id());
+            int statements = StatementCounter.stop();
+
+            // then
+            assertThat(statements).isEqualTo(1);
+            assertThat(result).hasValueSatisfying(recipe -> {
+                assertThat(recipe.title()).isEqualTo(saved.title());
+                assertThat(recipe.tags()).containsExactlyElementsOf(saved.tags());
+                assertThat(recipe.ingredients()).extracting(Ingredient::name)
+                    .containsExactly("원두", "물");
+                assertThat(recipe.ingredients()).extracting(Ingredient::recipeId)
+                    .containsOnly(saved.id());
+                assertThat(recipe.steps()).extracting(RecipeStep::sortOrder)
+                    .containsExactly(1, 2, 3);
+                assertThat(recipe.steps().get(2).imageUrl()).isNull();
+            });
+        }
+
+        @Test
+        @DisplayName("없는 레시피는 빈 값을 반환한다")
+        void returnsEmptyWhenMissing() {
+            // when
+            Optional<Recipe> result = recipeRepository.findById(Long.MAX_VALUE);
+
+            // then
+            assertThat(result).isEmpty();
+        }
+    }
+
+    /**
+     * 현재 스레드에서 만든 JDBC 문장 수를 셉니다. 스케줄러 등 다른 스레드의 쿼리는 세지 않습니다.
+     */
+    static class StatementCounter {
+
+        private static final ThreadLocal<AtomicInteger> COUNT = new ThreadLocal<>();
+
+        static void start() {
+            COUNT.set(new AtomicInteger());
+        }
+
+        static int stop() {
+            AtomicInteger count = COUNT.get();
+            COUNT.remove();
+            return count.get();
+        }
+
+        static void increment() {
+            AtomicInteger count = COUNT.get();
+            if (count != null) {
+                count.incrementAndGet();
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        @Bean
+        static BeanPostProcessor statementCountingPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(
+                    final Object bean,
+                    final String beanName
+                ) {
+                    if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                        return new StatementCountingDataSource(dataSource);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    static class StatementCountingDataSource extends DelegatingDataSource {
+
+        StatementCountingDataSource(final DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = obtainTargetDataSource().getConnection();
+            return (Connection) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.equals("prepareStatement") || name.equals("createStatement")
+                        || name.equals("prepareCall")) {
+                        StatementCounter.increment();
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                }
+            );
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package io.coffeedia.infrastructure.persistence.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.coffeedia.IntegrationSupportTest;
+import io.coffeedia.application.port.repository.RecipeSearchPort;
+import io.coffeedia.domain.model.Recipe;
+import io.coffeedia.domain.model.RecipeSearchResult;
+import io.coffeedia.domain.vo.SearchCursor;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+public class RecipeSearchAdapterTest extends IntegrationSupportTest {
+
+    @Autowired
+    private RecipeSearchPort searchPort;
+
+    @Autowired
+    private RecipeSearchBackfill searchBackfill;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        cleanUpRecipes();
+    }
+
+    @Nested
+    @DisplayName("레시피 검색")
+    class SearchTest {
+
+        @Test
+        @DisplayName("한글 단어의 일부로도 레시피를 찾는다")
+        void findsByPartOfKoreanWord() {
+            // given
+            Recipe saved = createRecipe();  // 제목: V60 핸드드립 커피
+            searchPort.refresh(saved.id());
+
+            // when
+            List<RecipeSearchResult> results = searchPort.search("드립", null, 10);
+
+            // then
+            assertThat(results).extracting(result -> result.summary().id())
+                .containsExactly(saved.id());
+        }
+
+        @Test
+        @DisplayName("검색어의 모든 단어를 포함한 레시피만 찾는다")
+        void matchesAllTerms() {
+            // given
+            Recipe saved = createRecipe();
+            searchPort.refresh(saved.id());
+
+            // when & then
+            assertThat(searchPort.search("v60 원두", null, 10)).hasSize(1);
+            assertThat(searchPort.search("v60 콜드브루", null, 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("커서를 따라가면 모든 결과를 중복 없이 조회한다")
+        void pagesWithCursor() {
+            // given
+            List<Long> ids = createRecipes(3).stream().map(Recipe::id).toList();
+            ids.forEach(searchPort::refresh);
+
+            // when
+            List<RecipeSearchResult> first = searchPort.search("핸드드립", null, 2);
+            RecipeSearchResult last = first.get(1);
+            List<RecipeSearchResult> second = searchPort.search("핸드드립",
+                new SearchCursor(last.score(), last.summary().id()), 2);
+
+            // then
+            List<Long> found = new ArrayList<>();
+            first.subList(0, 2).forEach(result -> found.add(result.summary().id()));
+            second.forEach(result -> found.add(result.summary().id()));
+            assertThat(first).hasSize(3);  // 다음 페이지 확인용 한 건 포함
+            assertThat(found).containsExactlyInAnyOrderElementsOf(ids);
+        }
+
+        @Test
+        @DisplayName("삭제하면 검색되지 않는다")
+        void excludesDeletedDocument() {
+            // given
+            Recipe saved = createRecipe();
+            searchPort.refresh(saved.id());
+
+            // when
+            searchPort.delete(saved.id());
+
+            // then
+            assertThat(searchPort.search("드립", null, 10)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("검색 문서 채우기")
+    class BackfillTest {
+
+        @Test
+        @DisplayName("검색 문서가 없는 기존 레시피도 채운 뒤에는 검색된다")
+        void backfillsRecipesWithoutDocument() {
+            // given
+            Recipe saved = createRecipe();
+
+            // when
+            long created = searchBackfill.backfill();
+
+            // then
+            assertThat(created).isGreaterThanOrEqualTo(1);
+            assertThat(searchPort.search("드립", null, 10))
+                .extracting(result -> result.summary().id())
+                .contains(saved.id());
+        }
+
+        @Test
+        @DisplayName("원본 수정일시가 더 오래된 원문으로는 최신 문서를 덮어쓰지 않는다")
+        void keepsNewerDocument() {
+            // given
+            Recipe saved = createRecipe();
+            searchPort.refresh(saved.id());
+            jdbcTemplate.update("""
+                UPDATE recipe_search_documents
+                SET document = to_tsvector('simple', '최신'),
+                    source_updated_at = LOCALTIMESTAMP + interval '1 day'
+                WHERE recipe_id = :recipeId
+                """, new MapSqlParameterSource("recipeId", saved.id()));
+
+            // when
+            searchPort.refresh(saved.id());
+
+            // then
+            assertThat(searchPort.search("최신", null, 10))
+                .extracting(result -> result.summary().id())
+                .containsExactly(saved.id());
+        }
+    }
+}
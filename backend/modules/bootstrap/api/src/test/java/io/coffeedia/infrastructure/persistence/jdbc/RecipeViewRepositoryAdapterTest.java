@@ -0,0 +1,113 @@
+package io.coffeedia.infrastructure.persistence.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.coffeedia.IntegrationSupportTest;
+import io.coffeedia.application.port.repository.RecipeViewRepositoryPort;
+import io.coffeedia.application.usecase.RebuildRecipeViewsUseCase;
+import io.coffeedia.application.usecase.dto.RebuildRecipeViewsResponse;
+import io.coffeedia.domain.model.Recipe;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+public class RecipeViewRepositoryAdapterTest extends IntegrationSupportTest {
+
+    @Autowired
+    private RecipeViewRepositoryPort viewRepository;
+
+    @Autowired
+    private RebuildRecipeViewsUseCase rebuildRecipeViewsUseCase;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        cleanUpRecipes();
+    }
+
+    @Nested
+    @DisplayName("읽기 모델 갱신")
+    class RefreshTest {
+
+        @Test
+        @DisplayName("정규화 테이블과 같은 레시피 상세를 문서로 만들어 기본 키로 조회한다")
+        void refreshesDocument() {
+            // given
+            Recipe saved = createRecipe();
+            Recipe normalized = recipeRepository.findById(saved.id()).orElseThrow();
+
+            // when
+            viewRepository.refresh(saved.id());
+
+            // then
+            assertThat(viewRepository.findById(saved.id())).hasValue(normalized);
+        }
+
+        @Test
+        @DisplayName("삭제하면 읽기 모델도 조회되지 않는다")
+        void deletesDocument() {
+            // given
+            Recipe saved = createRecipe();
+            viewRepository.refresh(saved.id());
+
+            // when
+            viewRepository.delete(saved.id());
+
+            // then
+            assertThat(viewRepository.findById(saved.id())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("원본 수정일시가 더 오래된 문서로는 최신 문서를 덮어쓰지 않는다")
+        void keepsNewerDocument() {
+            // given
+            Recipe saved = createRecipe();
+            viewRepository.refresh(saved.id());
+            jdbcTemplate.update("""
+                UPDATE recipe_views
+                SET document = jsonb_set(document, '{updatedAt}', to_jsonb(LOCALTIMESTAMP + interval '1 day'))
+                                   || jsonb_build_object('title', '더 최신 제목')
+                WHERE recipe_id = :recipeId
+                """, new MapSqlParameterSource("recipeId", saved.id()));
+
+            // when
+            viewRepository.refreshRange(saved.id() - 1, saved.id());
+
+            // then
+            assertThat(viewRepository.findById(saved.id())).hasValueSatisfying(view ->
+                assertThat(view.title()).isEqualTo("더 최신 제목"));
+        }
+    }
+
+    @Nested
+    @DisplayName("읽기 모델 재생성")
+    class RebuildTest {
+
+        @Test
+        @DisplayName("모든 레시피의 읽기 모델을 만들고 사라진 레시피의 읽기 모델은 지운다")
+        void rebuildsAllDocuments() {
+            // given
+            List<Recipe> recipes = createRecipes(3);
+            Recipe removed = recipes.get(0);
+            viewRepository.refresh(removed.id());
+            recipeRepository.deleteById(removed.id());
+
+            // when
+            RebuildRecipeViewsResponse response = rebuildRecipeViewsUseCase.invoke().join();
+
+            // then
+            assertThat(response.refreshed()).isGreaterThanOrEqualTo(2);
+            assertThat(viewRepository.findById(removed.id())).isEmpty();
+            recipes.subList(1, 3).forEach(recipe ->
+                assertThat(viewRepository.findById(recipe.id())).hasValueSatisfying(view ->
+                    assertThat(view.title()).isEqualTo(recipe.title())));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package io.coffeedia.infrastructure.persistence.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.coffeedia.IntegrationSupportTest;
+import io.coffeedia.domain.model.Ingredient;
+import io.coffeedia.domain.model.Recipe;
+import io.coffeedia.domain.model.RecipeStep;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class RecipeRepositoryAdapterTest extends IntegrationSupportTest {
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        cleanUpRecipes();
+    }
+
+    @Nested
+    @DisplayName("레시피 수정")
+    class UpdateTest {
+
+        @Test
+        @DisplayName("제목만 바꾸면 재료, 단계, 태그의 id 가 그대로 유지된다")
+        void keepsChildIdsWhenOnlyTitleChanges() {
+            // given
+            Recipe saved = createRecipe();
+            Recipe stored = recipeRepository.findById(saved.id()).orElseThrow();
+
+            // when
+            Recipe updated = update(copyOf(stored).title("오타 수정된 제목").build());
+
+            // then
+            Recipe reloaded = recipeRepository.findById(saved.id()).orElseThrow();
+            assertThat(updated.title()).isEqualTo("오타 수정된 제목");
+            assertThat(reloaded.title()).isEqualTo("오타 수정된 제목");
+            assertThat(reloaded.ingredients()).isEqualTo(stored.ingredients());
+            assertThat(reloaded.steps()).isEqualTo(stored.steps());
+            assertThat(reloaded.tags()).containsExactlyElementsOf(stored.tags());
+        }
+
+        @Test
+        @DisplayName("바뀐 자식만 고치고, 늘어난 항목은 추가하고 빠진 항목만 삭제한다")
+        void appliesOnlyChangedChildren() {
+            // given
+            Recipe saved = createRecipe();
+            Recipe stored = recipeRepository.findById(saved.id()).orElseThrow();
+            List<Ingredient> ingredients = List.of(
+                stored.ingredients().get(0),
+                Ingredient.builder()
+                    .name("물")
+                    .amount(BigDecimal.valueOf(250))
+                    .unit("ml")
+                    .build(),
+                Ingredient.builder()
+                    .name("얼음")
+                    .amount(BigDecimal.valueOf(100))
+                    .unit("g")
+                    .build()
+            );
+            List<RecipeStep> steps = stored.steps().subList(0, 2);
+            List<String> tags = List.of(stored.tags().get(0), "아이스");
+
+            // when
+            Recipe updated = update(copyOf(stored)
+                .ingredients(ingredients)
+                .steps(steps)
+                .tags(tags)
+                .build());
+
+            // then
+            assertThat(updated.ingredients()).extracting(Ingredient::id)
+                .startsWith(stored.ingredients().get(0).id(), stored.ingredients().get(1).id())
+                .hasSize(3);
+            assertThat(updated.ingredients().get(1).amount())
+                .isEqualByComparingTo(BigDecimal.valueOf(250));
+            assertThat(updated.steps()).extracting(RecipeStep::id)
+                .containsExactly(stored.steps().get(0).id(), stored.steps().get(1).id());
+            assertThat(updated.tags()).containsExactly(stored.tags().get(0), "아이스");
+
+            Recipe reloaded = recipeRepository.findById(saved.id()).orElseThrow();
+            assertThat(reloaded.ingredients()).extracting(Ingredient::id, Ingredient::name)
+                .containsExactlyElementsOf(updated.ingredients().stream()
+                    .map(it -> tuple(it.id(), it.name()))
+                    .toList());
+            assertThat(reloaded.steps()).isEqualTo(updated.steps());
+            assertThat(reloaded.tags()).containsExactlyElementsOf(updated.tags());
+        }
+
+        @Test
+        @DisplayName("태그 순서만 바꿔도 다시 읽은 태그가 명령의 순서를 따른다")
+        void keepsTagOrderOfCommand() {
+            // given
+            Recipe saved = createRecipe();
+            Recipe stored = recipeRepository.findById(saved.id()).orElseThrow();
+            List<String> tags = List.of(stored.tags().get(0), stored.tags().get(2),
+                stored.tags().get(1));
+
+            // when
+            Recipe updated = update(copyOf(stored).tags(tags).build());
+
+            // then
+            assertThat(updated.tags()).containsExactlyElementsOf(tags);
+            Recipe reloaded = recipeRepository.findById(saved.id()).orElseThrow();
+            assertThat(reloaded.tags()).containsExactlyElementsOf(tags);
+        }
+    }
+
+    private Recipe update(final Recipe recipe) {
+        return transactionTemplate.execute(status -> recipeRepository.update(recipe));
+    }
+
+    private static Recipe.RecipeBuilder copyOf(final Recipe recipe) {
+        return Recipe.builder()
+            .id(recipe.id())
+            .userId(recipe.userId())
+            .category(recipe.category())
+            .title(recipe.title())
+            .thumbnailUrl(recipe.thumbnailUrl())
+            .description(recipe.description())
+            .serving(recipe.serving())
+            .tags(recipe.tags())
+            .ingredients(recipe.ingredients())
+            .steps(recipe.steps())
+            .tips(recipe.tips())
+            .status(recipe.status())
+            .createdAt(recipe.createdAt())
+            .updatedAt(LocalDateTime.now());
+    }
+}
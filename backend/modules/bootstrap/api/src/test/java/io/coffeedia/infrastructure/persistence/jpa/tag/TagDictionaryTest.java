@@ -0,0 +1,146 @@
+package io.coffeedia.infrastructure.persistence.jpa.tag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.coffeedia.IntegrationSupportTest;
+import io.coffeedia.domain.model.Ingredient;
+import io.coffeedia.domain.model.Recipe;
+import io.coffeedia.domain.model.RecipeStep;
+import io.coffeedia.domain.vo.ActiveStatus;
+import io.coffeedia.domain.vo.CategoryType;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class TagDictionaryTest extends IntegrationSupportTest {
+
+    @Autowired
+    private TagDictionary tagDictionary;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        cleanUpRecipes();
+    }
+
+    @Nested
+    @DisplayName("태그 id 조회")
+    class ResolveTest {
+
+        @Test
+        @DisplayName("없는 태그는 생성하고 있는 태그는 기존 id 를 요청 순서대로 반환한다")
+        void createsMissingTags() {
+            // given
+            String prefix = uniquePrefix();
+            Map<String, Long> existing = tagDictionary.resolve(List.of(prefix + "기존"));
+
+            // when
+            Map<String, Long> result = tagDictionary.resolve(
+                List.of(prefix + "신규", prefix + "기존", prefix + "신규"));
+
+            // then
+            assertThat(result).containsOnlyKeys(prefix + "신규", prefix + "기존");
+            assertThat(result.keySet()).containsExactly(prefix + "신규", prefix + "기존");
+            assertThat(result.get(prefix + "기존")).isEqualTo(existing.get(prefix + "기존"));
+            assertThat(countTags(prefix)).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("동시 레시피 생성")
+    class ConcurrentSaveTest {
+
+        @Test
+        @DisplayName("여러 스레드가 겹치는 새 태그로 레시피를 만들어도 모두 성공하고 태그는 하나씩만 생성된다")
+        void createsOverlappingTagsOnce() throws Exception {
+            // given
+            String prefix = uniquePrefix();
+            int threads = 16;
+            List<String> sharedTags = List.of(prefix + "공통1", prefix + "공통2", prefix + "공통3");
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+
+            // when
+            List<CompletableFuture<Recipe>> futures = IntStream.range(0, threads)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                    awaitQuietly(start);
+                    // 스레드마다 순서를 바꾸고 고유 태그를 섞어 잠금 순서가 달라지도록 합니다.
+                    List<String> tags = i % 2 == 0
+                        ? List.of(sharedTags.get(0), sharedTags.get(1), sharedTags.get(2),
+                        prefix + "개별" + i)
+                        : List.of(prefix + "개별" + i, sharedTags.get(2), sharedTags.get(1),
+                            sharedTags.get(0));
+                    return recipeRepository.save(recipe(tags));
+                }, executor))
+                .toList();
+            start.countDown();
+            List<Recipe> saved = futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+            executor.shutdown();
+
+            // then
+            assertThat(saved).hasSize(threads)
+                .allSatisfy(recipe -> assertThat(recipe.tags()).containsAll(sharedTags));
+            assertThat(countTags(prefix)).isEqualTo(sharedTags.size() + threads);
+        }
+    }
+
+    private int countTags(final String prefix) {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM tags WHERE name LIKE ?", Integer.class, prefix + "%");
+        return count != null ? count : 0;
+    }
+
+    private static String uniquePrefix() {
+        return UUID.randomUUID().toString().substring(0, 8) + "-";
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Recipe recipe(final List<String> tags) {
+        return Recipe.builder()
+            .userId(1L)
+            .category(CategoryType.HAND_DRIP)
+            .title("동시 태그 생성 레시피")
+            .description("태그 동시 생성 테스트용 레시피입니다.")
+            .serving(1)
+            .tags(tags)
+            .ingredients(List.of(
+                Ingredient.builder()
+                    .name("원두")
+                    .amount(BigDecimal.valueOf(20))
+                    .unit("g")
+                    .build()
+            ))
+            .steps(List.of(
+                RecipeStep.builder()
+                    .sortOrder(1)
+                    .description("원두를 분쇄합니다.")
+                    .build()
+            ))
+            .status(ActiveStatus.ACTIVE)
+            .build();
+    }
+}
@@ -12,4 +12,20 @@ public interface RecipeEvent extends DomainEvent {
     ) implements RecipeEvent {
 
     }
+
+    @Builder
+    record RecipeUpdated(
+        Long recipeId,
+        LocalDateTime issuedAt
+    ) implements RecipeEvent {
+
+    }
+
+    @Builder
+    record RecipeDeleted(
+        Long recipeId,
+        LocalDateTime issuedAt
+    ) implements RecipeEvent {
+
+    }
 }
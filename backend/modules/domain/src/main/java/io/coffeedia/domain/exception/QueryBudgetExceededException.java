@@ -0,0 +1,29 @@
+package io.coffeedia.domain.exception;
+
+/**
+ * 유스케이스에 설정한 쿼리 시간 제한을 넘은 경우 발생하는 예외
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    private final String useCase;
+    private final String reason;
+
+    public QueryBudgetExceededException(
+        final String useCase,
+        final String reason,
+        final Throwable cause
+    ) {
+        super(String.format("요청의 DB 처리 시간이 제한을 초과했습니다. (유스케이스: %s, 사유: %s)",
+            useCase, reason), cause);
+        this.useCase = useCase;
+        this.reason = reason;
+    }
+
+    public String getUseCase() {
+        return useCase;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+}
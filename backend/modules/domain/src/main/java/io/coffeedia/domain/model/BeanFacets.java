@@ -0,0 +1,24 @@
+package io.coffeedia.domain.model;
+
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * 원두 검색 조건에 일치하는 원두의 항목별 개수
+ * <p>
+ * 각 목록은 개수가 많은 값부터 정렬되어 있습니다.
+ *
+ * @param total 조건에 일치하는 전체 원두 수
+ */
+@Builder
+public record BeanFacets(
+    long total,
+    List<FacetCount> roastLevels,
+    List<FacetCount> processTypes,
+    List<FacetCount> blendTypes,
+    List<FacetCount> decaf,
+    List<FacetCount> countries,
+    List<FacetCount> flavors
+) {
+
+}
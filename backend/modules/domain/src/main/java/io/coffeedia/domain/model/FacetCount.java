@@ -0,0 +1,18 @@
+package io.coffeedia.domain.model;
+
+import lombok.Builder;
+
+/**
+ * 검색 결과에서 한 항목 값에 해당하는 개수
+ *
+ * @param value 필터에 그대로 전달할 값 (enum 이름, 국가, flavor ID)
+ * @param label 화면에 보여줄 이름
+ */
+@Builder
+public record FacetCount(
+    String value,
+    String label,
+    long count
+) {
+
+}
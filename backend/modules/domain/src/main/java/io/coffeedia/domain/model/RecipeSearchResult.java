@@ -0,0 +1,16 @@
+package io.coffeedia.domain.model;
+
+import lombok.Builder;
+
+/**
+ * 레시피 검색 결과
+ *
+ * @param score 검색어와의 관련도 (클수록 먼저 노출)
+ */
+@Builder
+public record RecipeSearchResult(
+    RecipeSummary summary,
+    float score
+) {
+
+}
@@ -0,0 +1,49 @@
+package io.coffeedia.domain.vo;
+
+import java.util.List;
+import java.util.Objects;
+import lombok.Builder;
+
+/**
+ * 원두 검색 필터
+ * <p>
+ * 같은 항목 안의 값은 하나만 일치해도 되고(OR), 서로 다른 항목은 모두 일치해야 합니다(AND). 비어 있는 항목은 거르지 않습니다. 같은 조건이
+ * 같은 캐시 키가 되도록 값은 중복을 없애고 정렬해 보관합니다.
+ */
+@Builder
+public record BeanFilter(
+    List<RoastLevel> roastLevels,
+    List<ProcessType> processTypes,
+    List<BlendType> blendTypes,
+    Boolean isDecaf,
+    List<String> countries,
+    List<Long> flavorIds
+) {
+
+    public BeanFilter {
+        roastLevels = normalize(roastLevels);
+        processTypes = normalize(processTypes);
+        blendTypes = normalize(blendTypes);
+        countries = normalize(countries == null ? null : countries.stream()
+            .filter(Objects::nonNull)
+            .map(String::trim)
+            .filter(country -> !country.isEmpty())
+            .toList());
+        flavorIds = normalize(flavorIds);
+    }
+
+    public static BeanFilter none() {
+        return BeanFilter.builder().build();
+    }
+
+    private static <T extends Comparable<? super T>> List<T> normalize(final List<T> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream()
+            .filter(Objects::nonNull)
+            .distinct()
+            .sorted()
+            .toList();
+    }
+}
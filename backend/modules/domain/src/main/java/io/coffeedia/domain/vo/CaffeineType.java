@@ -0,0 +1,21 @@
+package io.coffeedia.domain.vo;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 원두의 카페인 여부 (원두 검색 항목의 표시 이름)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CaffeineType {
+    DECAF("디카페인"),
+    REGULAR("일반"),
+    ;
+
+    private final String description;
+
+    public static CaffeineType of(final boolean isDecaf) {
+        return isDecaf ? DECAF : REGULAR;
+    }
+}
@@ -0,0 +1,34 @@
+package io.coffeedia.domain.vo;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 필터 조회 결과 페이지의 위치 (마지막으로 읽은 레시피 id)
+ * <p>
+ * 다른 커서와 같이 Base64 로 인코딩한 불투명한 문자열로 전달해, 내부 id 를 그대로 노출하지 않습니다.
+ */
+public record FilterCursor(
+    Long id
+) {
+
+    public FilterCursor {
+        if (id == null) {
+            throw new IllegalArgumentException("커서 정보가 올바르지 않습니다.");
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static FilterCursor decode(final String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            return new FilterCursor(Long.parseLong(raw));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package io.coffeedia.domain.vo;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지의 위치 (마지막으로 읽은 행의 정렬 값과 id)
+ * <p>
+ * 클라이언트에는 정렬 타입까지 묶어 Base64 로 인코딩한 불투명한 문자열로 전달합니다.
+ */
+public record PageCursor(
+    SortType sort,
+    LocalDateTime createdAt,
+    Long id
+) {
+
+    private static final String DELIMITER = "|";
+
+    public PageCursor {
+        if (sort == null || createdAt == null || id == null) {
+            throw new IllegalArgumentException("커서 정보가 올바르지 않습니다.");
+        }
+    }
+
+    public boolean isAscending() {
+        return "asc".equals(sort.getDirection());
+    }
+
+    public String encode() {
+        String raw = sort.name() + DELIMITER + createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(final String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new PageCursor(
+                SortType.valueOf(parts[0]),
+                LocalDateTime.parse(parts[1]),
+                Long.parseLong(parts[2])
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
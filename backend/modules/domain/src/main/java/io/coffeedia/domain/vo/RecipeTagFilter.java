@@ -0,0 +1,44 @@
+package io.coffeedia.domain.vo;
+
+import java.util.List;
+import java.util.Objects;
+import lombok.Builder;
+
+/**
+ * 레시피 태그, 카테고리 필터
+ *
+ * @param allTags     모두 포함해야 하는 태그 (AND)
+ * @param anyTags     하나 이상 포함해야 하는 태그 (OR)
+ * @param excludeTags 포함하면 안 되는 태그 (NOT)
+ * @param categories  하나라도 일치해야 하는 카테고리 (비어 있으면 거르지 않음)
+ */
+@Builder
+public record RecipeTagFilter(
+    List<String> allTags,
+    List<String> anyTags,
+    List<String> excludeTags,
+    List<CategoryType> categories
+) {
+
+    public RecipeTagFilter {
+        allTags = normalizeTags(allTags);
+        anyTags = normalizeTags(anyTags);
+        excludeTags = normalizeTags(excludeTags);
+        categories = categories == null ? List.of() : categories.stream()
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+    }
+
+    private static List<String> normalizeTags(final List<String> tags) {
+        if (tags == null) {
+            return List.of();
+        }
+        return tags.stream()
+            .filter(Objects::nonNull)
+            .map(String::trim)
+            .filter(tag -> !tag.isEmpty())
+            .distinct()
+            .toList();
+    }
+}
@@ -0,0 +1,40 @@
+package io.coffeedia.domain.vo;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 검색 결과 페이지의 위치 (마지막으로 읽은 결과의 점수와 id)
+ */
+public record SearchCursor(
+    float score,
+    Long id
+) {
+
+    private static final String DELIMITER = "|";
+
+    public SearchCursor {
+        if (id == null) {
+            throw new IllegalArgumentException("커서 정보가 올바르지 않습니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = Float.toString(score) + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(final String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new SearchCursor(Float.parseFloat(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package io.coffeedia.infrastructure.cache.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.coffeedia.domain.model.Ingredient;
+import io.coffeedia.domain.model.Recipe;
+import io.coffeedia.domain.model.RecipeStep;
+import io.coffeedia.domain.vo.ActiveStatus;
+import io.coffeedia.domain.vo.CategoryType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+/**
+ * 기존 GenericJackson2JsonRedisSerializer + convertValue 경로와 CacheValueCodec 비교
+ * <p>
+ * 저장 크기는 encode 벤치마크의 보조 카운터(storedBytes)로 함께 보고합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CacheValueCodecBenchmark {
+
+    @Param({"2", "20"})
+    private int stepCount;
+
+    private ObjectMapper objectMapper;
+    private GenericJackson2JsonRedisSerializer genericSerializer;
+    private CacheValueCodec jsonCodec;
+    private CacheValueCodec smileCodec;
+    private JavaType recipeType;
+
+    private Recipe recipe;
+    private byte[] genericBytes;
+    private byte[] jsonBytes;
+    private byte[] smileBytes;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        genericSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+        jsonCodec = new JacksonCacheValueCodec(objectMapper, 1024);
+        smileCodec = new JacksonCacheValueCodec(objectMapper.copyWith(new SmileFactory()), 1024);
+        recipeType = objectMapper.constructType(Recipe.class);
+
+        recipe = sampleRecipe(stepCount);
+        genericBytes = genericSerializer.serialize(recipe);
+        jsonBytes = jsonCodec.encode(recipe);
+        smileBytes = smileCodec.encode(recipe);
+    }
+
+    @Benchmark
+    public byte[] encodeGenericJson(final StoredSize size) {
+        return size.record(genericSerializer.serialize(recipe));
+    }
+
+    @Benchmark
+    public byte[] encodeJsonCodec(final StoredSize size) {
+        return size.record(jsonCodec.encode(recipe));
+    }
+
+    @Benchmark
+    public byte[] encodeSmileCodec(final StoredSize size) {
+        return size.record(smileCodec.encode(recipe));
+    }
+
+    @Benchmark
+    public Recipe decodeGenericJson() {
+        Object value = genericSerializer.deserialize(genericBytes);
+        return objectMapper.convertValue(value, Recipe.class);
+    }
+
+    @Benchmark
+    public Recipe decodeJsonCodec() {
+        return jsonCodec.decode(jsonBytes, recipeType);
+    }
+
+    @Benchmark
+    public Recipe decodeSmileCodec() {
+        return smileCodec.decode(smileBytes, recipeType);
+    }
+
+    private static Recipe sampleRecipe(int stepCount) {
+        List<RecipeStep> steps = IntStream.rangeClosed(1, stepCount)
+            .mapToObj(order -> RecipeStep.builder()
+                .id((long) order)
+                .recipeId(1L)
+                .sortOrder(order)
+                .imageUrl("https://example.com/steps/" + order + ".jpg")
+                .description("원두 20g을 중간 굵기로 분쇄한 뒤 92도의 물로 " + order + "차 추출합니다.")
+                .build())
+            .toList();
+
+        return Recipe.builder()
+            .id(1L)
+            .userId(1L)
+            .category(CategoryType.HAND_DRIP)
+            .title("V60 핸드드립 커피")
+            .thumbnailUrl("https://example.com/v60-thumbnail.jpg")
+            .description("산미와 단맛의 균형을 맞춘 V60 핸드드립 레시피입니다.")
+            .serving(1)
+            .tags(List.of("핸드드립", "V60", "중급"))
+            .ingredients(List.of(
+                Ingredient.builder().id(1L).recipeId(1L).name("원두")
+                    .amount(BigDecimal.valueOf(20)).unit("g")
+                    .buyUrl("https://example.com/beans").build(),
+                Ingredient.builder().id(2L).recipeId(1L).name("물")
+                    .amount(BigDecimal.valueOf(300)).unit("ml").build()
+            ))
+            .steps(steps)
+            .tips("분쇄 굵기와 물 온도를 조절하여 취향에 맞게 조정하세요.")
+            .status(ActiveStatus.ACTIVE)
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build();
+    }
+
+    /**
+     * 마지막으로 인코딩한 값의 크기를 결과표에 보조 지표로 남깁니다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StoredSize {
+
+        public long storedBytes;
+
+        byte[] record(final byte[] encoded) {
+            storedBytes = encoded.length;
+            return encoded;
+        }
+    }
+}
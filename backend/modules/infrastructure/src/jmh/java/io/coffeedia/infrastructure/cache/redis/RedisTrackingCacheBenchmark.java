@@ -0,0 +1,98 @@
+package io.coffeedia.infrastructure.cache.redis;
+
+import io.lettuce.core.RedisURI;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * 기존 RedisTemplate 조회와 RESP3 클라이언트 캐시 조회 비교
+ * <p>
+ * 로컬 Redis 가 필요합니다. (기본 localhost:6379, -Dredis.host / -Dredis.port 로 변경)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RedisTrackingCacheBenchmark {
+
+    private static final String KEY_PREFIX = "bench:tracking:";
+
+    @Param({"100"})
+    private int keyCount;
+
+    @Param({"1024"})
+    private int valueSize;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, byte[]> redisTemplate;
+    private RedisTrackingCache trackingCache;
+    private List<String> keys;
+
+    @Setup
+    public void setUp() {
+        String host = System.getProperty("redis.host", "localhost");
+        int port = Integer.getInteger("redis.port", 6379);
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(RedisSerializer.string());
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        redisTemplate.afterPropertiesSet();
+
+        trackingCache = new RedisTrackingCache(
+            RedisURI.builder().withHost(host).withPort(port).withTimeout(Duration.ofSeconds(1))
+                .build(),
+            new RedisTrackingProperties(true, 10_000, List.of(KEY_PREFIX)),
+            new SimpleMeterRegistry()
+        );
+
+        byte[] value = new byte[valueSize];
+        keys = IntStream.range(0, keyCount)
+            .mapToObj(i -> KEY_PREFIX + i)
+            .toList();
+        keys.forEach(key -> redisTemplate.opsForValue().set(key, value));
+        // 한 번씩 읽어 추적을 시작해 둡니다.
+        keys.forEach(trackingCache::get);
+    }
+
+    @TearDown
+    public void tearDown() {
+        redisTemplate.delete(keys);
+        trackingCache.close();
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public byte[] redisTemplateGet() {
+        return redisTemplate.opsForValue().get(randomKey());
+    }
+
+    @Benchmark
+    public byte[] trackingCacheGet() {
+        return trackingCache.get(randomKey());
+    }
+
+    private String randomKey() {
+        return keys.get(ThreadLocalRandom.current().nextInt(keys.size()));
+    }
+}
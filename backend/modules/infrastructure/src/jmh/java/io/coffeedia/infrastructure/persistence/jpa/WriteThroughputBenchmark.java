@@ -0,0 +1,191 @@
+package io.coffeedia.infrastructure.persistence.jpa;
+
+import io.coffeedia.domain.model.Ingredient;
+import io.coffeedia.domain.model.Recipe;
+import io.coffeedia.domain.model.RecipeStep;
+import io.coffeedia.domain.vo.ActiveStatus;
+import io.coffeedia.domain.vo.BlendType;
+import io.coffeedia.domain.vo.CategoryType;
+import io.coffeedia.domain.vo.Origin;
+import io.coffeedia.domain.vo.ProcessType;
+import io.coffeedia.domain.vo.RoastLevel;
+import io.coffeedia.infrastructure.persistence.jpa.entity.BeanJpaEntity;
+import io.coffeedia.infrastructure.persistence.jpa.entity.FlavorJpaEntity;
+import io.coffeedia.infrastructure.persistence.jpa.entity.RecipeJpaEntity;
+import io.coffeedia.infrastructure.persistence.jpa.entity.TagJpaEntity;
+import io.coffeedia.infrastructure.persistence.jpa.mapper.RecipeJpaMapper;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 레시피 생성(재료 15, 단계 10, 태그 5)과 원두 일괄 생성(원두 100, 원두당 flavor 3)의 쓰기 처리량
+ * <p>
+ * batchSize 0 은 배치 없이 한 행씩 INSERT 하는 기존 동작과 같은 왕복 수를 보냅니다. 실행 중인 PostgreSQL 이 필요하며,
+ * jmh.db.url / jmh.db.username / jmh.db.password 시스템 프로퍼티로 접속 정보를 바꿀 수 있습니다. 스키마는 별도 네임스페이스(bench)에
+ * 만들고 종료 시 지웁니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class WriteThroughputBenchmark {
+
+    private static final int INGREDIENT_COUNT = 15;
+    private static final int STEP_COUNT = 10;
+    private static final int TAG_COUNT = 5;
+    private static final int BEAN_COUNT = 100;
+    private static final int FLAVORS_PER_BEAN = 3;
+
+    @Param({"0", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+
+    private Recipe recipe;
+    private List<TagJpaEntity> tags;
+    private List<FlavorJpaEntity> flavors;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchmarkJpaConfig.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=" + System.getProperty("jmh.db.url",
+                    "jdbc:postgresql://localhost:5432/coffeedia_db?reWriteBatchedInserts=true"),
+                "spring.datasource.username=" + System.getProperty("jmh.db.username", "user"),
+                "spring.datasource.password=" + System.getProperty("jmh.db.password", "password"),
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.jpa.properties.hibernate.default_schema=bench",
+                "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true",
+                "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "spring.jpa.properties.hibernate.order_inserts=true"
+            )
+            .run();
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        tags = transactionTemplate.execute(status -> IntStream.rangeClosed(1, TAG_COUNT)
+            .mapToObj(i -> {
+                TagJpaEntity tag = TagJpaEntity.builder().name("태그" + i).build();
+                entityManager.persist(tag);
+                return tag;
+            })
+            .toList());
+        flavors = transactionTemplate.execute(status -> IntStream.rangeClosed(1, FLAVORS_PER_BEAN)
+            .mapToObj(i -> {
+                FlavorJpaEntity flavor = FlavorJpaEntity.builder().name("flavor" + i).build();
+                entityManager.persist(flavor);
+                return flavor;
+            })
+            .toList());
+        recipe = sampleRecipe();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long createRecipe() {
+        return transactionTemplate.execute(status -> {
+            RecipeJpaEntity entity = RecipeJpaMapper.toEntity(recipe, tags);
+            entityManager.persist(entity);
+            entityManager.flush();
+            entityManager.clear();
+            return entity.getId();
+        });
+    }
+
+    @Benchmark
+    public int createBeans() {
+        return transactionTemplate.execute(status -> {
+            for (int i = 0; i < BEAN_COUNT; i++) {
+                BeanJpaEntity bean = sampleBean(i);
+                bean.addFlavors(flavors);
+                entityManager.persist(bean);
+            }
+            entityManager.flush();
+            entityManager.clear();
+            return BEAN_COUNT;
+        });
+    }
+
+    private static Recipe sampleRecipe() {
+        List<Ingredient> ingredients = IntStream.rangeClosed(1, INGREDIENT_COUNT)
+            .mapToObj(i -> Ingredient.builder()
+                .name("재료" + i)
+                .amount(BigDecimal.valueOf(i))
+                .unit("g")
+                .build())
+            .toList();
+        List<RecipeStep> steps = IntStream.rangeClosed(1, STEP_COUNT)
+            .mapToObj(order -> RecipeStep.builder()
+                .sortOrder(order)
+                .description(order + "단계: 원두를 분쇄하고 물을 붓습니다.")
+                .build())
+            .toList();
+
+        return Recipe.builder()
+            .userId(1L)
+            .category(CategoryType.HAND_DRIP)
+            .title("V60 핸드드립 커피")
+            .serving(1)
+            .ingredients(ingredients)
+            .steps(steps)
+            .status(ActiveStatus.ACTIVE)
+            .build();
+    }
+
+    private static BeanJpaEntity sampleBean(final int index) {
+        return BeanJpaEntity.builder()
+            .userId(1L)
+            .name("벤치마크 원두 " + index)
+            .origin(new Origin("에티오피아", "예가체프"))
+            .roaster("벤치마크 로스터")
+            .roastDate(LocalDate.now())
+            .grams(250)
+            .roastLevel(RoastLevel.MEDIUM)
+            .processType(ProcessType.WASHED)
+            .blendType(BlendType.SINGLE_ORIGIN)
+            .status(ActiveStatus.ACTIVE)
+            .build();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableJpaAuditing
+    @EntityScan(basePackageClasses = RecipeJpaEntity.class)
+    @ImportAutoConfiguration({
+        DataSourceAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        TransactionAutoConfiguration.class
+    })
+    static class BenchmarkJpaConfig {
+
+    }
+}
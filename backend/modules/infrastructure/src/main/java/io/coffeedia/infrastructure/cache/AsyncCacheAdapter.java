@@ -0,0 +1,36 @@
+package io.coffeedia.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.coffeedia.application.port.cache.AsyncCachePort;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+class AsyncCacheAdapter implements AsyncCachePort {
+
+    private final AsyncCacheClient asyncCacheClient;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public CompletableFuture<Boolean> exists(final String key) {
+        return asyncCacheClient.existsAsync(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> read(final String key, final Class<T> valueType) {
+        return asyncCacheClient.readAsync(key, objectMapper.constructType(valueType));
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> write(final String key, final T value, final Duration ttl) {
+        return asyncCacheClient.writeAsync(key, value, ttl);
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(final String key) {
+        return asyncCacheClient.deleteAsync(key);
+    }
+}
@@ -0,0 +1,35 @@
+package io.coffeedia.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Lettuce 비동기 명령 기반 캐시 클라이언트
+ * <p>
+ * 반환된 future 는 Lettuce 이벤트 루프에서 완료되므로, 후속 작업에서 블로킹 호출을 하지 않아야 합니다.
+ */
+public interface AsyncCacheClient {
+
+    CompletableFuture<Boolean> existsAsync(String key);
+
+    <T> CompletableFuture<T> readAsync(String key, JavaType valueType);
+
+    <T> CompletableFuture<Void> writeAsync(String key, T value, Duration ttl);
+
+    /**
+     * 캐시 미스로 적재한 값을 적재 잠금을 가진 경우에만 저장합니다.
+     *
+     * @see CacheClient#fill(String, Object, Duration, String)
+     */
+    <T> CompletableFuture<Boolean> fillAsync(String key, T value, Duration ttl, String token);
+
+    CompletableFuture<Void> deleteAsync(String key);
+
+    CompletableFuture<Void> publishAsync(String channel, String message);
+
+    /**
+     * 획득한 토큰과 일치하는 경우에만 잠금을 해제합니다.
+     */
+    CompletableFuture<Void> unlockAsync(String key, String token);
+}
@@ -1,7 +1,13 @@
 package io.coffeedia.infrastructure.cache;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.coffeedia.application.port.cache.CachePort;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -10,6 +16,8 @@ import org.springframework.stereotype.Component;
 class CacheAdapter implements CachePort {
 
     private final CacheClient cacheClient;
+    private final SingleFlightLoader singleFlightLoader;
+    private final ObjectMapper objectMapper;
 
     @Override
     public boolean exists(final String key) {
@@ -35,4 +43,69 @@ class CacheAdapter implements CachePort {
     public void delete(final String key) {
         cacheClient.delete(key);
     }
+
+    @Override
+    public <T> Map<String, T> readAll(final Collection<String> keys, final Class<T> valueType) {
+        return cacheClient.readAll(keys, valueType);
+    }
+
+    @Override
+    public <T> void writeAll(final Map<String, T> values, final Duration ttl) {
+        cacheClient.writeAll(values, ttl);
+    }
+
+    @Override
+    public void deleteAll(final Collection<String> keys) {
+        cacheClient.deleteAll(keys);
+    }
+
+    @Override
+    public <T> T getOrLoad(
+        final String key,
+        final Class<T> valueType,
+        final Duration ttl,
+        final Supplier<T> loader
+    ) {
+        return singleFlightLoader.getOrLoad(
+            key, objectMapper.constructType(valueType), ttl, loader
+        );
+    }
+
+    @Override
+    public <T> Optional<T> getOrLoadOptional(
+        final String key,
+        final Class<T> valueType,
+        final Duration ttl,
+        final Duration negativeTtl,
+        final Supplier<Optional<T>> loader
+    ) {
+        return singleFlightLoader.getOrLoadOptional(
+            key, objectMapper.constructType(valueType), ttl, negativeTtl, loader
+        );
+    }
+
+    @Override
+    public <T> List<T> getOrLoadList(
+        final String key,
+        final Class<T> elementType,
+        final Duration ttl,
+        final Supplier<List<T>> loader
+    ) {
+        return singleFlightLoader.getOrLoad(
+            key,
+            objectMapper.getTypeFactory().constructCollectionType(List.class, elementType),
+            ttl,
+            loader
+        );
+    }
+
+    @Override
+    public long generation(final String generationKey) {
+        return cacheClient.generation(generationKey);
+    }
+
+    @Override
+    public void bumpGeneration(final String generationKey) {
+        cacheClient.incrementGeneration(generationKey);
+    }
 }
@@ -1,16 +1,71 @@
 package io.coffeedia.infrastructure.cache;
 
+import com.fasterxml.jackson.databind.JavaType;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
 
 public interface CacheClient {
 
+    String LOCK_SUFFIX = ":lock";
+
+    /**
+     * 캐시 미스 적재 잠금 키
+     * <p>
+     * 쓰기와 삭제는 이 키도 함께 지워, 그 이전에 시작한 적재가 이전 값을 다시 채우지 못하게 합니다.
+     */
+    static String lockKey(final String key) {
+        return key + LOCK_SUFFIX;
+    }
+
     boolean exists(String key);
 
     String read(String key);
 
     <T> T read(String key, Class<T> valueType);
 
+    /**
+     * 제네릭 타입(List, 래퍼 레코드 등)을 그대로 읽기 위한 조회
+     */
+    <T> T read(String key, JavaType valueType);
+
     <T> void write(String key, T value, Duration ttl);
 
+    /**
+     * 캐시 미스로 적재한 값을 적재 잠금을 가진 경우에만 저장합니다. 적재 도중 키가 쓰이거나 삭제되면 잠금도 지워지므로 저장하지 않습니다.
+     * 값이 바뀐 것이 아니므로 다른 노드에 무효화를 알리지 않습니다.
+     *
+     * @param token 적재 잠금 토큰
+     * @return 저장 여부
+     */
+    <T> boolean fill(String key, T value, Duration ttl, String token);
+
     void delete(String key);
+
+    <T> Map<String, T> readAll(Collection<String> keys, Class<T> valueType);
+
+    <T> void writeAll(Map<String, T> values, Duration ttl);
+
+    void deleteAll(Collection<String> keys);
+
+    /**
+     * 세대 번호를 조회하며, 없으면 현재 시각(epoch 밀리초)으로 초기화합니다.
+     * <p>
+     * 세대 키가 유실되더라도 이전 세대 번호와 겹치지 않도록 1 이 아닌 현재 시각에서 시작합니다.
+     */
+    long generation(String key);
+
+    long incrementGeneration(String key);
+
+    void publish(String channel, String message);
+
+    /**
+     * 짧은 시간 동안 유지되는 분산 잠금을 획득합니다.
+     */
+    boolean tryLock(String key, String token, Duration ttl);
+
+    /**
+     * 획득한 토큰과 일치하는 경우에만 잠금을 해제합니다.
+     */
+    void unlock(String key, String token);
 }
@@ -0,0 +1,16 @@
+package io.coffeedia.infrastructure.cache;
+
+/**
+ * getOrLoad 로 적재한 값과 조기 갱신 판단에 필요한 메타데이터
+ *
+ * @param value     캐시된 값
+ * @param delta     값을 적재하는 데 걸린 시간 (밀리초)
+ * @param expiresAt 논리적 만료 시각 (epoch 밀리초)
+ */
+record CacheEnvelope<T>(
+    T value,
+    long delta,
+    long expiresAt
+) {
+
+}
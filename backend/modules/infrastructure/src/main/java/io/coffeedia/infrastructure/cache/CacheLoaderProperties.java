@@ -0,0 +1,23 @@
+package io.coffeedia.infrastructure.cache;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * getOrLoad 적재 설정
+ *
+ * @param lockTtl      노드 간 적재 잠금 유지 시간
+ * @param pollInterval 다른 노드의 적재 결과를 기다리는 동안의 조회 간격
+ * @param beta         조기 갱신 강도 (클수록 만료 전에 더 일찍 갱신)
+ * @param writeBehind  적재한 값을 비동기로 캐시에 기록할지 여부 (요청 스레드가 Redis 쓰기를 기다리지 않음)
+ */
+@ConfigurationProperties(prefix = "app.cache.loader")
+public record CacheLoaderProperties(
+    @DefaultValue("3s") Duration lockTtl,
+    @DefaultValue("50ms") Duration pollInterval,
+    @DefaultValue("1.0") double beta,
+    @DefaultValue("false") boolean writeBehind
+) {
+
+}
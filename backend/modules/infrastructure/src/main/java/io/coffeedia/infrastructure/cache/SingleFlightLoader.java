@@ -0,0 +1,297 @@
+package io.coffeedia.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시 미스 시 같은 키에 대한 적재를 하나로 합치는 로더
+ * <p>
+ * 노드 내에서는 진행 중인 적재 결과를 공유하고, 노드 간에는 짧은 Redis 잠금으로 한 노드만 적재하도록 합니다. 또한 XFetch 방식으로
+ * 만료가 가까워진 키를 확률적으로 미리 갱신해 만료 시점에 요청이 몰리지 않도록 합니다.
+ * <p>
+ * 네거티브 캐시를 사용하면 적재 결과가 비어 있을 때 값이 없는 봉투(툼스톤)를 짧게 저장해, 존재하지 않는 키에 대한 반복 조회가 저장소까지
+ * 내려가지 않도록 합니다.
+ */
+@Slf4j
+@Component
+class SingleFlightLoader {
+
+    private final CacheClient cacheClient;
+    private final AsyncCacheClient asyncCacheClient;
+    private final ObjectMapper objectMapper;
+    private final CacheLoaderProperties properties;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter loaded;
+    private final Counter coalesced;
+    private final Counter remoteCoalesced;
+    private final Counter earlyRefreshed;
+    private final Counter negativeHits;
+    private final Counter negativeStored;
+
+    SingleFlightLoader(
+        final CacheClient cacheClient,
+        final AsyncCacheClient asyncCacheClient,
+        final ObjectMapper objectMapper,
+        final CacheLoaderProperties properties,
+        final MeterRegistry meterRegistry
+    ) {
+        this.cacheClient = cacheClient;
+        this.asyncCacheClient = asyncCacheClient;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.loaded = loadCounter(meterRegistry, "loaded");
+        this.coalesced = loadCounter(meterRegistry, "coalesced");
+        this.remoteCoalesced = loadCounter(meterRegistry, "remote_coalesced");
+        this.earlyRefreshed = loadCounter(meterRegistry, "early_refresh");
+        this.negativeHits = negativeCounter(meterRegistry, "hit");
+        this.negativeStored = negativeCounter(meterRegistry, "stored");
+    }
+
+    <T> T getOrLoad(
+        final String key,
+        final JavaType valueType,
+        final Duration ttl,
+        final Supplier<T> loader
+    ) {
+        return getOrLoad(key, valueType, ttl, null, loader);
+    }
+
+    <T> Optional<T> getOrLoadOptional(
+        final String key,
+        final JavaType valueType,
+        final Duration ttl,
+        final Duration negativeTtl,
+        final Supplier<Optional<T>> loader
+    ) {
+        T value = getOrLoad(key, valueType, ttl, negativeTtl, () -> loader.get().orElse(null));
+        return Optional.ofNullable(value);
+    }
+
+    private <T> T getOrLoad(
+        final String key,
+        final JavaType valueType,
+        final Duration ttl,
+        final Duration negativeTtl,
+        final Supplier<T> loader
+    ) {
+        JavaType envelopeType = objectMapper.getTypeFactory()
+            .constructParametricType(CacheEnvelope.class, valueType);
+        CacheEnvelope<T> cached = cacheClient.read(key, envelopeType);
+        if (cached != null && cached.value() == null) {
+            negativeHits.increment();
+            return null;
+        }
+        if (cached != null && !shouldRefreshEarly(cached)) {
+            return cached.value();
+        }
+        if (cached != null) {
+            earlyRefreshed.increment();
+        }
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            // 조기 갱신 중이라면 기다리지 않고 아직 유효한 값을 반환합니다.
+            if (cached != null) {
+                return cached.value();
+            }
+            return await(existing);
+        }
+
+        try {
+            T value = loadAcrossNodes(key, envelopeType, ttl, negativeTtl, loader, cached);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private <T> T loadAcrossNodes(
+        final String key,
+        final JavaType envelopeType,
+        final Duration ttl,
+        final Duration negativeTtl,
+        final Supplier<T> loader,
+        final CacheEnvelope<T> cached
+    ) {
+        String lockKey = CacheClient.lockKey(key);
+        String token = UUID.randomUUID().toString();
+        if (cacheClient.tryLock(lockKey, token, properties.lockTtl())) {
+            return loadWithLock(key, ttl, negativeTtl, loader, lockKey, token);
+        }
+
+        // 다른 노드가 갱신 중이면 기존 값을 그대로 사용합니다.
+        if (cached != null) {
+            remoteCoalesced.increment();
+            return cached.value();
+        }
+
+        long deadline = System.nanoTime() + properties.lockTtl().toNanos();
+        while (System.nanoTime() < deadline) {
+            sleep(properties.pollInterval());
+
+            CacheEnvelope<T> loadedByOther = cacheClient.read(key, envelopeType);
+            if (loadedByOther != null) {
+                remoteCoalesced.increment();
+                return loadedByOther.value();
+            }
+
+            // 잠금을 가진 노드가 값을 쓰지 못하고 끝난 경우 직접 적재합니다.
+            if (cacheClient.tryLock(lockKey, token, properties.lockTtl())) {
+                return loadWithLock(key, ttl, negativeTtl, loader, lockKey, token);
+            }
+        }
+
+        // 잠금이 없으므로 적재한 값은 저장하지 않습니다.
+        log.warn("Cache load lock wait timed out for key: {}", key);
+        return load(ttl, negativeTtl, loader).value();
+    }
+
+    /**
+     * 적재한 값은 잠금을 가진 경우에만 저장하며, 저장이 반영된 뒤에 잠금을 풉니다. 저장 전에 잠금을 풀면 다른 노드가 캐시 미스를 보고 다시
+     * 적재하게 됩니다. 적재 도중 키가 쓰이거나 삭제되면 잠금도 지워지므로, 그 이전에 읽은 값으로 캐시를 다시 채우지 않습니다. 적재가 잠금
+     * 유지 시간(lock-ttl)보다 오래 걸려 잠금이 만료된 경우에도 저장하지 않습니다.
+     */
+    private <T> T loadWithLock(
+        final String key,
+        final Duration ttl,
+        final Duration negativeTtl,
+        final Supplier<T> loader,
+        final String lockKey,
+        final String token
+    ) {
+        Loaded<T> result;
+        try {
+            result = load(ttl, negativeTtl, loader);
+        } catch (RuntimeException e) {
+            cacheClient.unlock(lockKey, token);
+            throw e;
+        }
+
+        if (result.envelope() == null) {
+            cacheClient.unlock(lockKey, token);
+            return result.value();
+        }
+
+        if (properties.writeBehind()) {
+            asyncCacheClient.fillAsync(key, result.envelope(), result.ttl(), token)
+                .whenComplete((stored, error) -> {
+                    countNegativeStored(result, stored);
+                    asyncCacheClient.unlockAsync(lockKey, token);
+                });
+            return result.value();
+        }
+
+        try {
+            boolean stored = cacheClient.fill(key, result.envelope(), result.ttl(), token);
+            countNegativeStored(result, stored);
+        } finally {
+            cacheClient.unlock(lockKey, token);
+        }
+        return result.value();
+    }
+
+    private <T> Loaded<T> load(
+        final Duration ttl,
+        final Duration negativeTtl,
+        final Supplier<T> loader
+    ) {
+        long startedAt = System.currentTimeMillis();
+        T value = loader.get();
+        long finishedAt = System.currentTimeMillis();
+        loaded.increment();
+
+        if (value != null && hasTtl(ttl)) {
+            return new Loaded<>(value,
+                new CacheEnvelope<>(value, finishedAt - startedAt, finishedAt + ttl.toMillis()),
+                ttl);
+        }
+        if (value == null && hasTtl(negativeTtl)) {
+            return new Loaded<>(null,
+                new CacheEnvelope<>(null, finishedAt - startedAt,
+                    finishedAt + negativeTtl.toMillis()),
+                negativeTtl);
+        }
+        return new Loaded<>(value, null, null);
+    }
+
+    private void countNegativeStored(final Loaded<?> loaded, final Boolean stored) {
+        if (loaded.value() == null && Boolean.TRUE.equals(stored)) {
+            negativeStored.increment();
+        }
+    }
+
+    /**
+     * XFetch: now - delta * beta * ln(rand) >= expiry 이면 만료 전이라도 갱신합니다.
+     */
+    private boolean shouldRefreshEarly(final CacheEnvelope<?> envelope) {
+        double random = ThreadLocalRandom.current().nextDouble();
+        double gap = envelope.delta() * properties.beta() * Math.log(random);
+        return System.currentTimeMillis() - gap >= envelope.expiresAt();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T await(final CompletableFuture<Object> future) {
+        try {
+            return (T) future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static void sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("캐시 적재 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+    private static boolean hasTtl(final Duration ttl) {
+        return ttl != null && !ttl.isNegative() && !ttl.isZero();
+    }
+
+    private static Counter loadCounter(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("cache.loads")
+            .tag("result", result)
+            .description("getOrLoad 적재 결과별 요청 수")
+            .register(meterRegistry);
+    }
+
+    private static Counter negativeCounter(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("cache.negative")
+            .tag("result", result)
+            .description("네거티브 캐시(툼스톤) 적중 및 저장 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 적재 결과와 저장할 봉투 (저장하지 않으면 envelope 와 ttl 은 null)
+     */
+    private record Loaded<T>(T value, CacheEnvelope<T> envelope, Duration ttl) {
+
+    }
+}
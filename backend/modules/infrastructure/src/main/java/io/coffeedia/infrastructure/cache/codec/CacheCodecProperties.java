@@ -0,0 +1,22 @@
+package io.coffeedia.infrastructure.cache.codec;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 캐시 값 직렬화 설정
+ *
+ * @param type                 직렬화 형식
+ * @param compressionThreshold 이 크기(바이트) 이상인 값은 LZ4 로 압축
+ */
+@ConfigurationProperties(prefix = "app.cache.codec")
+public record CacheCodecProperties(
+    @DefaultValue("SMILE") CodecType type,
+    @DefaultValue("1024") int compressionThreshold
+) {
+
+    public enum CodecType {
+        JSON,
+        SMILE,
+    }
+}
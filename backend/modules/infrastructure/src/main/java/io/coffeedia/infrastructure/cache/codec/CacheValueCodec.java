@@ -0,0 +1,18 @@
+package io.coffeedia.infrastructure.cache.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+
+/**
+ * Redis 에 저장할 캐시 값의 직렬화 방식
+ */
+public interface CacheValueCodec {
+
+    byte[] encode(Object value);
+
+    /**
+     * 저장된 값을 중간 Map 변환 없이 대상 타입으로 바로 역직렬화합니다.
+     *
+     * @throws IllegalArgumentException 대상 타입으로 읽을 수 없는 값인 경우
+     */
+    <T> T decode(byte[] bytes, JavaType valueType);
+}
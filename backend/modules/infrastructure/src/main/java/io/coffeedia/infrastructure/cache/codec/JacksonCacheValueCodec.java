@@ -0,0 +1,85 @@
+package io.coffeedia.infrastructure.cache.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+/**
+ * Jackson 기반 캐시 값 코덱
+ * <p>
+ * 타입 메타데이터(@class) 없이 값만 저장하고, 조회 시 호출자가 지정한 타입으로 바로 읽습니다. 직렬화 결과가 임계값 이상이면 LZ4 로
+ * 압축하며, 첫 바이트에 압축 여부를 기록합니다.
+ * <pre>
+ * [0x00][payload]
+ * [0x01][원본 길이(4바이트)][LZ4 payload]
+ * </pre>
+ */
+public class JacksonCacheValueCodec implements CacheValueCodec {
+
+    private static final byte RAW = 0x00;
+    private static final byte LZ4 = 0x01;
+    private static final int HEADER_SIZE = 1;
+    private static final int LENGTH_SIZE = Integer.BYTES;
+
+    private final ObjectMapper objectMapper;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+
+    public JacksonCacheValueCodec(final ObjectMapper objectMapper, final int compressionThreshold) {
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+        this.objectMapper = objectMapper;
+        this.compressionThreshold = compressionThreshold;
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.fastDecompressor();
+    }
+
+    @Override
+    public byte[] encode(final Object value) {
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("캐시 값을 직렬화할 수 없습니다.", e);
+        }
+
+        if (payload.length < compressionThreshold) {
+            return ByteBuffer.allocate(HEADER_SIZE + payload.length)
+                .put(RAW)
+                .put(payload)
+                .array();
+        }
+
+        byte[] compressed = compressor.compress(payload);
+        return ByteBuffer.allocate(HEADER_SIZE + LENGTH_SIZE + compressed.length)
+            .put(LZ4)
+            .putInt(payload.length)
+            .put(compressed)
+            .array();
+    }
+
+    @Override
+    public <T> T decode(final byte[] bytes, final JavaType valueType) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try {
+            if (bytes[0] == LZ4) {
+                int length = ByteBuffer.wrap(bytes, HEADER_SIZE, LENGTH_SIZE).getInt();
+                byte[] payload = decompressor.decompress(bytes, HEADER_SIZE + LENGTH_SIZE, length);
+                return objectMapper.readValue(payload, valueType);
+            }
+            return objectMapper.readValue(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE,
+                valueType);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(
+                "캐시 값을 " + valueType.getRawClass().getSimpleName() + " 타입으로 읽을 수 없습니다.", e
+            );
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package io.coffeedia.infrastructure.cache.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.coffeedia.infrastructure.cache.CacheLoaderProperties;
+import io.coffeedia.infrastructure.cache.codec.CacheCodecProperties;
+import io.coffeedia.infrastructure.cache.codec.CacheValueCodec;
+import io.coffeedia.infrastructure.cache.codec.JacksonCacheValueCodec;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({CacheLoaderProperties.class, CacheCodecProperties.class})
+public class CacheConfig {
+
+    /**
+     * 두 형식 모두 애플리케이션 ObjectMapper 의 설정과 모듈을 복사해 같은 규칙으로 읽고 씁니다. 배포 중에는 필드가 빠진 새 버전이 이전
+     * 버전이 쓴 값을 읽을 수 있으므로, 모르는 필드는 무시합니다.
+     */
+    @Bean
+    public CacheValueCodec cacheValueCodec(
+        ObjectMapper objectMapper,
+        CacheCodecProperties properties
+    ) {
+        ObjectMapper codecMapper = switch (properties.type()) {
+            case JSON -> objectMapper.copy();
+            case SMILE -> objectMapper.copyWith(new SmileFactory());
+        };
+        codecMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        return new JacksonCacheValueCodec(codecMapper, properties.compressionThreshold());
+    }
+}
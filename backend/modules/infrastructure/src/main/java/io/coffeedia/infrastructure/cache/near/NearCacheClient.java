@@ -0,0 +1,528 @@
+package io.coffeedia.infrastructure.cache.near;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.coffeedia.infrastructure.cache.AsyncCacheClient;
+import io.coffeedia.infrastructure.cache.CacheClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 캐시(L1)와 Redis(L2)를 함께 사용하는 2단계 캐시 클라이언트
+ * <p>
+ * 설정된 키 접두사에 해당하는 키만 L1 에 보관하며, 그 외의 키는 Redis 로 바로 위임합니다. 어느 노드에서든 쓰기/삭제가 일어나면 Redis
+ * pub/sub 으로 무효화 메시지를 전파해 다른 노드의 L1 을 비웁니다.
+ * <p>
+ * 비동기 연산도 같은 L1 을 거치며, L2 접근과 무효화 메시지 발행은 Lettuce 비동기 명령으로 처리합니다.
+ */
+@Primary
+@Component
+public class NearCacheClient implements CacheClient, AsyncCacheClient, MessageListener {
+
+    private static final String MESSAGE_DELIMITER = "|";
+    private static final String KEY_DELIMITER = "\n";
+
+    private final CacheClient remote;
+    private final AsyncCacheClient remoteAsync;
+    private final ObjectMapper objectMapper;
+    private final NearCacheProperties properties;
+    private final Cache<String, NearCacheEntry> local;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 무효화가 일어날 때마다 증가하며, L2 조회 도중 무효화된 값을 L1 에 다시 올리지 않도록 막습니다.
+    private final AtomicLong invalidationSequence = new AtomicLong();
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+
+    public NearCacheClient(
+        @Qualifier("redisClient") final CacheClient remote,
+        @Qualifier("reactiveRedisClient") final AsyncCacheClient remoteAsync,
+        final ObjectMapper objectMapper,
+        final NearCacheProperties properties,
+        final MeterRegistry meterRegistry
+    ) {
+        this.remote = remote;
+        this.remoteAsync = remoteAsync;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.local = Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .expireAfter(new NearCacheExpiry())
+            .build();
+
+        this.l1Hits = requestCounter(meterRegistry, "l1", "hit");
+        this.l1Misses = requestCounter(meterRegistry, "l1", "miss");
+        this.l2Hits = requestCounter(meterRegistry, "l2", "hit");
+        this.l2Misses = requestCounter(meterRegistry, "l2", "miss");
+
+        Gauge.builder("cache.near.hit.ratio", this, client -> ratio(client.l1Hits, client.l1Misses))
+            .tag("tier", "l1")
+            .description("L1 캐시 적중률")
+            .register(meterRegistry);
+        Gauge.builder("cache.near.hit.ratio", this, client -> ratio(client.l2Hits, client.l2Misses))
+            .tag("tier", "l2")
+            .description("L1 미스 이후 L2 캐시 적중률")
+            .register(meterRegistry);
+        Gauge.builder("cache.near.size", local, Cache::estimatedSize)
+            .description("L1 캐시 엔트리 수")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public boolean exists(final String key) {
+        if (properties.supports(key) && local.getIfPresent(key) != null) {
+            return true;
+        }
+        return remote.exists(key);
+    }
+
+    @Override
+    public String read(final String key) {
+        return read(key, String.class);
+    }
+
+    @Override
+    public <T> T read(final String key, final Class<T> valueType) {
+        return read(key, objectMapper.constructType(valueType));
+    }
+
+    @Override
+    public <T> T read(final String key, final JavaType valueType) {
+        if (!properties.supports(key)) {
+            return remote.read(key, valueType);
+        }
+
+        T cached = readLocal(key, valueType);
+        if (cached != null) {
+            return cached;
+        }
+
+        long sequence = invalidationSequence.get();
+        T value = remote.read(key, valueType);
+        if (value == null) {
+            l2Misses.increment();
+            return null;
+        }
+        l2Hits.increment();
+
+        if (sequence == invalidationSequence.get()) {
+            local.put(key, new NearCacheEntry(value, properties.ttl()));
+        }
+        return value;
+    }
+
+    @Override
+    public <T> void write(final String key, final T value, final Duration ttl) {
+        remote.write(key, value, ttl);
+        if (!properties.supports(key)) {
+            return;
+        }
+
+        invalidateLocal(key);
+        if (value != null) {
+            local.put(key, new NearCacheEntry(value, localTtl(ttl)));
+        }
+        publishInvalidation(List.of(key));
+    }
+
+    /**
+     * 적재한 값은 Redis 와 로컬 캐시에만 저장합니다. 미스마다 무효화를 발행하면 다른 노드의 L1 이 계속 비워지므로 발행하지 않으며, Redis
+     * 에 저장되지 않았거나 저장 도중 무효화가 일어났다면 로컬 캐시에도 올리지 않습니다.
+     */
+    @Override
+    public <T> boolean fill(final String key, final T value, final Duration ttl,
+        final String token) {
+        long sequence = invalidationSequence.get();
+        boolean stored = remote.fill(key, value, ttl, token);
+        if (stored) {
+            fillLocal(key, value, ttl, sequence);
+        }
+        return stored;
+    }
+
+    @Override
+    public void delete(final String key) {
+        remote.delete(key);
+        if (!properties.supports(key)) {
+            return;
+        }
+
+        invalidateLocal(key);
+        publishInvalidation(List.of(key));
+    }
+
+    @Override
+    public <T> Map<String, T> readAll(final Collection<String> keys, final Class<T> valueType) {
+        Map<String, T> result = new LinkedHashMap<>();
+        if (keys == null || keys.isEmpty()) {
+            return result;
+        }
+
+        JavaType javaType = objectMapper.constructType(valueType);
+        List<String> remoteKeys = new ArrayList<>();
+        for (String key : keys) {
+            T value = properties.supports(key) ? readLocal(key, javaType) : null;
+            if (value != null) {
+                result.put(key, value);
+            } else {
+                remoteKeys.add(key);
+            }
+        }
+        if (remoteKeys.isEmpty()) {
+            return result;
+        }
+
+        long sequence = invalidationSequence.get();
+        Map<String, T> remoteValues = remote.readAll(remoteKeys, valueType);
+        boolean invalidated = sequence != invalidationSequence.get();
+        for (String key : remoteKeys) {
+            T value = remoteValues.get(key);
+            if (!properties.supports(key)) {
+                if (value != null) {
+                    result.put(key, value);
+                }
+                continue;
+            }
+
+            if (value == null) {
+                l2Misses.increment();
+                continue;
+            }
+            l2Hits.increment();
+            result.put(key, value);
+            if (!invalidated) {
+                local.put(key, new NearCacheEntry(value, properties.ttl()));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public <T> void writeAll(final Map<String, T> values, final Duration ttl) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+
+        remote.writeAll(values, ttl);
+        List<String> localKeys = new ArrayList<>();
+        values.forEach((key, value) -> {
+            if (!properties.supports(key)) {
+                return;
+            }
+            invalidateLocal(key);
+            if (value != null) {
+                local.put(key, new NearCacheEntry(value, localTtl(ttl)));
+            }
+            localKeys.add(key);
+        });
+        publishInvalidation(localKeys);
+    }
+
+    @Override
+    public void deleteAll(final Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return;
+        }
+
+        remote.deleteAll(keys);
+        List<String> localKeys = keys.stream()
+            .filter(properties::supports)
+            .toList();
+        localKeys.forEach(this::invalidateLocal);
+        publishInvalidation(localKeys);
+    }
+
+    @Override
+    public long generation(final String key) {
+        if (!properties.supports(key)) {
+            return remote.generation(key);
+        }
+
+        NearCacheEntry entry = local.getIfPresent(key);
+        if (entry != null && entry.value() instanceof Long generation) {
+            return generation;
+        }
+
+        long sequence = invalidationSequence.get();
+        long generation = remote.generation(key);
+        if (sequence == invalidationSequence.get()) {
+            local.put(key, new NearCacheEntry(generation, properties.ttl()));
+        }
+        return generation;
+    }
+
+    @Override
+    public long incrementGeneration(final String key) {
+        long generation = remote.incrementGeneration(key);
+        if (properties.supports(key)) {
+            invalidateLocal(key);
+            publishInvalidation(List.of(key));
+        }
+        return generation;
+    }
+
+    @Override
+    public void publish(final String channel, final String message) {
+        remote.publish(channel, message);
+    }
+
+    @Override
+    public boolean tryLock(final String key, final String token, final Duration ttl) {
+        return remote.tryLock(key, token, ttl);
+    }
+
+    @Override
+    public void unlock(final String key, final String token) {
+        remote.unlock(key, token);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> existsAsync(final String key) {
+        if (properties.supports(key) && local.getIfPresent(key) != null) {
+            return CompletableFuture.completedFuture(true);
+        }
+        return remoteAsync.existsAsync(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> readAsync(final String key, final JavaType valueType) {
+        if (!properties.supports(key)) {
+            return remoteAsync.readAsync(key, valueType);
+        }
+
+        T cached = readLocal(key, valueType);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        long sequence = invalidationSequence.get();
+        return remoteAsync.<T>readAsync(key, valueType).thenApply(value -> {
+            if (value == null) {
+                l2Misses.increment();
+                return null;
+            }
+            l2Hits.increment();
+
+            if (sequence == invalidationSequence.get()) {
+                local.put(key, new NearCacheEntry(value, properties.ttl()));
+            }
+            return value;
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> writeAsync(
+        final String key,
+        final T value,
+        final Duration ttl
+    ) {
+        if (!properties.supports(key)) {
+            return remoteAsync.writeAsync(key, value, ttl);
+        }
+
+        invalidateLocal(key);
+        if (value != null) {
+            local.put(key, new NearCacheEntry(value, localTtl(ttl)));
+        }
+        return remoteAsync.writeAsync(key, value, ttl)
+            .thenCompose(ignored -> publishInvalidationAsync(List.of(key)));
+    }
+
+    @Override
+    public <T> CompletableFuture<Boolean> fillAsync(
+        final String key,
+        final T value,
+        final Duration ttl,
+        final String token
+    ) {
+        long sequence = invalidationSequence.get();
+        return remoteAsync.fillAsync(key, value, ttl, token).thenApply(stored -> {
+            if (stored) {
+                fillLocal(key, value, ttl, sequence);
+            }
+            return stored;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAsync(final String key) {
+        if (!properties.supports(key)) {
+            return remoteAsync.deleteAsync(key);
+        }
+
+        invalidateLocal(key);
+        return remoteAsync.deleteAsync(key)
+            .thenCompose(ignored -> publishInvalidationAsync(List.of(key)));
+    }
+
+    @Override
+    public CompletableFuture<Void> publishAsync(final String channel, final String message) {
+        return remoteAsync.publishAsync(channel, message);
+    }
+
+    @Override
+    public CompletableFuture<Void> unlockAsync(final String key, final String token) {
+        return remoteAsync.unlockAsync(key, token);
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int index = body.indexOf(MESSAGE_DELIMITER);
+        if (index < 0) {
+            return;
+        }
+
+        String origin = body.substring(0, index);
+        if (nodeId.equals(origin)) {
+            return;
+        }
+
+        for (String key : body.substring(index + 1).split(KEY_DELIMITER)) {
+            invalidateLocal(key);
+        }
+    }
+
+    private <T> T readLocal(final String key, final JavaType valueType) {
+        NearCacheEntry entry = local.getIfPresent(key);
+        if (entry != null) {
+            T value = convert(entry.value(), valueType);
+            if (value != null) {
+                l1Hits.increment();
+                return value;
+            }
+        }
+        l1Misses.increment();
+        return null;
+    }
+
+    private void fillLocal(
+        final String key,
+        final Object value,
+        final Duration ttl,
+        final long sequence
+    ) {
+        if (value != null && properties.supports(key) && sequence == invalidationSequence.get()) {
+            local.put(key, new NearCacheEntry(value, localTtl(ttl)));
+        }
+    }
+
+    private void invalidateLocal(final String key) {
+        invalidationSequence.incrementAndGet();
+        local.invalidate(key);
+    }
+
+    private void publishInvalidation(final List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        remote.publish(properties.channel(), invalidationMessage(keys));
+    }
+
+    private CompletableFuture<Void> publishInvalidationAsync(final List<String> keys) {
+        return remoteAsync.publishAsync(properties.channel(), invalidationMessage(keys));
+    }
+
+    private String invalidationMessage(final List<String> keys) {
+        return nodeId + MESSAGE_DELIMITER + String.join(KEY_DELIMITER, keys);
+    }
+
+    private Duration localTtl(final Duration ttl) {
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            return properties.ttl();
+        }
+        return ttl.compareTo(properties.ttl()) < 0 ? ttl : properties.ttl();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T convert(final Object value, final JavaType valueType) {
+        if (valueType.getRawClass().isInstance(value)) {
+            return (T) value;
+        }
+
+        try {
+            return objectMapper.convertValue(value, valueType);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static Counter requestCounter(
+        final MeterRegistry meterRegistry,
+        final String tier,
+        final String result
+    ) {
+        return Counter.builder("cache.near.requests")
+            .tag("tier", tier)
+            .tag("result", result)
+            .description("2단계 캐시 조회 요청 수")
+            .register(meterRegistry);
+    }
+
+    private static double ratio(final Counter hits, final Counter misses) {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    private record NearCacheEntry(Object value, Duration ttl) {
+
+    }
+
+    private static class NearCacheExpiry implements Expiry<String, NearCacheEntry> {
+
+        @Override
+        public long expireAfterCreate(
+            final String key,
+            final NearCacheEntry entry,
+            final long currentTime
+        ) {
+            return entry.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(
+            final String key,
+            final NearCacheEntry entry,
+            final long currentTime,
+            final long currentDuration
+        ) {
+            return entry.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(
+            final String key,
+            final NearCacheEntry entry,
+            final long currentTime,
+            final long currentDuration
+        ) {
+            return currentDuration;
+        }
+    }
+}
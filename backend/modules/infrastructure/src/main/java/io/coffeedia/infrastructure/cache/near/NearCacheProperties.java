@@ -0,0 +1,32 @@
+package io.coffeedia.infrastructure.cache.near;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 로컬(L1) 캐시 설정
+ *
+ * @param enabled     L1 캐시 사용 여부
+ * @param maximumSize L1 캐시 최대 엔트리 수
+ * @param ttl         L1 캐시 최대 보관 시간 (Redis TTL 이 더 짧으면 해당 값을 따름)
+ * @param channel     노드 간 무효화 메시지를 주고받을 Redis pub/sub 채널
+ * @param prefixes    L1 캐시를 적용할 키 접두사 목록
+ */
+@ConfigurationProperties(prefix = "app.cache.near")
+public record NearCacheProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("10000") long maximumSize,
+    @DefaultValue("30s") Duration ttl,
+    @DefaultValue("coffeedia:cache:invalidation") String channel,
+    @DefaultValue List<String> prefixes
+) {
+
+    public boolean supports(final String key) {
+        if (!enabled || key == null) {
+            return false;
+        }
+        return prefixes.stream().anyMatch(key::startsWith);
+    }
+}
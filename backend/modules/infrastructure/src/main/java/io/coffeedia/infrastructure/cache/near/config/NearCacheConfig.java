@@ -0,0 +1,22 @@
+package io.coffeedia.infrastructure.cache.near.config;
+
+import io.coffeedia.infrastructure.cache.near.NearCacheClient;
+import io.coffeedia.infrastructure.cache.near.NearCacheProperties;
+import io.coffeedia.infrastructure.cache.redis.RedisSubscription;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+@Configuration
+@EnableConfigurationProperties(NearCacheProperties.class)
+public class NearCacheConfig {
+
+    @Bean
+    public RedisSubscription nearCacheSubscription(
+        NearCacheClient nearCacheClient,
+        NearCacheProperties properties
+    ) {
+        return new RedisSubscription(nearCacheClient, new ChannelTopic(properties.channel()));
+    }
+}
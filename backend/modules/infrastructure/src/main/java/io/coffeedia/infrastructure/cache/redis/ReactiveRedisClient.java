@@ -0,0 +1,175 @@
+package io.coffeedia.infrastructure.cache.redis;
+
+import com.fasterxml.jackson.databind.JavaType;
+import io.coffeedia.infrastructure.cache.AsyncCacheClient;
+import io.coffeedia.infrastructure.cache.CacheClient;
+import io.coffeedia.infrastructure.cache.codec.CacheValueCodec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * ReactiveRedisTemplate(Lettuce) 기반 비동기 Redis 클라이언트
+ * <p>
+ * RedisClient 와 같은 코덱과 키 형식을 사용하므로 동기 클라이언트가 쓴 값을 그대로 읽을 수 있으며, 서킷 브레이커도 공유합니다.
+ * 보내지 못한 쓰기, 삭제, 발행도 같은 RedisInvalidationBacklog 에 보관해 RedisClient 가 다시 보냅니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class ReactiveRedisClient implements AsyncCacheClient {
+
+    private final ReactiveRedisTemplate<String, byte[]> reactiveRedisTemplate;
+    private final CacheValueCodec codec;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final RedisInvalidationBacklog invalidationBacklog;
+
+    @Override
+    public CompletableFuture<Boolean> existsAsync(final String key) {
+        return guard(reactiveRedisTemplate.hasKey(key))
+            .defaultIfEmpty(false)
+            .onErrorResume(e -> {
+                log.error("Redis async exists operation failed for key: {}", key, e);
+                return Mono.just(false);
+            })
+            .toFuture();
+    }
+
+    @Override
+    public <T> CompletableFuture<T> readAsync(final String key, final JavaType valueType) {
+        return guard(reactiveRedisTemplate.opsForValue().get(key))
+            .<T>mapNotNull(value -> codec.decode(value, valueType))
+            .onErrorResume(e -> {
+                log.error("Redis async read operation failed for key: {} with type: {}", key,
+                    valueType.getRawClass().getSimpleName(), e);
+                return Mono.empty();
+            })
+            .toFuture();
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> writeAsync(
+        final String key,
+        final T value,
+        final Duration ttl
+    ) {
+        // 직렬화도 요청 스레드가 아닌 곳에서 수행합니다.
+        return Mono.fromCallable(() -> codec.encode(value))
+            .subscribeOn(Schedulers.parallel())
+            .flatMap(encoded -> guard(reactiveRedisTemplate.delete(CacheClient.lockKey(key)))
+                .then(guard(hasTtl(ttl)
+                        ? reactiveRedisTemplate.opsForValue().set(key, encoded, ttl)
+                        : reactiveRedisTemplate.opsForValue().set(key, encoded),
+                    () -> invalidationBacklog.delete(List.of(key)))))
+            .doOnSuccess(ignored ->
+                log.debug("Successfully wrote object to Redis asynchronously - key: {}, ttl: {}",
+                    key, ttl))
+            .onErrorResume(e -> {
+                log.error("Redis async write operation failed for key: {}", key, e);
+                invalidationBacklog.delete(List.of(key));
+                return Mono.empty();
+            })
+            .then()
+            .toFuture();
+    }
+
+    @Override
+    public <T> CompletableFuture<Boolean> fillAsync(
+        final String key,
+        final T value,
+        final Duration ttl,
+        final String token
+    ) {
+        return Mono.fromCallable(() -> codec.encode(value))
+            .subscribeOn(Schedulers.parallel())
+            .flatMap(encoded -> guard(reactiveRedisTemplate.execute(RedisClient.FILL_SCRIPT,
+                    List.of(key, CacheClient.lockKey(key)),
+                    List.of(token.getBytes(StandardCharsets.UTF_8), encoded,
+                        RedisClient.ttlMillis(ttl)))
+                .next()))
+            .map(stored -> stored == 1L)
+            .defaultIfEmpty(false)
+            .onErrorResume(e -> {
+                log.error("Redis async fill operation failed for key: {}", key, e);
+                return Mono.just(false);
+            })
+            .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAsync(final String key) {
+        return guard(reactiveRedisTemplate.delete(key, CacheClient.lockKey(key)),
+            () -> invalidationBacklog.delete(List.of(key)))
+            .onErrorResume(e -> {
+                log.error("Redis async delete operation failed for key: {}", key, e);
+                return Mono.empty();
+            })
+            .then()
+            .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Void> publishAsync(final String channel, final String message) {
+        return guard(reactiveRedisTemplate.convertAndSend(channel,
+                message.getBytes(StandardCharsets.UTF_8)),
+            () -> invalidationBacklog.publish(channel, message))
+            .onErrorResume(e -> {
+                log.error("Redis async publish operation failed for channel: {}", channel, e);
+                return Mono.empty();
+            })
+            .then()
+            .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Void> unlockAsync(final String key, final String token) {
+        return guard(reactiveRedisTemplate.execute(RedisClient.UNLOCK_SCRIPT, List.of(key),
+                List.of(token.getBytes(StandardCharsets.UTF_8)))
+            .next())
+            .onErrorResume(e -> {
+                log.error("Redis async unlock operation failed for key: {}", key, e);
+                return Mono.empty();
+            })
+            .then()
+            .toFuture();
+    }
+
+    /**
+     * 서킷이 열려 있으면 명령을 보내지 않고 빈 결과로 완료하며, 그 외에는 응답 시간과 실패 여부를 서킷 브레이커에 기록합니다.
+     */
+    private <R> Mono<R> guard(final Mono<R> command) {
+        return guard(command, () -> {
+        });
+    }
+
+    /**
+     * 서킷에 막히거나 실패하면 onDropped 를 호출해, 보내지 못한 명령을 보관할 수 있게 합니다.
+     */
+    private <R> Mono<R> guard(final Mono<R> command, final Runnable onDropped) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                onDropped.run();
+                return Mono.empty();
+            }
+
+            long startedAt = System.nanoTime();
+            return command
+                .doOnSuccess(ignored -> circuitBreaker.onSuccess(System.nanoTime() - startedAt))
+                .doOnError(ignored -> {
+                    circuitBreaker.onError(System.nanoTime() - startedAt);
+                    onDropped.run();
+                });
+        });
+    }
+
+    private static boolean hasTtl(final Duration ttl) {
+        return ttl != null && !ttl.isNegative() && !ttl.isZero();
+    }
+}
@@ -0,0 +1,198 @@
+package io.coffeedia.infrastructure.cache.redis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Arrays;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 호출용 서킷 브레이커
+ * <p>
+ * 최근 호출 중 실패 또는 느린 호출의 비율이 임계치를 넘으면 서킷을 열어 Redis 를 호출하지 않고 바로 대체 값을 반환합니다. 대기 시간이
+ * 지나면 반열림 상태에서 일부 호출만 시험 삼아 보내고, 모두 성공하면 서킷을 닫고 하나라도 실패하면 다시 엽니다.
+ */
+@Slf4j
+@Component
+public class RedisCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private enum Outcome {
+        SUCCESS, FAILURE, SLOW
+    }
+
+    private final RedisCircuitBreakerProperties properties;
+    private final long slowCallNanos;
+
+    // 최근 호출 결과를 담는 원형 버퍼
+    private final Outcome[] window;
+    private int windowIndex;
+    private int recordedCalls;
+    private int failedCalls;
+    private int slowCalls;
+
+    private volatile State state = State.CLOSED;
+    private long openedAt;
+    private int permittedProbes;
+    private int succeededProbes;
+
+    private final Counter successes;
+    private final Counter failures;
+    private final Counter slowSuccesses;
+    private final Counter rejections;
+
+    public RedisCircuitBreaker(
+        final RedisCircuitBreakerProperties properties,
+        final MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.slowCallNanos = properties.slowCallDuration().toNanos();
+        this.window = new Outcome[properties.windowSize()];
+
+        this.successes = callCounter(meterRegistry, "success");
+        this.failures = callCounter(meterRegistry, "failure");
+        this.slowSuccesses = callCounter(meterRegistry, "slow");
+        this.rejections = callCounter(meterRegistry, "rejected");
+
+        for (State candidate : State.values()) {
+            Gauge.builder("cache.redis.circuit.state", this,
+                    breaker -> breaker.state == candidate ? 1 : 0)
+                .tag("state", candidate.name().toLowerCase())
+                .description("Redis 서킷 브레이커 상태 (해당 상태이면 1)")
+                .register(meterRegistry);
+        }
+    }
+
+    public State state() {
+        return state;
+    }
+
+    /**
+     * Redis 를 호출해도 되는지 확인합니다. false 이면 호출하지 않고 대체 값을 사용해야 합니다.
+     */
+    public boolean tryAcquirePermission() {
+        if (!properties.enabled() || state == State.CLOSED) {
+            return true;
+        }
+
+        synchronized (this) {
+            if (state == State.OPEN && !openDurationElapsed()) {
+                rejections.increment();
+                return false;
+            }
+            if (state == State.OPEN) {
+                transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN) {
+                if (permittedProbes >= properties.halfOpenProbes()) {
+                    rejections.increment();
+                    return false;
+                }
+                permittedProbes++;
+            }
+            return true;
+        }
+    }
+
+    public void onSuccess(final long elapsedNanos) {
+        if (elapsedNanos >= slowCallNanos) {
+            slowSuccesses.increment();
+            record(Outcome.SLOW);
+        } else {
+            successes.increment();
+            record(Outcome.SUCCESS);
+        }
+    }
+
+    public void onError(final long elapsedNanos) {
+        failures.increment();
+        record(Outcome.FAILURE);
+    }
+
+    private synchronized void record(final Outcome outcome) {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        switch (state) {
+            case CLOSED -> {
+                addToWindow(outcome);
+                if (exceedsThreshold()) {
+                    transitionTo(State.OPEN);
+                }
+            }
+            case HALF_OPEN -> {
+                if (outcome != Outcome.SUCCESS) {
+                    transitionTo(State.OPEN);
+                } else if (++succeededProbes >= properties.halfOpenProbes()) {
+                    transitionTo(State.CLOSED);
+                }
+            }
+            case OPEN -> {
+                // 서킷이 열리기 전에 시작된 호출의 결과는 반영하지 않습니다.
+            }
+        }
+    }
+
+    private void addToWindow(final Outcome outcome) {
+        Outcome evicted = window[windowIndex];
+        if (evicted == Outcome.FAILURE) {
+            failedCalls--;
+        } else if (evicted == Outcome.SLOW) {
+            slowCalls--;
+        }
+        if (evicted == null) {
+            recordedCalls++;
+        }
+
+        window[windowIndex] = outcome;
+        windowIndex = (windowIndex + 1) % window.length;
+        if (outcome == Outcome.FAILURE) {
+            failedCalls++;
+        } else if (outcome == Outcome.SLOW) {
+            slowCalls++;
+        }
+    }
+
+    private boolean exceedsThreshold() {
+        if (recordedCalls < properties.minimumCalls()) {
+            return false;
+        }
+        return failedCalls * 100 >= properties.failureRateThreshold() * recordedCalls
+            || slowCalls * 100 >= properties.slowCallRateThreshold() * recordedCalls;
+    }
+
+    private boolean openDurationElapsed() {
+        return System.nanoTime() - openedAt >= properties.openDuration().toNanos();
+    }
+
+    private void transitionTo(final State next) {
+        log.warn("Redis circuit breaker state changed: {} -> {} (failed: {}, slow: {}, calls: {})",
+            state, next, failedCalls, slowCalls, recordedCalls);
+
+        state = next;
+        permittedProbes = 0;
+        succeededProbes = 0;
+        if (next == State.OPEN) {
+            openedAt = System.nanoTime();
+        }
+        if (next == State.CLOSED) {
+            Arrays.fill(window, null);
+            windowIndex = 0;
+            recordedCalls = 0;
+            failedCalls = 0;
+            slowCalls = 0;
+        }
+    }
+
+    private static Counter callCounter(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("cache.redis.circuit.calls")
+            .tag("result", result)
+            .description("서킷 브레이커를 거친 Redis 호출 결과별 수")
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,25 @@
+package io.coffeedia.infrastructure.cache.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 서킷 브레이커 상태를 actuator health 에 노출합니다.
+ * <p>
+ * 서킷이 열려도 DB 와 로컬 캐시로 응답할 수 있으므로 상태는 UP 으로 두고, 세부 정보로 서킷 상태를 보여줍니다.
+ */
+@Component
+@RequiredArgsConstructor
+class RedisCircuitBreakerHealthIndicator implements HealthIndicator {
+
+    private final RedisCircuitBreaker circuitBreaker;
+
+    @Override
+    public Health health() {
+        return Health.up()
+            .withDetail("state", circuitBreaker.state())
+            .build();
+    }
+}
@@ -0,0 +1,31 @@
+package io.coffeedia.infrastructure.cache.redis;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Redis 서킷 브레이커 설정
+ *
+ * @param enabled               서킷 브레이커 사용 여부
+ * @param windowSize            실패율을 계산할 최근 호출 수
+ * @param minimumCalls          실패율을 계산하기 위한 최소 호출 수
+ * @param failureRateThreshold  서킷을 여는 실패율 (%)
+ * @param slowCallDuration      느린 호출로 판단하는 응답 시간
+ * @param slowCallRateThreshold 서킷을 여는 느린 호출 비율 (%)
+ * @param openDuration          서킷이 열린 뒤 반열림으로 전환하기까지의 대기 시간
+ * @param halfOpenProbes        반열림 상태에서 허용하는 시험 호출 수
+ */
+@ConfigurationProperties(prefix = "app.cache.circuit-breaker")
+public record RedisCircuitBreakerProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("50") int windowSize,
+    @DefaultValue("20") int minimumCalls,
+    @DefaultValue("50") int failureRateThreshold,
+    @DefaultValue("200ms") Duration slowCallDuration,
+    @DefaultValue("80") int slowCallRateThreshold,
+    @DefaultValue("10s") Duration openDuration,
+    @DefaultValue("5") int halfOpenProbes
+) {
+
+}
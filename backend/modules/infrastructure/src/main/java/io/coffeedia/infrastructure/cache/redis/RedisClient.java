@@ -1,29 +1,83 @@
 package io.coffeedia.infrastructure.cache.redis;
 
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.coffeedia.infrastructure.cache.CacheClient;
+import io.coffeedia.infrastructure.cache.codec.CacheValueCodec;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+/**
+ * Redis 캐시 클라이언트
+ * <p>
+ * 모든 Redis 호출은 서킷 브레이커를 거치며, 서킷이 열려 있거나 호출이 실패하면 예외 대신 대체 값을 반환합니다. 이때 보내지 못한
+ * 쓰기, 삭제, 세대 증가, 발행은 RedisInvalidationBacklog 에 보관했다가 다음에 허용된 호출보다 먼저 다시 보냅니다. 쓰지 못한 값은
+ * 이전 값이 남지 않도록 삭제로 보관합니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 class RedisClient implements CacheClient {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    static final RedisScript<Long> UNLOCK_SCRIPT = RedisScript.of(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then "
+            + "return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class
+    );
+
+    /**
+     * KEYS[1] 값 키, KEYS[2] 적재 잠금 키, ARGV[1] 잠금 토큰, ARGV[2] 값, ARGV[3] 만료 시간(밀리초, 0 이면 만료 없음)
+     */
+    static final RedisScript<Long> FILL_SCRIPT = RedisScript.of(
+        "if redis.call('get', KEYS[2]) ~= ARGV[1] then return 0 end "
+            + "if tonumber(ARGV[3]) > 0 then redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) "
+            + "else redis.call('set', KEYS[1], ARGV[2]) end "
+            + "return 1",
+        Long.class
+    );
+
+    private static final RedisScript<Long> GENERATION_SCRIPT = RedisScript.of(
+        "local value = redis.call('get', KEYS[1]) "
+            + "if not value then redis.call('set', KEYS[1], ARGV[1]) value = ARGV[1] end "
+            + "return tonumber(value)",
+        Long.class
+    );
+
+    private static final RedisScript<Long> INCREMENT_GENERATION_SCRIPT = RedisScript.of(
+        "if redis.call('exists', KEYS[1]) == 0 then redis.call('set', KEYS[1], ARGV[1]) end "
+            + "return redis.call('incr', KEYS[1])",
+        Long.class
+    );
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheValueCodec codec;
     private final ObjectMapper objectMapper;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final RedisInvalidationBacklog invalidationBacklog;
+    private final ObjectProvider<RedisTrackingCache> trackingCache;
 
     @Override
     public boolean exists(final String key) {
-        try {
-            return redisTemplate.hasKey(key);
-        } catch (Exception e) {
-            log.error("Redis exists operation failed for key: {}", key, e);
-            return false;
-        }
+        return execute(() -> redisTemplate.hasKey(key), false,
+            e -> log.error("Redis exists operation failed for key: {}", key, e));
     }
 
     @Override
@@ -33,46 +87,271 @@ class RedisClient implements CacheClient {
 
     @Override
     public <T> T read(final String key, final Class<T> valueType) {
-        try {
-            Object value = redisTemplate.opsForValue().get(key);
-            if (value == null) {
-                return null;
-            }
-
-            // 타입이 이미 일치하는 경우
-            if (valueType.isInstance(value)) {
-                return valueType.cast(value);
-            }
+        return read(key, objectMapper.constructType(valueType));
+    }
 
-            return objectMapper.convertValue(value, valueType);
-        } catch (Exception e) {
-            log.error("Redis read operation failed for key: {} with type: {}", key,
-                valueType.getSimpleName(), e);
-            return null;
-        }
+    @Override
+    public <T> T read(final String key, final JavaType valueType) {
+        byte[] value = execute(() -> readBytes(key), null,
+            e -> log.error("Redis read operation failed for key: {} with type: {}", key,
+                valueType.getRawClass().getSimpleName(), e));
+        return decodeQuietly(key, value, valueType);
     }
 
     @Override
     public <T> void write(final String key, final T value, final Duration ttl) {
-        try {
-            if (ttl != null && !ttl.isNegative() && !ttl.isZero()) {
-                redisTemplate.opsForValue().set(key, value, ttl);
+        byte[] encoded = encodeQuietly(key, value);
+        if (encoded == null) {
+            return;
+        }
+
+        execute(() -> {
+            // 진행 중인 적재가 이 값을 이전 값으로 덮어쓰지 않도록 잠금을 먼저 지웁니다.
+            redisTemplate.delete(CacheClient.lockKey(key));
+            if (hasTtl(ttl)) {
+                redisTemplate.opsForValue().set(key, encoded, ttl);
             } else {
-                redisTemplate.opsForValue().set(key, value);
+                redisTemplate.opsForValue().set(key, encoded);
             }
             log.debug("Successfully wrote object to Redis - key: {}, ttl: {}", key, ttl);
-        } catch (Exception e) {
-            log.error("Redis write operation failed for key: {}", key, e);
+            return null;
+        }, null, e -> log.error("Redis write operation failed for key: {}", key, e),
+            () -> invalidationBacklog.delete(List.of(key)));
+    }
+
+    @Override
+    public <T> boolean fill(final String key, final T value, final Duration ttl,
+        final String token) {
+        byte[] encoded = encodeQuietly(key, value);
+        if (encoded == null) {
+            return false;
         }
+
+        Long stored = execute(() -> redisTemplate.execute(FILL_SCRIPT,
+                List.of(key, CacheClient.lockKey(key)),
+                token.getBytes(StandardCharsets.UTF_8), encoded, ttlMillis(ttl)), null,
+            e -> log.error("Redis fill operation failed for key: {}", key, e));
+        return Long.valueOf(1L).equals(stored);
     }
 
     @Override
     public void delete(final String key) {
-        try {
-            redisTemplate.delete(key);
+        execute(() -> {
+            redisTemplate.delete(List.of(key, CacheClient.lockKey(key)));
             log.debug("Successfully deleted from Redis - key: {}", key);
+            return null;
+        }, null, e -> log.error("Redis delete operation failed for key: {}", key, e),
+            () -> invalidationBacklog.delete(List.of(key)));
+    }
+
+    @Override
+    public <T> Map<String, T> readAll(final Collection<String> keys, final Class<T> valueType) {
+        Map<String, T> result = new LinkedHashMap<>();
+        if (keys == null || keys.isEmpty()) {
+            return result;
+        }
+
+        // MGET 한 번으로 조회하며, 응답은 요청한 키 순서를 따릅니다.
+        List<String> keyList = List.copyOf(keys);
+        List<byte[]> values = execute(() -> redisTemplate.opsForValue().multiGet(keyList), null,
+            e -> log.error("Redis readAll operation failed for {} keys with type: {}",
+                keys.size(), valueType.getSimpleName(), e));
+        if (values == null) {
+            return result;
+        }
+
+        JavaType javaType = objectMapper.constructType(valueType);
+        for (int i = 0; i < keyList.size(); i++) {
+            T value = decodeQuietly(keyList.get(i), values.get(i), javaType);
+            if (value != null) {
+                result.put(keyList.get(i), value);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public <T> void writeAll(final Map<String, T> values, final Duration ttl) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+
+        Map<String, byte[]> encoded = new LinkedHashMap<>();
+        values.forEach((key, value) -> {
+            byte[] bytes = encodeQuietly(key, value);
+            if (bytes != null) {
+                encoded.put(key, bytes);
+            }
+        });
+
+        execute(() -> {
+            // SET(EX) 명령을 파이프라인으로 묶어 한 번의 왕복으로 전송합니다.
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(final RedisOperations<K, V> operations)
+                    throws DataAccessException {
+                    RedisOperations<String, byte[]> ops =
+                        (RedisOperations<String, byte[]>) operations;
+                    encoded.forEach((key, value) -> {
+                        ops.delete(CacheClient.lockKey(key));
+                        if (hasTtl(ttl)) {
+                            ops.opsForValue().set(key, value, ttl);
+                        } else {
+                            ops.opsForValue().set(key, value);
+                        }
+                    });
+                    return null;
+                }
+            });
+            log.debug("Successfully wrote {} objects to Redis - ttl: {}", encoded.size(), ttl);
+            return null;
+        }, null, e -> log.error("Redis writeAll operation failed for {} keys", values.size(), e),
+            () -> invalidationBacklog.delete(encoded.keySet()));
+    }
+
+    @Override
+    public void deleteAll(final Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return;
+        }
+
+        execute(() -> {
+            deleteWithLockKeys(keys);
+            log.debug("Successfully deleted {} keys from Redis", keys.size());
+            return null;
+        }, null, e -> log.error("Redis deleteAll operation failed for {} keys", keys.size(), e),
+            () -> invalidationBacklog.delete(keys));
+    }
+
+    @Override
+    public long generation(final String key) {
+        Long generation = execute(() -> stringRedisTemplate.execute(GENERATION_SCRIPT,
+                List.of(key), String.valueOf(System.currentTimeMillis())), null,
+            e -> log.error("Redis generation operation failed for key: {}", key, e));
+        return generation != null ? generation : 0L;
+    }
+
+    @Override
+    public long incrementGeneration(final String key) {
+        Long generation = execute(() -> incrementGenerationScript(key), null,
+            e -> log.error("Redis increment generation operation failed for key: {}", key, e),
+            () -> invalidationBacklog.incrementGeneration(key));
+        return generation != null ? generation : 0L;
+    }
+
+    @Override
+    public void publish(final String channel, final String message) {
+        execute(() -> stringRedisTemplate.convertAndSend(channel, message), null,
+            e -> log.error("Redis publish operation failed for channel: {}", channel, e),
+            () -> invalidationBacklog.publish(channel, message));
+    }
+
+    @Override
+    public boolean tryLock(final String key, final String token, final Duration ttl) {
+        // Redis 장애 시 다른 노드와 조율할 수 없으므로 잠금 없이 진행하도록 획득한 것으로 간주합니다.
+        return execute(
+            () -> Boolean.TRUE.equals(
+                stringRedisTemplate.opsForValue().setIfAbsent(key, token, ttl)
+            ),
+            true,
+            e -> log.error("Redis lock operation failed for key: {}", key, e)
+        );
+    }
+
+    @Override
+    public void unlock(final String key, final String token) {
+        execute(() -> stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(key), token), null,
+            e -> log.error("Redis unlock operation failed for key: {}", key, e));
+    }
+
+    /**
+     * 클라이언트 캐시 대상 키는 추적 연결을 통해 읽어, 변경되기 전까지는 로컬 사본을 사용합니다.
+     */
+    private byte[] readBytes(final String key) {
+        RedisTrackingCache tracking = trackingCache.getIfAvailable();
+        if (tracking != null && tracking.supports(key)) {
+            return tracking.get(key);
+        }
+        return redisTemplate.opsForValue().get(key);
+    }
+
+    private void deleteWithLockKeys(final Collection<String> keys) {
+        List<String> targets = new ArrayList<>(keys);
+        keys.forEach(key -> targets.add(CacheClient.lockKey(key)));
+        redisTemplate.delete(targets);
+    }
+
+    private Long incrementGenerationScript(final String key) {
+        return stringRedisTemplate.execute(INCREMENT_GENERATION_SCRIPT, List.of(key),
+            String.valueOf(System.currentTimeMillis()));
+    }
+
+    private <R> R execute(
+        final Supplier<R> command,
+        final R fallback,
+        final Consumer<Exception> onError
+    ) {
+        return execute(command, fallback, onError, () -> {
+        });
+    }
+
+    /**
+     * 서킷 브레이커를 거쳐 Redis 명령을 실행합니다. 서킷이 열려 있거나 실패하면 onDropped 를 호출하고 fallback 을 반환합니다.
+     * <p>
+     * 호출이 허용되면 보관해 둔 무효화를 먼저 보내, 복구 직후의 조회가 이전 값을 읽지 않도록 합니다.
+     */
+    private <R> R execute(
+        final Supplier<R> command,
+        final R fallback,
+        final Consumer<Exception> onError,
+        final Runnable onDropped
+    ) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            onDropped.run();
+            return fallback;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            invalidationBacklog.replay(this::deleteWithLockKeys, this::incrementGenerationScript,
+                stringRedisTemplate::convertAndSend);
+            R result = command.get();
+            circuitBreaker.onSuccess(System.nanoTime() - startedAt);
+            return result;
         } catch (Exception e) {
-            log.error("Redis delete operation failed for key: {}", key, e);
+            circuitBreaker.onError(System.nanoTime() - startedAt);
+            onError.accept(e);
+            onDropped.run();
+            return fallback;
         }
     }
+
+    private byte[] encodeQuietly(final String key, final Object value) {
+        try {
+            return codec.encode(value);
+        } catch (IllegalArgumentException e) {
+            log.error("Redis value encode failed for key: {}", key, e);
+            return null;
+        }
+    }
+
+    private <T> T decodeQuietly(final String key, final byte[] value, final JavaType valueType) {
+        try {
+            return codec.decode(value, valueType);
+        } catch (IllegalArgumentException e) {
+            log.error("Redis value decode failed for key: {} with type: {}", key,
+                valueType.getRawClass().getSimpleName(), e);
+            return null;
+        }
+    }
+
+    static byte[] ttlMillis(final Duration ttl) {
+        long millis = hasTtl(ttl) ? ttl.toMillis() : 0L;
+        return String.valueOf(millis).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static boolean hasTtl(final Duration ttl) {
+        return ttl != null && !ttl.isNegative() && !ttl.isZero();
+    }
 }
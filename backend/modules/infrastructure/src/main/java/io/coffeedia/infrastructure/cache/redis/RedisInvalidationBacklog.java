@@ -0,0 +1,106 @@
+package io.coffeedia.infrastructure.cache.redis;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보내지 못한 Redis 무효화 보관소
+ * <p>
+ * 서킷은 느린 호출만으로도 열리므로, 이때 키 삭제나 세대 증가, 무효화 발행을 버리면 복구된 뒤에도 이전 값과 이전 세대의 목록이 TTL
+ * 동안 응답됩니다. 서킷에 막히거나 실패한 무효화를 모아 두었다가 Redis 호출이 다시 허용되면 다른 명령보다 먼저 보냅니다. 같은 키와 같은
+ * 메시지는 한 번만 보관하며, 모두 여러 번 보내도 결과가 같은 명령입니다.
+ */
+@Slf4j
+@Component
+class RedisInvalidationBacklog {
+
+    record Publication(String channel, String message) {
+
+    }
+
+    private final Set<String> deletes = ConcurrentHashMap.newKeySet();
+    private final Set<String> generations = ConcurrentHashMap.newKeySet();
+    private final Set<Publication> publications = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean replaying = new AtomicBoolean();
+
+    RedisInvalidationBacklog(final MeterRegistry meterRegistry) {
+        Gauge.builder("cache.redis.invalidation.pending", this, RedisInvalidationBacklog::size)
+            .description("서킷이 열려 있거나 실패해 다시 보내기를 기다리는 Redis 무효화 수")
+            .register(meterRegistry);
+    }
+
+    void delete(final Collection<String> keys) {
+        deletes.addAll(keys);
+    }
+
+    void incrementGeneration(final String key) {
+        generations.add(key);
+    }
+
+    void publish(final String channel, final String message) {
+        publications.add(new Publication(channel, message));
+    }
+
+    boolean isEmpty() {
+        return deletes.isEmpty() && generations.isEmpty() && publications.isEmpty();
+    }
+
+    int size() {
+        return deletes.size() + generations.size() + publications.size();
+    }
+
+    /**
+     * 보관한 무효화를 꺼내 삭제, 세대 증가, 발행 순서로 보냅니다. 다른 스레드가 이미 보내는 중이면 건너뛰고, 보내다 실패하면 꺼낸
+     * 무효화를 다시 보관한 뒤 예외를 그대로 던집니다.
+     */
+    void replay(
+        final Consumer<List<String>> delete,
+        final Consumer<String> incrementGeneration,
+        final BiConsumer<String, String> publish
+    ) {
+        if (isEmpty() || !replaying.compareAndSet(false, true)) {
+            return;
+        }
+
+        List<String> keys = drain(deletes);
+        List<String> generationKeys = drain(generations);
+        List<Publication> messages = drain(publications);
+        try {
+            if (!keys.isEmpty()) {
+                delete.accept(keys);
+            }
+            generationKeys.forEach(incrementGeneration);
+            messages.forEach(publication ->
+                publish.accept(publication.channel(), publication.message()));
+            log.info("Replayed dropped Redis invalidations - keys: {}, generations: {}, "
+                + "messages: {}", keys.size(), generationKeys.size(), messages.size());
+        } catch (RuntimeException e) {
+            deletes.addAll(keys);
+            generations.addAll(generationKeys);
+            publications.addAll(messages);
+            throw e;
+        } finally {
+            replaying.set(false);
+        }
+    }
+
+    private static <T> List<T> drain(final Set<T> pending) {
+        List<T> drained = new ArrayList<>();
+        for (T item : pending) {
+            if (pending.remove(item)) {
+                drained.add(item);
+            }
+        }
+        return drained;
+    }
+}
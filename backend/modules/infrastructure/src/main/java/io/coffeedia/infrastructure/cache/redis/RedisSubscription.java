@@ -0,0 +1,16 @@
+package io.coffeedia.infrastructure.cache.redis;
+
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.Topic;
+
+/**
+ * 공용 RedisMessageListenerContainer 에 등록할 pub/sub 구독
+ * <p>
+ * 기능마다 컨테이너를 만들면 구독 연결과 스레드가 늘어나므로, 구독만 빈으로 선언하고 컨테이너는 하나를 함께 사용합니다.
+ */
+public record RedisSubscription(
+    MessageListener listener,
+    Topic topic
+) {
+
+}
@@ -0,0 +1,146 @@
+package io.coffeedia.infrastructure.cache.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.lettuce.core.support.caching.CacheAccessor;
+import io.lettuce.core.support.caching.CacheFrontend;
+import io.lettuce.core.support.caching.ClientSideCaching;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.SocketAddress;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 서버가 무효화를 알려주는 클라이언트 캐시
+ * <p>
+ * RESP3 연결에서 CLIENT TRACKING 을 켜 두면, 이 연결로 읽은 키가 어느 클라이언트에 의해서든 변경될 때 Redis 가 무효화 메시지를
+ * 보내고 Lettuce 가 로컬 사본을 지웁니다. 연결이 끊긴 동안에는 무효화를 받을 수 없으므로 로컬 사본을 모두 비웁니다.
+ */
+@Slf4j
+public class RedisTrackingCache implements AutoCloseable {
+
+    private final io.lettuce.core.RedisClient client;
+    private final StatefulRedisConnection<String, byte[]> connection;
+    private final Cache<String, byte[]> local;
+    private final CacheFrontend<String, byte[]> frontend;
+    private final RedisTrackingProperties properties;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public RedisTrackingCache(
+        final RedisURI redisUri,
+        final RedisTrackingProperties properties,
+        final MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.local = Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .build();
+
+        this.client = io.lettuce.core.RedisClient.create(redisUri);
+        this.client.setOptions(ClientOptions.builder()
+            .protocolVersion(ProtocolVersion.RESP3)
+            .build());
+        this.connection = client.connect(RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE));
+        this.client.addListener(new TrackingResetListener());
+
+        this.hits = requestCounter(meterRegistry, "hit");
+        this.misses = requestCounter(meterRegistry, "miss");
+        this.frontend = ClientSideCaching.enable(
+            new CountingCacheAccessor(), connection, TrackingArgs.Builder.enabled()
+        );
+
+        Gauge.builder("cache.tracking.size", local, Cache::estimatedSize)
+            .description("Redis 클라이언트 캐시 엔트리 수")
+            .register(meterRegistry);
+    }
+
+    public boolean supports(final String key) {
+        return properties.supports(key);
+    }
+
+    /**
+     * 로컬 사본이 있으면 바로 반환하고, 없으면 Redis 에서 읽은 뒤 추적을 시작합니다.
+     */
+    public byte[] get(final String key) {
+        return frontend.get(key);
+    }
+
+    @Override
+    public void close() {
+        frontend.close();
+        connection.close();
+        client.shutdown();
+    }
+
+    private static Counter requestCounter(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("cache.tracking.requests")
+            .tag("result", result)
+            .description("Redis 클라이언트 캐시 조회 요청 수")
+            .register(meterRegistry);
+    }
+
+    private class CountingCacheAccessor implements CacheAccessor<String, byte[]> {
+
+        @Override
+        public byte[] get(final String key) {
+            byte[] value = local.getIfPresent(key);
+            if (value != null) {
+                hits.increment();
+            } else {
+                misses.increment();
+            }
+            return value;
+        }
+
+        @Override
+        public void put(final String key, final byte[] value) {
+            local.put(key, value);
+        }
+
+        @Override
+        public void evict(final String key) {
+            local.invalidate(key);
+        }
+    }
+
+    private class TrackingResetListener implements RedisConnectionStateListener {
+
+        @Override
+        public void onRedisConnected(
+            final RedisChannelHandler<?, ?> handler,
+            final SocketAddress socketAddress
+        ) {
+            // 재연결된 연결에서는 추적을 다시 켜야 무효화 메시지를 받을 수 있습니다.
+            local.invalidateAll();
+            connection.async().clientTracking(TrackingArgs.Builder.enabled());
+        }
+
+        @Override
+        public void onRedisDisconnected(final RedisChannelHandler<?, ?> handler) {
+            log.warn("Redis tracking connection lost, clearing {} local entries",
+                local.estimatedSize());
+            local.invalidateAll();
+        }
+
+        @Override
+        public void onRedisExceptionCaught(
+            final RedisChannelHandler<?, ?> handler,
+            final Throwable cause
+        ) {
+            log.error("Redis tracking connection error", cause);
+        }
+    }
+}
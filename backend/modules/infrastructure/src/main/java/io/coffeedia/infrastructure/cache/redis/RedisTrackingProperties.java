@@ -0,0 +1,27 @@
+package io.coffeedia.infrastructure.cache.redis;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Redis 서버 지원 클라이언트 캐시(RESP3 CLIENT TRACKING) 설정
+ *
+ * @param enabled     클라이언트 캐시 사용 여부
+ * @param maximumSize 로컬에 보관할 최대 키 수
+ * @param prefixes    클라이언트 캐시를 적용할 키 접두사 목록 (자주 바뀌지 않는 데이터만 지정)
+ */
+@ConfigurationProperties(prefix = "app.cache.tracking")
+public record RedisTrackingProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("10000") long maximumSize,
+    @DefaultValue List<String> prefixes
+) {
+
+    public boolean supports(final String key) {
+        if (!enabled || key == null) {
+            return false;
+        }
+        return prefixes.stream().anyMatch(key::startsWith);
+    }
+}
@@ -1,16 +1,35 @@
 package io.coffeedia.infrastructure.cache.redis.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.coffeedia.infrastructure.cache.redis.RedisCircuitBreakerProperties;
+import io.coffeedia.infrastructure.cache.redis.RedisSubscription;
+import io.coffeedia.infrastructure.cache.redis.RedisTrackingCache;
+import io.coffeedia.infrastructure.cache.redis.RedisTrackingProperties;
+import io.lettuce.core.RedisURI;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
-import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 @Configuration
+@EnableConfigurationProperties({
+    RedisCircuitBreakerProperties.class,
+    RedisTrackingProperties.class
+})
 public class RedisConfig {
 
     @Value("${spring.data.redis.host:localhost}")
@@ -19,27 +38,90 @@ public class RedisConfig {
     @Value("${spring.data.redis.port:6379}")
     private int port;
 
+    @Value("${spring.data.redis.timeout:1s}")
+    private Duration timeout;
+
+    /**
+     * 동기 템플릿과 ReactiveRedisTemplate 이 같은 Lettuce 연결 팩토리를 공유합니다.
+     * <p>
+     * 명령 타임아웃을 지정하지 않으면 Lettuce 기본값(60초)을 사용하므로 spring.data.redis.timeout 을 직접 적용합니다.
+     */
     @Bean
-    public RedisConnectionFactory connectionFactory() {
-        return new LettuceConnectionFactory(host, port);
+    public LettuceConnectionFactory connectionFactory() {
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+            .commandTimeout(timeout)
+            .build();
+
+        return new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration(host, port), clientConfiguration
+        );
     }
 
+    /**
+     * 캐시 값은 CacheValueCodec 으로 직렬화한 바이트 배열 그대로 저장합니다.
+     */
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(
-        RedisConnectionFactory connectionFactory,
-        ObjectMapper objectMapper
-    ) {
-        RedisTemplate<String, Object> template = new RedisTemplate<>();
-        StringRedisSerializer stringSerializer = new StringRedisSerializer();
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(
-            objectMapper
-        );
+    public RedisTemplate<String, byte[]> redisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
 
         template.setConnectionFactory(connectionFactory);
-        template.setKeySerializer(stringSerializer);
-        template.setValueSerializer(serializer);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
         template.afterPropertiesSet();
 
         return template;
     }
+
+    /**
+     * 비동기 캐시 클라이언트용 템플릿으로, redisTemplate 과 같은 직렬화 방식을 사용합니다.
+     */
+    @Bean
+    public ReactiveRedisTemplate<String, byte[]> reactiveRedisTemplate(
+        ReactiveRedisConnectionFactory connectionFactory
+    ) {
+        RedisSerializationContext<String, byte[]> serializationContext = RedisSerializationContext
+            .<String, byte[]>newSerializationContext(RedisSerializer.string())
+            .value(RedisSerializer.byteArray())
+            .build();
+
+        return new ReactiveRedisTemplate<>(connectionFactory, serializationContext);
+    }
+
+    @Bean
+    public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
+        return new StringRedisTemplate(connectionFactory);
+    }
+
+    /**
+     * 모든 pub/sub 구독이 함께 쓰는 리스너 컨테이너
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+        RedisConnectionFactory connectionFactory,
+        ObjectProvider<RedisSubscription> subscriptions
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        subscriptions.orderedStream().forEach(subscription ->
+            container.addMessageListener(subscription.listener(), subscription.topic()));
+        return container;
+    }
+
+    /**
+     * app.cache.tracking.enabled=true 일 때만 별도의 RESP3 연결을 열어 클라이언트 캐시를 사용합니다.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "app.cache.tracking", name = "enabled", havingValue = "true")
+    public RedisTrackingCache redisTrackingCache(
+        RedisTrackingProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        RedisURI redisUri = RedisURI.builder()
+            .withHost(host)
+            .withPort(port)
+            .withTimeout(timeout)
+            .build();
+
+        return new RedisTrackingCache(redisUri, properties, meterRegistry);
+    }
 }
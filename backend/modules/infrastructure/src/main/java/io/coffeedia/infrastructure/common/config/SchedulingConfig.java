@@ -0,0 +1,13 @@
+package io.coffeedia.infrastructure.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링은 이 설정에서만 켜고, 스케줄러 스레드 수는 spring.task.scheduling 설정을 따릅니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
@@ -0,0 +1,63 @@
+package io.coffeedia.infrastructure.persistence.budget;
+
+import io.coffeedia.domain.exception.QueryBudgetExceededException;
+import java.time.Duration;
+
+/**
+ * 유스케이스 호출 한 번의 쿼리 시간 예산
+ * <p>
+ * 현재 스레드에 하나만 두며, 유스케이스 안에서 다른 유스케이스를 호출해도 바깥 예산을 그대로 사용합니다.
+ */
+final class QueryBudget {
+
+    static final String STATEMENT_TIMEOUT = "statement_timeout";
+    static final String BUDGET_EXHAUSTED = "budget_exhausted";
+
+    private static final ThreadLocal<QueryBudget> CURRENT = new ThreadLocal<>();
+
+    private final String useCase;
+    private final Duration statementTimeout;
+    private final long budgetNanos;
+    private long spentNanos;
+
+    QueryBudget(final String useCase, final Duration statementTimeout, final Duration budget) {
+        this.useCase = useCase;
+        this.statementTimeout = statementTimeout;
+        this.budgetNanos = budget != null ? budget.toNanos() : Long.MAX_VALUE;
+    }
+
+    static QueryBudget current() {
+        return CURRENT.get();
+    }
+
+    static void open(final QueryBudget budget) {
+        CURRENT.set(budget);
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+
+    String useCase() {
+        return useCase;
+    }
+
+    long spentNanos() {
+        return spentNanos;
+    }
+
+    /**
+     * 다음 쿼리에 적용할 타임아웃. 문장 타임아웃과 남은 예산 중 짧은 값을 사용합니다.
+     */
+    Duration nextTimeout() {
+        long remaining = budgetNanos - spentNanos;
+        if (remaining <= 0) {
+            throw new QueryBudgetExceededException(useCase, BUDGET_EXHAUSTED, null);
+        }
+        return Duration.ofNanos(Math.min(statementTimeout.toNanos(), remaining));
+    }
+
+    void charge(final long elapsedNanos) {
+        spentNanos += elapsedNanos;
+    }
+}
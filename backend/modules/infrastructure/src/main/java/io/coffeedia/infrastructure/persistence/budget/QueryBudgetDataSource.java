@@ -0,0 +1,99 @@
+package io.coffeedia.infrastructure.persistence.budget;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 쿼리마다 JDBC 문장 타임아웃을 걸고 실행 시간을 유스케이스 예산에 더하는 DataSource
+ * <p>
+ * 유스케이스 예산이 있으면 문장 타임아웃과 남은 예산 중 짧은 값을, 없으면 기본 문장 타임아웃을 적용합니다. JDBC 타임아웃은 초 단위이므로
+ * 올림해서 적용합니다.
+ */
+public class QueryBudgetDataSource extends DelegatingDataSource {
+
+    private final Duration defaultStatementTimeout;
+
+    public QueryBudgetDataSource(
+        final DataSource targetDataSource,
+        final Duration defaultStatementTimeout
+    ) {
+        super(targetDataSource);
+        this.defaultStatementTimeout = defaultStatementTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connectionProxy(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password)
+        throws SQLException {
+        return connectionProxy(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection connectionProxy(final Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+                Object result = invoke(connection, method, args);
+                if (result instanceof Statement statement && createsStatement(method)) {
+                    applyTimeout(statement);
+                    return statementProxy(statement, method.getReturnType());
+                }
+                return result;
+            }
+        );
+    }
+
+    private Object statementProxy(final Statement statement, final Class<?> statementType) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            QueryBudget budget = QueryBudget.current();
+            if (budget == null || !method.getName().startsWith("execute")) {
+                return invoke(statement, method, args);
+            }
+
+            long startedAt = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                budget.charge(System.nanoTime() - startedAt);
+            }
+        };
+        return Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[]{statementType}, handler);
+    }
+
+    private void applyTimeout(final Statement statement) throws SQLException {
+        QueryBudget budget = QueryBudget.current();
+        Duration timeout = budget != null ? budget.nextTimeout() : defaultStatementTimeout;
+        if (timeout == null || timeout.isZero() || timeout.isNegative()) {
+            return;
+        }
+        statement.setQueryTimeout((int) Math.ceil(timeout.toMillis() / 1000.0));
+    }
+
+    private static boolean createsStatement(final Method method) {
+        return method.getName().equals("createStatement")
+            || method.getName().equals("prepareStatement")
+            || method.getName().equals("prepareCall");
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args)
+        throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
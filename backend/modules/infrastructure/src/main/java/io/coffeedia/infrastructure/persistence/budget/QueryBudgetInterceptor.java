@@ -0,0 +1,92 @@
+package io.coffeedia.infrastructure.persistence.budget;
+
+import io.coffeedia.domain.exception.QueryBudgetExceededException;
+import io.coffeedia.infrastructure.persistence.budget.QueryBudgetProperties.UseCaseBudget;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 유스케이스 호출 동안 쿼리 시간 예산을 열고, 타임아웃으로 취소된 쿼리를 {@link QueryBudgetExceededException} 으로 바꿉니다.
+ */
+@RequiredArgsConstructor
+class QueryBudgetInterceptor implements MethodInterceptor {
+
+    /**
+     * PostgreSQL 이 문장 타임아웃으로 쿼리를 취소했을 때의 SQLState
+     */
+    private static final String QUERY_CANCELED = "57014";
+
+    private final QueryBudgetProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        if (QueryBudget.current() != null || invocation.getThis() == null) {
+            return invocation.proceed();
+        }
+
+        String useCase = AopUtils.getTargetClass(invocation.getThis()).getSimpleName();
+        UseCaseBudget config = properties.useCases().get(useCase);
+        QueryBudget budget = new QueryBudget(
+            useCase,
+            config.statementTimeout() != null
+                ? config.statementTimeout() : properties.defaultStatementTimeout(),
+            config.budget()
+        );
+
+        QueryBudget.open(budget);
+        try {
+            return invocation.proceed();
+        } catch (RuntimeException e) {
+            // 예산 초과 예외는 JPA 나 저장소 예외 변환을 거치며 감싸질 수 있으므로 원인까지 확인합니다.
+            QueryBudgetExceededException exhausted = findCause(e, QueryBudgetExceededException.class);
+            if (exhausted != null) {
+                exceeded(useCase, exhausted.getReason());
+                throw exhausted;
+            }
+            if (!isQueryCanceled(e)) {
+                throw e;
+            }
+            exceeded(useCase, QueryBudget.STATEMENT_TIMEOUT);
+            throw new QueryBudgetExceededException(useCase, QueryBudget.STATEMENT_TIMEOUT, e);
+        } finally {
+            QueryBudget.close();
+            Timer.builder("db.query.time")
+                .tag("use_case", useCase)
+                .description("유스케이스 호출 한 번에서 쿼리 실행에 쓴 시간")
+                .register(meterRegistry.getObject())
+                .record(budget.spentNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void exceeded(final String useCase, final String reason) {
+        Counter.builder("db.query.budget.exceeded")
+            .tag("use_case", useCase)
+            .tag("reason", reason)
+            .description("쿼리 시간 제한을 넘어 취소된 유스케이스 호출 수")
+            .register(meterRegistry.getObject())
+            .increment();
+    }
+
+    private static boolean isQueryCanceled(final Throwable exception) {
+        SQLException sql = findCause(exception, SQLException.class);
+        return sql != null && QUERY_CANCELED.equals(sql.getSQLState());
+    }
+
+    private static <T extends Throwable> T findCause(final Throwable exception, final Class<T> type) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return type.cast(cause);
+            }
+        }
+        return null;
+    }
+}
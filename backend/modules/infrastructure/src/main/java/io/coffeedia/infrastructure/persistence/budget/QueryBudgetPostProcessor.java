@@ -0,0 +1,26 @@
+package io.coffeedia.infrastructure.persistence.budget;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 설정에 등록된 유스케이스 구현체에 쿼리 시간 예산 인터셉터를 적용합니다.
+ * <p>
+ * 트랜잭션 프록시보다 바깥에서 동작하도록 기존 어드바이저 앞에 추가하므로, 커넥션을 얻기 전에 예산이 열립니다.
+ */
+public class QueryBudgetPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    public QueryBudgetPostProcessor(
+        final QueryBudgetProperties properties,
+        final ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this.advisor = new DefaultPointcutAdvisor(
+            new ComposablePointcut(properties::covers),
+            new QueryBudgetInterceptor(properties, meterRegistry)
+        );
+        this.beforeExistingAdvisors = true;
+    }
+}
@@ -0,0 +1,36 @@
+package io.coffeedia.infrastructure.persistence.budget;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 유스케이스별 쿼리 시간 제한 설정
+ *
+ * @param enabled                 쿼리 시간 제한 사용 여부
+ * @param defaultStatementTimeout 유스케이스 설정이 없을 때 모든 쿼리에 적용하는 JDBC 문장 타임아웃
+ * @param useCases                유스케이스 구현 클래스 이름별 제한 (예: GetAllRecipeSummariesService)
+ */
+@ConfigurationProperties(prefix = "app.datasource.query-budget")
+public record QueryBudgetProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("5s") Duration defaultStatementTimeout,
+    @DefaultValue Map<String, UseCaseBudget> useCases
+) {
+
+    /**
+     * @param statementTimeout 쿼리 하나에 허용하는 시간, 없으면 기본 문장 타임아웃을 사용
+     * @param budget           유스케이스 호출 한 번에서 쿼리 실행에 쓸 수 있는 총 시간, 없으면 제한하지 않음
+     */
+    public record UseCaseBudget(
+        Duration statementTimeout,
+        Duration budget
+    ) {
+
+    }
+
+    public boolean covers(final Class<?> useCaseClass) {
+        return enabled && useCases.containsKey(useCaseClass.getSimpleName());
+    }
+}
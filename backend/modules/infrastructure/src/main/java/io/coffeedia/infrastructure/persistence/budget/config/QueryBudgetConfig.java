@@ -0,0 +1,25 @@
+package io.coffeedia.infrastructure.persistence.budget.config;
+
+import io.coffeedia.infrastructure.persistence.budget.QueryBudgetPostProcessor;
+import io.coffeedia.infrastructure.persistence.budget.QueryBudgetProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(QueryBudgetProperties.class)
+public class QueryBudgetConfig {
+
+    /**
+     * 후처리기는 다른 빈보다 먼저 만들어지므로 static 으로 선언하고 메트릭 레지스트리는 지연 조회합니다.
+     */
+    @Bean
+    public static QueryBudgetPostProcessor queryBudgetPostProcessor(
+        QueryBudgetProperties properties,
+        ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new QueryBudgetPostProcessor(properties, meterRegistry);
+    }
+}
@@ -1,13 +1,19 @@
 package io.coffeedia.infrastructure.persistence.datasource;
 
+import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import io.coffeedia.infrastructure.persistence.budget.QueryBudgetDataSource;
+import io.coffeedia.infrastructure.persistence.budget.QueryBudgetProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import javax.sql.DataSource;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +23,7 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 @Configuration
 @EnableTransactionManagement
+@EnableConfigurationProperties({ReadRoutingProperties.class, ReplicaDataSourceProperties.class})
 @EnableAutoConfiguration(exclude = {DataSourceAutoConfiguration.class})
 public class DataSourceConfig {
 
@@ -33,15 +40,25 @@ public class DataSourceConfig {
     }
 
     /**
-     * 읽기 전용 데이터소스 (Replica Database)
+     * 읽기 전용 데이터소스 목록 (Replica Database)
+     * <p>
+     * 설정한 Replica 마다 커넥션 풀을 만들고, 풀 이름이 없으면 Replica 이름으로 지정합니다.
      */
     @Bean
-    @ConfigurationProperties(prefix = "spring.datasource.replica.hikari")
-    public DataSource replicaDataSource() {
-        return DataSourceBuilder
-            .create()
-            .type(HikariDataSource.class)
-            .build();
+    public ReplicaSelector replicaSelector(
+        ReplicaDataSourceProperties replicaProperties,
+        ReadRoutingProperties routingProperties,
+        MeterRegistry meterRegistry
+    ) {
+        List<ReplicaNode> nodes = replicaProperties.replicas().entrySet().stream()
+            .map(replica -> new ReplicaNode(
+                replica.getKey(),
+                replicaDataSource(replica.getKey(), replica.getValue()),
+                routingProperties,
+                meterRegistry
+            ))
+            .toList();
+        return new ReplicaSelector(nodes, routingProperties.balancing());
     }
 
     /**
@@ -50,19 +67,23 @@ public class DataSourceConfig {
     @Bean
     public DataSource routingDataSource(
         @Qualifier("mainDataSource") DataSource mainDataSource,
-        @Qualifier("replicaDataSource") DataSource replicaDataSource
+        ReplicaSelector replicaSelector,
+        WriteStickiness writeStickiness,
+        MeterRegistry meterRegistry
     ) {
-        RoutingDataSource routingDataSource = new RoutingDataSource();
+        RoutingDataSource routingDataSource = new RoutingDataSource(
+            replicaSelector, writeStickiness, meterRegistry
+        );
 
         Map<Object, Object> dataSourceMap = new HashMap<>();
         dataSourceMap.put(
             DataSourceType.MAIN,
             mainDataSource
         );
-        dataSourceMap.put(
-            DataSourceType.REPLICA,
-            replicaDataSource
-        );
+        replicaSelector.nodes().forEach(replica -> dataSourceMap.put(
+            replica,
+            replica.dataSource()
+        ));
 
         routingDataSource.setTargetDataSources(dataSourceMap);
         routingDataSource.setDefaultTargetDataSource(mainDataSource);
@@ -75,7 +96,28 @@ public class DataSourceConfig {
      */
     @Primary
     @Bean
-    public DataSource dataSource(@Qualifier("routingDataSource") DataSource routingDataSource) {
-        return new LazyConnectionDataSourceProxy(routingDataSource);
+    public DataSource dataSource(
+        @Qualifier("routingDataSource") DataSource routingDataSource,
+        QueryBudgetProperties queryBudgetProperties
+    ) {
+        if (!queryBudgetProperties.enabled()) {
+            return new LazyConnectionDataSourceProxy(routingDataSource);
+        }
+        // 쿼리마다 유스케이스 예산에 맞춘 문장 타임아웃을 적용
+        return new LazyConnectionDataSourceProxy(new QueryBudgetDataSource(
+            routingDataSource, queryBudgetProperties.defaultStatementTimeout()
+        ));
+    }
+
+    /**
+     * 설정을 복사해 첫 커넥션 요청 시점에 풀을 시작하는 Hikari 데이터소스를 만듭니다.
+     */
+    private static HikariDataSource replicaDataSource(final String name, final HikariConfig config) {
+        HikariDataSource dataSource = new HikariDataSource();
+        config.copyStateTo(dataSource);
+        if (dataSource.getPoolName() == null) {
+            dataSource.setPoolName("ReplicaHikariPool-" + name);
+        }
+        return dataSource;
     }
 }
@@ -1,5 +1,10 @@
 package io.coffeedia.infrastructure.persistence.datasource;
 
+/**
+ * 라우팅 키
+ * <p>
+ * Replica 는 여러 개일 수 있어 설정에 정의한 Replica 이름을 키로 사용합니다.
+ */
 public enum DataSourceType {
-    MAIN, REPLICA;
+    MAIN;
 }
@@ -0,0 +1,44 @@
+package io.coffeedia.infrastructure.persistence.datasource;
+
+/**
+ * 현재 요청의 읽기 일관성 컨텍스트
+ * <p>
+ * 요청을 처리하는 동안 사용자 식별 키를 보관해, 같은 사용자가 방금 쓴 데이터를 Replica 가 아닌 MAIN 에서 읽도록 합니다. 키가 없는
+ * 요청도 같은 요청 안에서 쓰기가 커밋된 뒤의 읽기는 MAIN 으로 보냅니다.
+ */
+final class ReadConsistencyContext {
+
+    private static final ThreadLocal<String> KEY = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> WRITTEN = new ThreadLocal<>();
+
+    private ReadConsistencyContext() {
+    }
+
+    /**
+     * 요청 시작 시 사용자 식별 키를 설정합니다. 키가 없으면 요청 단위로만 동작합니다.
+     */
+    static void begin(final String key) {
+        KEY.set(key);
+        WRITTEN.remove();
+    }
+
+    /**
+     * 요청 종료 시 컨텍스트를 정리합니다.
+     */
+    static void end() {
+        KEY.remove();
+        WRITTEN.remove();
+    }
+
+    static String key() {
+        return KEY.get();
+    }
+
+    static void markWritten() {
+        WRITTEN.set(Boolean.TRUE);
+    }
+
+    static boolean written() {
+        return Boolean.TRUE.equals(WRITTEN.get());
+    }
+}
@@ -0,0 +1,31 @@
+package io.coffeedia.infrastructure.persistence.datasource;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 읽기 전용 트랜잭션 라우팅 설정
+ *
+ * @param maxReplicaLag     이 값보다 복제 지연이 크면 읽기도 MAIN 으로 보냄
+ * @param lagPollInterval   Replica 복제 지연을 확인하는 간격
+ * @param stickyWindow      쓰기 커밋 후 같은 사용자의 읽기를 MAIN 으로 보내는 시간
+ * @param stickyMaximumSize 쓰기 이력을 보관할 최대 사용자 수
+ * @param balancing         사용 가능한 Replica 사이의 읽기 분산 방식
+ * @param failureThreshold  Replica 를 라우팅에서 제외하기까지의 연속 실패 횟수
+ * @param successThreshold  제외된 Replica 를 복귀시키기까지의 연속 성공 횟수
+ * @param minEjection       제외된 Replica 를 복귀시키기 전 최소 제외 시간
+ */
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public record ReadRoutingProperties(
+    @DefaultValue("1s") Duration maxReplicaLag,
+    @DefaultValue("1s") Duration lagPollInterval,
+    @DefaultValue("5s") Duration stickyWindow,
+    @DefaultValue("100000") long stickyMaximumSize,
+    @DefaultValue("ROUND_ROBIN") ReplicaBalancing balancing,
+    @DefaultValue("3") int failureThreshold,
+    @DefaultValue("3") int successThreshold,
+    @DefaultValue("10s") Duration minEjection
+) {
+
+}
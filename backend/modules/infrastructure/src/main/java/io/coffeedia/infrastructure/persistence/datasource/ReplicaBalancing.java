@@ -0,0 +1,22 @@
+package io.coffeedia.infrastructure.persistence.datasource;
+
+/**
+ * 사용 가능한 Replica 사이의 읽기 분산 방식
+ */
+public enum ReplicaBalancing {
+
+    /**
+     * 순서대로 돌아가며 선택
+     */
+    ROUND_ROBIN,
+
+    /**
+     * 사용 중인 커넥션이 가장 적은 Replica 선택
+     */
+    LEAST_ACTIVE,
+
+    /**
+     * 상태 확인 응답 시간에 반비례하는 가중치로 무작위 선택
+     */
+    LATENCY
+}
@@ -0,0 +1,18 @@
+package io.coffeedia.infrastructure.persistence.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 읽기 전용 Replica 커넥션 풀 목록
+ *
+ * @param replicas Replica 이름별 Hikari 설정 (이름은 라우팅 키와 메트릭 태그로 사용)
+ */
+@ConfigurationProperties(prefix = "spring.datasource")
+public record ReplicaDataSourceProperties(
+    @DefaultValue Map<String, HikariConfig> replicas
+) {
+
+}
@@ -0,0 +1,81 @@
+package io.coffeedia.infrastructure.persistence.datasource;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Replica 복제 지연 모니터
+ * <p>
+ * 주기적으로 각 Replica 의 마지막 재생 시각을 확인해 결과를 Replica 상태에 반영합니다. 지연이 허용치를 넘거나 확인에 실패하는
+ * 일이 연속되면 라우팅에서 제외되고, 다시 정상으로 연속 확인되면 복귀합니다. 받은 WAL 을 모두 재생한 상태라면 쓰기가 없어 재생 시각이 오래되었더라도 지연이 없는 것으로 봅니다.
+ * <p>
+ * 확인 주기가 짧고 Replica 응답이 늦으면 오래 걸리므로, 공용 스케줄러를 점유하지 않도록 전용 스레드에서 실행합니다.
+ */
+@Slf4j
+@Component
+public class ReplicaLagMonitor {
+
+    private static final String LAG_SQL = """
+        SELECT CASE
+            WHEN NOT pg_is_in_recovery() THEN 0
+            WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+            ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000, 0)
+        END
+        """;
+
+    private final ReplicaSelector replicaSelector;
+    private final ReadRoutingProperties properties;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("replica-lag-monitor").daemon().factory());
+
+    public ReplicaLagMonitor(
+        final ReplicaSelector replicaSelector,
+        final ReadRoutingProperties properties
+    ) {
+        this.replicaSelector = replicaSelector;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() {
+        long interval = properties.lagPollInterval().toMillis();
+        // Replica 는 첫 확인에 성공해야 라우팅되므로 기동 직후 바로 확인합니다.
+        scheduler.scheduleWithFixedDelay(this::poll, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    public void poll() {
+        try {
+            replicaSelector.nodes().forEach(this::probe);
+        } catch (Exception e) {
+            // 예외가 밖으로 나가면 이후 실행이 모두 취소되므로 여기서 멈춥니다.
+            log.error("Replica lag poll failed", e);
+        }
+    }
+
+    private void probe(final ReplicaNode node) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(node.dataSource());
+        jdbcTemplate.setQueryTimeout((int) Math.max(1, properties.lagPollInterval().toSeconds()));
+
+        long startedAt = System.nanoTime();
+        try {
+            Double lag = jdbcTemplate.queryForObject(LAG_SQL, Double.class);
+            long lagMillis = lag != null ? lag.longValue() : 0L;
+            node.recordProbe(lagMillis, System.nanoTime() - startedAt,
+                lagMillis <= properties.maxReplicaLag().toMillis());
+        } catch (Exception e) {
+            log.debug("Replica {} lag check failed", node.name(), e);
+            node.recordFailure(e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+}
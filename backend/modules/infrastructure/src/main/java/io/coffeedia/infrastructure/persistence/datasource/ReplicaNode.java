@@ -0,0 +1,179 @@
+package io.coffeedia.infrastructure.persistence.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 라우팅 대상 Replica 하나와 그 상태
+ * <p>
+ * 상태 확인 결과(복제 지연, 응답 시간)와 사용 가능 여부를 보관하며, 라우팅 횟수와 상태를 Replica 이름 태그로 내보냅니다. 일시적인
+ * 오류로 제외와 복귀를 반복하지 않도록 연속 실패 횟수가 임계치에 도달해야 제외하고, 제외된 뒤에는 최소 제외 시간이 지나고 연속 성공
+ * 횟수가 임계치에 도달해야 복귀시킵니다.
+ * <p>
+ * 기동 직후에는 복제 지연을 알 수 없으므로 사용하지 않는 상태로 시작하고, 첫 상태 확인에 성공하면 바로 라우팅에 넣습니다.
+ */
+@Slf4j
+public final class ReplicaNode {
+
+    private static final double LATENCY_SMOOTHING = 0.3;
+
+    private final String name;
+    private final DataSource dataSource;
+    private final int failureThreshold;
+    private final int successThreshold;
+    private final long minEjectionNanos;
+
+    private final Counter routed;
+    private final Counter ejected;
+    private final Counter readmitted;
+
+    private volatile boolean available;
+    private volatile long lagMillis;
+    private volatile double latencyNanos;
+    private int consecutiveFailures;
+    private int consecutiveSuccesses;
+    private long ejectedAt;
+    private boolean admitted;
+
+    public ReplicaNode(
+        final String name,
+        final DataSource dataSource,
+        final ReadRoutingProperties properties,
+        final MeterRegistry meterRegistry
+    ) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.failureThreshold = Math.max(1, properties.failureThreshold());
+        this.successThreshold = Math.max(1, properties.successThreshold());
+        this.minEjectionNanos = properties.minEjection().toNanos();
+
+        this.routed = Counter.builder("datasource.replica.routed")
+            .tag("replica", name)
+            .description("Replica 로 보낸 읽기 전용 트랜잭션 수")
+            .register(meterRegistry);
+        this.ejected = transitionCounter(meterRegistry, name, "ejected");
+        this.readmitted = transitionCounter(meterRegistry, name, "readmitted");
+
+        Gauge.builder("datasource.replica.lag", this, node -> node.lagMillis)
+            .tag("replica", name)
+            .baseUnit("milliseconds")
+            .description("Replica 복제 지연")
+            .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, node -> node.available ? 1 : 0)
+            .tag("replica", name)
+            .description("Replica 라우팅 사용 가능 여부 (1: 사용, 0: 제외)")
+            .register(meterRegistry);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    public boolean available() {
+        return available;
+    }
+
+    public long lagMillis() {
+        return lagMillis;
+    }
+
+    /**
+     * 상태 확인 응답 시간의 지수 이동 평균
+     */
+    public double latencyNanos() {
+        return latencyNanos;
+    }
+
+    public synchronized int consecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    /**
+     * 풀에서 사용 중인 커넥션 수, 풀이 아직 시작되지 않았으면 0
+     */
+    public int activeConnections() {
+        if (dataSource instanceof HikariDataSource hikari) {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            return pool != null ? pool.getActiveConnections() : 0;
+        }
+        return 0;
+    }
+
+    void onRouted() {
+        routed.increment();
+    }
+
+    /**
+     * 상태 확인에 성공한 결과를 반영합니다. 지연이 허용치를 넘었으면 실패로 셉니다.
+     */
+    synchronized void recordProbe(
+        final long lagMillis,
+        final long latencyNanos,
+        final boolean withinLag
+    ) {
+        this.lagMillis = lagMillis;
+        this.latencyNanos = this.latencyNanos == 0
+            ? latencyNanos
+            : LATENCY_SMOOTHING * latencyNanos + (1 - LATENCY_SMOOTHING) * this.latencyNanos;
+
+        if (withinLag) {
+            recordSuccess();
+        } else {
+            recordFailure("lag " + lagMillis + "ms");
+        }
+    }
+
+    /**
+     * 상태 확인 또는 커넥션 획득 실패를 반영합니다.
+     */
+    synchronized void recordFailure(final String reason) {
+        consecutiveSuccesses = 0;
+        consecutiveFailures++;
+        if (available && consecutiveFailures >= failureThreshold) {
+            available = false;
+            ejectedAt = System.nanoTime();
+            ejected.increment();
+            log.warn("Replica {} ejected after {} consecutive failures - last: {}", name,
+                consecutiveFailures, reason);
+        }
+    }
+
+    private void recordSuccess() {
+        consecutiveFailures = 0;
+        consecutiveSuccesses++;
+        if (!admitted) {
+            admitted = true;
+            available = true;
+            log.info("Replica {} admitted after first lag check - lag: {}ms", name, lagMillis);
+            return;
+        }
+        if (!available && consecutiveSuccesses >= successThreshold
+            && System.nanoTime() - ejectedAt >= minEjectionNanos) {
+            available = true;
+            readmitted.increment();
+            log.info("Replica {} readmitted after {} consecutive successes - lag: {}ms", name,
+                consecutiveSuccesses, lagMillis);
+        }
+    }
+
+    private static Counter transitionCounter(
+        final MeterRegistry meterRegistry,
+        final String name,
+        final String to
+    ) {
+        return Counter.builder("datasource.replica.transitions")
+            .tag("replica", name)
+            .tag("to", to)
+            .description("Replica 라우팅 제외 및 복귀 횟수")
+            .register(meterRegistry);
+    }
+}
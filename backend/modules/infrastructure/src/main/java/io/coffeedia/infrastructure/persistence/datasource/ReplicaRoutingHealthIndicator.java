@@ -0,0 +1,39 @@
+package io.coffeedia.infrastructure.persistence.datasource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Replica 라우팅 상태를 actuator health 에 노출합니다.
+ * <p>
+ * Replica 가 모두 제외되어도 MAIN 이 읽기를 대신하므로 상태는 UP 으로 두고, 세부 정보로 읽기 대상과 Replica 별 상태를 보여줍니다.
+ */
+@Component
+@RequiredArgsConstructor
+class ReplicaRoutingHealthIndicator implements HealthIndicator {
+
+    private final ReplicaSelector replicaSelector;
+
+    @Override
+    public Health health() {
+        Map<String, Object> replicas = new LinkedHashMap<>();
+        boolean anyAvailable = false;
+        for (ReplicaNode node : replicaSelector.nodes()) {
+            anyAvailable |= node.available();
+            replicas.put(node.name(), Map.of(
+                "available", node.available(),
+                "lagMillis", node.lagMillis(),
+                "consecutiveFailures", node.consecutiveFailures()
+            ));
+        }
+
+        return Health.up()
+            .withDetail("readTarget", anyAvailable ? "replica" : "main")
+            .withDetail("replicas", replicas)
+            .build();
+    }
+}
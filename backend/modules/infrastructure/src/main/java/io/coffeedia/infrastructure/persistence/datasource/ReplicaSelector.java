@@ -0,0 +1,107 @@
+package io.coffeedia.infrastructure.persistence.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용 가능한 Replica 중 읽기 전용 트랜잭션을 보낼 대상을 고르는 선택기
+ */
+public class ReplicaSelector {
+
+    private final List<ReplicaNode> nodes;
+    private final ReplicaBalancing balancing;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicaSelector(final List<ReplicaNode> nodes, final ReplicaBalancing balancing) {
+        this.nodes = List.copyOf(nodes);
+        this.balancing = balancing;
+    }
+
+    public List<ReplicaNode> nodes() {
+        return nodes;
+    }
+
+    /**
+     * 사용 가능한 Replica 를 하나 고릅니다. 모두 제외된 상태이면 null 을 반환합니다.
+     */
+    public ReplicaNode select() {
+        List<ReplicaNode> available = nodes.stream()
+            .filter(ReplicaNode::available)
+            .toList();
+        if (available.isEmpty()) {
+            return null;
+        }
+        if (available.size() == 1) {
+            return available.getFirst();
+        }
+
+        return switch (balancing) {
+            case ROUND_ROBIN -> roundRobin(available);
+            case LEAST_ACTIVE -> leastActive(available);
+            case LATENCY -> latencyWeighted(available);
+        };
+    }
+
+    private ReplicaNode roundRobin(final List<ReplicaNode> available) {
+        return available.get(Math.floorMod(cursor.getAndIncrement(), available.size()));
+    }
+
+    /**
+     * 사용 중인 커넥션 수가 같으면 순서대로 돌아가며 고르도록 시작 위치를 옮깁니다.
+     */
+    private ReplicaNode leastActive(final List<ReplicaNode> available) {
+        int start = Math.floorMod(cursor.getAndIncrement(), available.size());
+        ReplicaNode selected = null;
+        int selectedActive = Integer.MAX_VALUE;
+        for (int i = 0; i < available.size(); i++) {
+            ReplicaNode node = available.get((start + i) % available.size());
+            int active = node.activeConnections();
+            if (active < selectedActive) {
+                selected = node;
+                selectedActive = active;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * 아직 응답 시간을 측정하지 못한 Replica 는 측정된 Replica 중 가장 빠른 것과 같은 가중치를 줍니다.
+     */
+    private ReplicaNode latencyWeighted(final List<ReplicaNode> available) {
+        double fastest = available.stream()
+            .mapToDouble(ReplicaNode::latencyNanos)
+            .filter(latency -> latency > 0)
+            .min()
+            .orElse(1);
+
+        double[] weights = new double[available.size()];
+        double total = 0;
+        for (int i = 0; i < available.size(); i++) {
+            double latency = available.get(i).latencyNanos();
+            weights[i] = 1 / (latency > 0 ? latency : fastest);
+            total += weights[i];
+        }
+
+        double point = ThreadLocalRandom.current().nextDouble(total);
+        for (int i = 0; i < weights.length; i++) {
+            point -= weights[i];
+            if (point < 0) {
+                return available.get(i);
+            }
+        }
+        return available.getLast();
+    }
+
+    /**
+     * 애플리케이션 종료 시 Replica 커넥션 풀을 닫습니다.
+     */
+    public void close() {
+        nodes.forEach(node -> {
+            if (node.dataSource() instanceof HikariDataSource hikari) {
+                hikari.close();
+            }
+        });
+    }
+}
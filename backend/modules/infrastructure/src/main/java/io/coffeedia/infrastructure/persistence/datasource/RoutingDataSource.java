@@ -1,17 +1,92 @@
 package io.coffeedia.infrastructure.persistence.datasource;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+@Slf4j
 public class RoutingDataSource extends AbstractRoutingDataSource {
 
+    private final ReplicaSelector replicaSelector;
+    private final WriteStickiness writeStickiness;
+    private final Counter unavailableFallbacks;
+    private final Counter stickyFallbacks;
+    private final Counter connectionFailureFallbacks;
+
+    public RoutingDataSource(
+        final ReplicaSelector replicaSelector,
+        final WriteStickiness writeStickiness,
+        final MeterRegistry meterRegistry
+    ) {
+        this.replicaSelector = replicaSelector;
+        this.writeStickiness = writeStickiness;
+        this.unavailableFallbacks = fallbackCounter(meterRegistry, "unavailable");
+        this.stickyFallbacks = fallbackCounter(meterRegistry, "sticky");
+        this.connectionFailureFallbacks = fallbackCounter(meterRegistry, "connection_failure");
+    }
+
+    /**
+     * Replica 커넥션을 얻지 못하면 실패를 Replica 상태에 반영하고 MAIN 커넥션으로 대신 응답합니다.
+     * <p>
+     * Replica 를 선택한 뒤 커넥션을 얻으므로 선택과 대체가 한 번의 키 결정으로 이루어집니다. MAIN 커넥션은 DML 실행 여부를 쓰기 후
+     * 읽기 고정에 알립니다.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (key == DataSourceType.MAIN) {
+            return writeStickiness.track(mainDataSource().getConnection());
+        }
+
+        ReplicaNode replica = (ReplicaNode) key;
+        try {
+            return replica.dataSource().getConnection();
+        } catch (SQLException e) {
+            replica.recordFailure(e.getMessage());
+            connectionFailureFallbacks.increment();
+            log.warn("Replica {} connection failed, falling back to main", replica.name(), e);
+            return writeStickiness.track(mainDataSource().getConnection());
+        }
+    }
+
     /**
      * 현재 트랜잭션의 읽기 전용 여부에 따라 데이터소스 키를 설정
+     * <p>
+     * 읽기 전용 트랜잭션은 사용 가능한 Replica 중 하나를 키로 사용합니다. 방금 쓰기를 커밋한 사용자이거나 사용 가능한 Replica 가
+     * 없으면 MAIN 을 사용합니다.
      */
     @Override
     protected Object determineCurrentLookupKey() {
-        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
-            ? DataSourceType.REPLICA
-            : DataSourceType.MAIN;
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return DataSourceType.MAIN;
+        }
+        if (writeStickiness.isSticky()) {
+            stickyFallbacks.increment();
+            return DataSourceType.MAIN;
+        }
+
+        ReplicaNode replica = replicaSelector.select();
+        if (replica == null) {
+            unavailableFallbacks.increment();
+            return DataSourceType.MAIN;
+        }
+        replica.onRouted();
+        return replica;
+    }
+
+    private DataSource mainDataSource() {
+        return getResolvedDefaultDataSource();
+    }
+
+    private static Counter fallbackCounter(final MeterRegistry meterRegistry, final String reason) {
+        return Counter.builder("datasource.routing.fallback")
+            .tag("reason", reason)
+            .description("읽기 전용 트랜잭션을 MAIN 으로 보낸 사유별 횟수")
+            .register(meterRegistry);
     }
 }
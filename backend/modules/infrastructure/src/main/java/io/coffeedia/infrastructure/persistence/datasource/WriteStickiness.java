@@ -0,0 +1,133 @@
+package io.coffeedia.infrastructure.persistence.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.coffeedia.application.port.repository.ReadConsistencyPort;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 쓰기 트랜잭션 커밋 후 짧은 시간 동안 같은 사용자의 읽기를 MAIN 에 고정
+ * <p>
+ * MAIN 커넥션에서 DML(executeUpdate, executeBatch)을 실행한 트랜잭션이 커밋된 경우에만 고정합니다. 읽기 전용으로 표시하지 않았을 뿐
+ * 읽기만 한 트랜잭션은 고정하지 않아, 그 사용자의 읽기도 계속 Replica 로 보냅니다. 쓰기 이력은 노드 메모리에만 보관하므로, 다른 노드로
+ * 간 요청은 복제 지연 기준으로만 라우팅됩니다.
+ */
+@Component
+public class WriteStickiness implements ReadConsistencyPort {
+
+    private static final Set<String> WRITE_METHODS = Set.of(
+        "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch"
+    );
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public WriteStickiness(final ReadRoutingProperties properties) {
+        this.recentWriters = Caffeine.newBuilder()
+            .maximumSize(properties.stickyMaximumSize())
+            .expireAfterWrite(properties.stickyWindow())
+            .build();
+    }
+
+    @Override
+    public void begin(final String key) {
+        ReadConsistencyContext.begin(key);
+    }
+
+    @Override
+    public void end() {
+        ReadConsistencyContext.end();
+    }
+
+    /**
+     * MAIN 커넥션에서 만든 문장이 DML 을 실행하면 현재 트랜잭션이 커밋된 뒤 고정하도록 표시하는 커넥션을 반환합니다.
+     */
+    Connection track(final Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+                Object result = invoke(connection, method, args);
+                if (result instanceof Statement statement && createsStatement(method)) {
+                    return statementProxy(statement, method.getReturnType());
+                }
+                return result;
+            }
+        );
+    }
+
+    private Object statementProxy(final Statement statement, final Class<?> statementType) {
+        return Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[]{statementType},
+            (proxy, method, args) -> {
+                Object result = invoke(statement, method, args);
+                if (WRITE_METHODS.contains(method.getName())) {
+                    onWrite();
+                }
+                return result;
+            }
+        );
+    }
+
+    /**
+     * 트랜잭션 안의 쓰기는 커밋된 뒤에, 트랜잭션 밖(auto-commit)의 쓰기는 바로 고정합니다.
+     */
+    void onWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markWritten();
+            return;
+        }
+        boolean registered = TransactionSynchronizationManager.getSynchronizations().stream()
+            .anyMatch(MarkWrittenOnCommit.class::isInstance);
+        if (!registered) {
+            TransactionSynchronizationManager.registerSynchronization(new MarkWrittenOnCommit());
+        }
+    }
+
+    void markWritten() {
+        ReadConsistencyContext.markWritten();
+        String key = ReadConsistencyContext.key();
+        if (key != null) {
+            recentWriters.put(key, Boolean.TRUE);
+        }
+    }
+
+    boolean isSticky() {
+        if (ReadConsistencyContext.written()) {
+            return true;
+        }
+        String key = ReadConsistencyContext.key();
+        return key != null && recentWriters.getIfPresent(key) != null;
+    }
+
+    private static boolean createsStatement(final Method method) {
+        return method.getName().equals("createStatement")
+            || method.getName().equals("prepareStatement")
+            || method.getName().equals("prepareCall");
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args)
+        throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private class MarkWrittenOnCommit implements TransactionSynchronization {
+
+        @Override
+        public void afterCommit() {
+            markWritten();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.coffeedia.infrastructure.persistence.index;
+
+import io.coffeedia.domain.vo.ActiveStatus;
+import io.coffeedia.domain.vo.CategoryType;
+import io.coffeedia.domain.vo.RecipeTagFilter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * 레시피 ID 를 태그, 카테고리, 상태별 RoaringBitmap 으로 보관하는 역색인
+ * <p>
+ * 스레드 안전하지 않으므로 동시 접근은 {@link RecipeFilterIndex} 가 잠금으로 보호합니다. 레시피 ID 는 32비트 정수 범위까지만
+ * 색인합니다.
+ */
+final class RecipeBitmaps {
+
+    private final Map<Long, RoaringBitmap> byTag = new HashMap<>();
+    private final Map<CategoryType, RoaringBitmap> byCategory = new EnumMap<>(CategoryType.class);
+    private final Map<ActiveStatus, RoaringBitmap> byStatus = new EnumMap<>(ActiveStatus.class);
+    private final Map<String, Long> tagIds = new HashMap<>();
+
+    void add(final long recipeId, final CategoryType category, final ActiveStatus status) {
+        int id = toIndex(recipeId);
+        byCategory.computeIfAbsent(category, key -> new RoaringBitmap()).add(id);
+        byStatus.computeIfAbsent(status, key -> new RoaringBitmap()).add(id);
+    }
+
+    void addTag(final long recipeId, final long tagId) {
+        byTag.computeIfAbsent(tagId, key -> new RoaringBitmap()).add(toIndex(recipeId));
+    }
+
+    void nameTag(final long tagId, final String name) {
+        tagIds.put(name, tagId);
+    }
+
+    /**
+     * 레시피를 모든 비트맵에서 제거합니다. 태그 변경 전 값을 알 수 없으므로 모든 태그 비트맵을 확인합니다.
+     */
+    void remove(final long recipeId) {
+        int id = toIndex(recipeId);
+        byTag.values().forEach(bitmap -> bitmap.remove(id));
+        byCategory.values().forEach(bitmap -> bitmap.remove(id));
+        byStatus.values().forEach(bitmap -> bitmap.remove(id));
+    }
+
+    /**
+     * 필터에 일치하는 활성 레시피 ID 를 ID 내림차순으로 limit 건까지 반환합니다.
+     */
+    List<Long> find(final RecipeTagFilter filter, final Long beforeId, final int limit) {
+        RoaringBitmap matched = match(filter);
+        if (beforeId != null && beforeId <= Integer.MAX_VALUE) {
+            matched.remove(Math.max(beforeId, 0L), 1L << 32);
+        }
+
+        List<Long> ids = new ArrayList<>(limit);
+        IntIterator iterator = matched.getReverseIntIterator();
+        while (iterator.hasNext() && ids.size() < limit) {
+            ids.add((long) iterator.next());
+        }
+        return ids;
+    }
+
+    RoaringBitmap match(final RecipeTagFilter filter) {
+        RoaringBitmap active = byStatus.get(ActiveStatus.ACTIVE);
+        if (active == null) {
+            return new RoaringBitmap();
+        }
+        RoaringBitmap result = active.clone();
+
+        if (!filter.categories().isEmpty()) {
+            result.and(FastAggregation.or(filter.categories().stream()
+                .map(byCategory::get)
+                .filter(Objects::nonNull)
+                .iterator()));
+        }
+        for (String tag : filter.allTags()) {
+            RoaringBitmap bitmap = tagBitmap(tag);
+            if (bitmap == null) {
+                return new RoaringBitmap();
+            }
+            result.and(bitmap);
+        }
+        if (!filter.anyTags().isEmpty()) {
+            result.and(FastAggregation.or(filter.anyTags().stream()
+                .map(this::tagBitmap)
+                .filter(Objects::nonNull)
+                .iterator()));
+        }
+        for (String tag : filter.excludeTags()) {
+            RoaringBitmap bitmap = tagBitmap(tag);
+            if (bitmap != null) {
+                result.andNot(bitmap);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 대량 적재 후 연속 구간을 run 컨테이너로 압축합니다.
+     */
+    void optimize() {
+        byTag.values().forEach(RoaringBitmap::runOptimize);
+        byCategory.values().forEach(RoaringBitmap::runOptimize);
+        byStatus.values().forEach(RoaringBitmap::runOptimize);
+    }
+
+    long recipeCount() {
+        // 레시피는 한 상태에만 속하므로 상태별 비트맵의 크기 합이 전체 레시피 수입니다.
+        return byStatus.values().stream().mapToLong(RoaringBitmap::getLongCardinality).sum();
+    }
+
+    long sizeInBytes() {
+        return sizeInBytes(byTag) + sizeInBytes(byCategory) + sizeInBytes(byStatus);
+    }
+
+    private RoaringBitmap tagBitmap(final String name) {
+        Long tagId = tagIds.get(name);
+        return tagId != null ? byTag.get(tagId) : null;
+    }
+
+    private static long sizeInBytes(final Map<?, RoaringBitmap> bitmaps) {
+        return bitmaps.values().stream().mapToLong(RoaringBitmap::getLongSizeInBytes).sum();
+    }
+
+    private static int toIndex(final long recipeId) {
+        if (recipeId < 0 || recipeId > Integer.MAX_VALUE) {
+            throw new IllegalStateException("색인할 수 없는 레시피 ID 입니다. id: " + recipeId);
+        }
+        return (int) recipeId;
+    }
+}
@@ -0,0 +1,288 @@
+package io.coffeedia.infrastructure.persistence.index;
+
+import io.coffeedia.application.port.repository.RecipeFilterIndexPort;
+import io.coffeedia.domain.vo.ActiveStatus;
+import io.coffeedia.domain.vo.CategoryType;
+import io.coffeedia.domain.vo.RecipeTagFilter;
+import io.coffeedia.infrastructure.cache.CacheClient;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToLongFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 레시피 태그, 카테고리, 상태 메모리 역색인
+ * <p>
+ * 기동 시와 주기적으로 전체를 다시 만들고, 레시피가 바뀌면 해당 레시피만 DB 값으로 다시 맞춥니다. 변경된 레시피 ID 는 Redis pub/sub
+ * 으로 다른 노드에 알리며, 신호를 놓친 노드는 다음 전체 재생성 때 맞춰집니다.
+ * <p>
+ * 전체 재생성은 세 테이블을 하나의 REPEATABLE READ 읽기 전용 트랜잭션에서 읽어 같은 스냅샷으로 맞추고, 행을 fetchSize 만큼 나눠
+ * 가져오며, 기본 문장 타임아웃 대신 재생성용 제한 시간을 적용합니다. 재생성 결과는 {@link RecipeFilterIndexHealthIndicator} 로
+ * 노출합니다.
+ */
+@Slf4j
+@Component
+public class RecipeFilterIndex implements RecipeFilterIndexPort, MessageListener {
+
+    private static final String RECIPES_SQL = """
+        SELECT id, category, status FROM recipes
+        """;
+
+    private static final String RECIPE_TAGS_SQL = """
+        SELECT recipe_id, tag_id FROM recipe_tags
+        """;
+
+    private static final String TAGS_SQL = """
+        SELECT id, name FROM tags
+        """;
+
+    private static final String RECIPE_SQL = """
+        SELECT r.category, r.status, t.id AS tag_id, t.name AS tag_name
+        FROM recipes r
+        LEFT JOIN recipe_tags rt ON rt.recipe_id = r.id
+        LEFT JOIN tags t ON t.id = rt.tag_id
+        WHERE r.id = :recipeId
+        """;
+
+    // Spring 의 readOnly 트랜잭션은 Replica 로 라우팅되어, 복제 지연만큼 이 노드가 이미 반영한 변경을 되돌릴 수 있으므로 MAIN 에서
+    // 읽고 읽기 전용은 DB 에 직접 지정합니다.
+    private static final String READ_ONLY_SQL = "SET TRANSACTION READ ONLY";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JdbcTemplate rebuildTemplate;
+    private final TransactionTemplate rebuildTransaction;
+    private final CacheClient cacheClient;
+    private final RecipeFilterIndexProperties properties;
+    private final Timer rebuildTimer;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private RecipeBitmaps bitmaps = new RecipeBitmaps();
+
+    // 전체 재생성 도중 바뀐 레시피는 새 색인으로 교체한 뒤 다시 맞춥니다.
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    private volatile Instant rebuiltAt;
+    private volatile String rebuildFailure;
+
+    public RecipeFilterIndex(
+        final NamedParameterJdbcTemplate jdbcTemplate,
+        final PlatformTransactionManager transactionManager,
+        @Qualifier("redisClient") final CacheClient cacheClient,
+        final RecipeFilterIndexProperties properties,
+        final MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rebuildTemplate = new JdbcTemplate(jdbcTemplate.getJdbcTemplate().getDataSource());
+        this.rebuildTemplate.setFetchSize(properties.fetchSize());
+        this.rebuildTemplate.setQueryTimeout((int) properties.queryTimeout().toSeconds());
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+        this.rebuildTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.cacheClient = cacheClient;
+        this.properties = properties;
+        this.rebuildTimer = Timer.builder("recipe.index.rebuild")
+            .description("레시피 필터 역색인 전체 재생성 시간")
+            .register(meterRegistry);
+
+        Gauge.builder("recipe.index.size", this, index -> index.read(RecipeBitmaps::sizeInBytes))
+            .baseUnit("bytes")
+            .description("레시피 필터 역색인 메모리 사용량")
+            .register(meterRegistry);
+        Gauge.builder("recipe.index.recipes", this, index -> index.read(RecipeBitmaps::recipeCount))
+            .description("레시피 필터 역색인에 등록된 레시피 수")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public List<Long> findIds(final RecipeTagFilter filter, final Long beforeId, final int size) {
+        lock.readLock().lock();
+        try {
+            return bitmaps.find(filter, beforeId, size + 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 이 노드의 색인을 맞춘 뒤 다른 노드에 변경된 레시피 ID 를 알립니다.
+     */
+    @Override
+    public void refresh(final Long recipeId) {
+        try {
+            reindex(recipeId);
+            cacheClient.publish(properties.channel(), String.valueOf(recipeId));
+        } catch (Exception e) {
+            // 커밋 이후에 호출되므로 요청을 실패시키지 않고, 다음 전체 재생성에서 맞춰지도록 둡니다.
+            log.error("Recipe filter index refresh failed - recipeId: {}", recipeId, e);
+        }
+    }
+
+    /**
+     * 다른 노드의 레시피 변경 신호 수신
+     */
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            reindex(Long.parseLong(body));
+        } catch (Exception e) {
+            log.error("Recipe filter index message handling failed - message: {}", body, e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    @Scheduled(
+        initialDelayString = "${app.recipe-filter-index.rebuild-interval:30m}",
+        fixedDelayString = "${app.recipe-filter-index.rebuild-interval:30m}"
+    )
+    public void refreshAll() {
+        rebuild();
+    }
+
+    /**
+     * 잠금 밖에서 새 색인을 만든 뒤 쓰기 잠금 안에서 교체합니다.
+     */
+    private synchronized void rebuild() {
+        long startedAt = System.nanoTime();
+        rebuilding = true;
+        try {
+            RecipeBitmaps rebuilt = rebuildTransaction.execute(status -> readSnapshot());
+            rebuilt.optimize();
+
+            lock.writeLock().lock();
+            try {
+                bitmaps = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            rebuiltAt = Instant.now();
+            rebuildFailure = null;
+            log.info("Recipe filter index rebuilt - recipes: {}, bytes: {}",
+                rebuilt.recipeCount(), rebuilt.sizeInBytes());
+        } catch (Exception e) {
+            // 다시 만들지 못하면 이전 색인을 계속 사용하고, 실패는 health 로 알립니다.
+            rebuildFailure = e.getClass().getSimpleName() + ": " + e.getMessage();
+            log.error("Recipe filter index rebuild failed, keeping previous index", e);
+        } finally {
+            rebuilding = false;
+            rebuildTimer.record(Duration.ofNanos(System.nanoTime() - startedAt));
+        }
+
+        List<Long> changed = new ArrayList<>(changedDuringRebuild);
+        changedDuringRebuild.removeAll(changed);
+        changed.forEach(this::reindex);
+    }
+
+    /**
+     * 레시피, 레시피 태그, 태그를 같은 스냅샷에서 읽어 새 색인을 만듭니다.
+     */
+    private RecipeBitmaps readSnapshot() {
+        rebuildTemplate.execute(READ_ONLY_SQL);
+        RecipeBitmaps loaded = new RecipeBitmaps();
+        rebuildTemplate.query(RECIPES_SQL, rs -> {
+            loaded.add(rs.getLong("id"),
+                CategoryType.valueOf(rs.getString("category")),
+                ActiveStatus.valueOf(rs.getString("status")));
+        });
+        rebuildTemplate.query(RECIPE_TAGS_SQL, rs -> {
+            loaded.addTag(rs.getLong("recipe_id"), rs.getLong("tag_id"));
+        });
+        rebuildTemplate.query(TAGS_SQL, rs -> {
+            loaded.nameTag(rs.getLong("id"), rs.getString("name"));
+        });
+        return loaded;
+    }
+
+    /**
+     * 마지막으로 전체 재생성에 성공한 시각 (아직 없으면 null)
+     */
+    Instant rebuiltAt() {
+        return rebuiltAt;
+    }
+
+    /**
+     * 마지막 전체 재생성의 실패 사유 (성공했으면 null)
+     */
+    String rebuildFailure() {
+        return rebuildFailure;
+    }
+
+    long recipeCount() {
+        return read(RecipeBitmaps::recipeCount);
+    }
+
+    private void reindex(final Long recipeId) {
+        if (rebuilding) {
+            changedDuringRebuild.add(recipeId);
+        }
+        List<IndexedTag> rows = jdbcTemplate.query(RECIPE_SQL,
+            new MapSqlParameterSource("recipeId", recipeId),
+            (rs, rowNum) -> new IndexedTag(
+                CategoryType.valueOf(rs.getString("category")),
+                ActiveStatus.valueOf(rs.getString("status")),
+                rs.getObject("tag_id", Long.class),
+                rs.getString("tag_name")));
+
+        lock.writeLock().lock();
+        try {
+            bitmaps.remove(recipeId);
+            if (rows.isEmpty()) {
+                return;
+            }
+            bitmaps.add(recipeId, rows.get(0).category(), rows.get(0).status());
+            for (IndexedTag row : rows) {
+                if (row.tagId() != null) {
+                    bitmaps.nameTag(row.tagId(), row.tagName());
+                    bitmaps.addTag(recipeId, row.tagId());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private long read(final ToLongFunction<RecipeBitmaps> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.applyAsLong(bitmaps);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private record IndexedTag(
+        CategoryType category,
+        ActiveStatus status,
+        Long tagId,
+        String tagName
+    ) {
+
+    }
+}
@@ -0,0 +1,44 @@
+package io.coffeedia.infrastructure.persistence.index;
+
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 레시피 필터 역색인 상태를 actuator health 에 노출합니다.
+ * <p>
+ * 한 번도 만들지 못했거나 마지막 전체 재생성이 실패하면 DOWN 으로 둡니다. 실패해도 이전 색인으로 응답은 하지만 변경을 놓쳤을 수 있기
+ * 때문입니다. 만들었지만 비어 있으면 레시피가 없는 것인지 확인할 수 있도록 UNKNOWN 으로 둡니다.
+ */
+@Component
+@RequiredArgsConstructor
+class RecipeFilterIndexHealthIndicator implements HealthIndicator {
+
+    private final RecipeFilterIndex recipeFilterIndex;
+
+    @Override
+    public Health health() {
+        Instant rebuiltAt = recipeFilterIndex.rebuiltAt();
+        String failure = recipeFilterIndex.rebuildFailure();
+        long recipes = recipeFilterIndex.recipeCount();
+
+        Health.Builder builder;
+        if (failure != null || rebuiltAt == null) {
+            builder = Health.down();
+        } else if (recipes == 0) {
+            builder = Health.unknown();
+        } else {
+            builder = Health.up();
+        }
+        builder.withDetail("recipes", recipes);
+        if (rebuiltAt != null) {
+            builder.withDetail("rebuiltAt", rebuiltAt.toString());
+        }
+        if (failure != null) {
+            builder.withDetail("failure", failure);
+        }
+        return builder.build();
+    }
+}
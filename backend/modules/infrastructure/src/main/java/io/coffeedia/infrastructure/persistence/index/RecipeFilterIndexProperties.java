@@ -0,0 +1,23 @@
+package io.coffeedia.infrastructure.persistence.index;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 레시피 필터 역색인 설정
+ *
+ * @param rebuildInterval 색인 전체를 다시 만드는 간격
+ * @param channel         레시피 변경 신호를 주고받을 Redis pub/sub 채널
+ * @param fetchSize       전체 재생성 시 한 번에 가져올 행 수
+ * @param queryTimeout    전체 재생성 쿼리 하나의 제한 시간 (기본 문장 타임아웃 대신 적용)
+ */
+@ConfigurationProperties(prefix = "app.recipe-filter-index")
+public record RecipeFilterIndexProperties(
+    @DefaultValue("30m") Duration rebuildInterval,
+    @DefaultValue("coffeedia:recipe:changed") String channel,
+    @DefaultValue("10000") int fetchSize,
+    @DefaultValue("60s") Duration queryTimeout
+) {
+
+}
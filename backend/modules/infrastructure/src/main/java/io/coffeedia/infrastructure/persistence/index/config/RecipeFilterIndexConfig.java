@@ -0,0 +1,22 @@
+package io.coffeedia.infrastructure.persistence.index.config;
+
+import io.coffeedia.infrastructure.cache.redis.RedisSubscription;
+import io.coffeedia.infrastructure.persistence.index.RecipeFilterIndex;
+import io.coffeedia.infrastructure.persistence.index.RecipeFilterIndexProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+@Configuration
+@EnableConfigurationProperties(RecipeFilterIndexProperties.class)
+public class RecipeFilterIndexConfig {
+
+    @Bean
+    public RedisSubscription recipeFilterIndexSubscription(
+        RecipeFilterIndex recipeFilterIndex,
+        RecipeFilterIndexProperties properties
+    ) {
+        return new RedisSubscription(recipeFilterIndex, new ChannelTopic(properties.channel()));
+    }
+}
@@ -0,0 +1,175 @@
+package io.coffeedia.infrastructure.persistence.jdbc;
+
+import io.coffeedia.domain.model.BeanFacets;
+import io.coffeedia.domain.model.FacetCount;
+import io.coffeedia.domain.model.Flavor;
+import io.coffeedia.domain.vo.BeanFilter;
+import io.coffeedia.domain.vo.BlendType;
+import io.coffeedia.domain.vo.CaffeineType;
+import io.coffeedia.domain.vo.ProcessType;
+import io.coffeedia.domain.vo.RoastLevel;
+import io.coffeedia.infrastructure.persistence.jdbc.BeanFilterSql.Condition;
+import io.coffeedia.infrastructure.persistence.jpa.flavor.FlavorDictionary;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 원두 검색 항목별 개수 조회 전용 쿼리
+ * <p>
+ * 항목별 개수는 그 항목 자신의 필터만 빼고 셉니다(disjunctive faceting). 배전도를 MEDIUM 으로 골라도 배전도 목록에는 다른 배전도의
+ * 개수가 남아 선택을 넓힐 수 있고, 다른 항목의 개수에는 배전도 조건이 적용됩니다. 원두를 한 번만 읽어 항목 조건별 일치 여부를 구한 뒤,
+ * 조건을 하나 이하로 어긴 원두만 남겨 두고 항목마다 자기 조건을 뺀 나머지 조건으로 나눠 셉니다. 모든 개수를 한 문장으로 가져옵니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BeanFacetQuery {
+
+    private static final String SQL = """
+        WITH candidates AS MATERIALIZED (
+            SELECT *
+            FROM (
+                SELECT b.id, b.roast_level, b.process_type, b.blend_type, b.is_decaf, b.origin_country%s
+                FROM beans b
+            ) flagged
+            WHERE %s
+        )
+        SELECT 'total' AS facet, CAST(NULL AS varchar) AS facet_value, COUNT(*) AS bean_count
+        FROM candidates
+        WHERE %s
+        %s
+        UNION ALL
+        SELECT 'flavor', CAST(bf.flavor_id AS varchar), COUNT(DISTINCT bf.bean_id)
+        FROM candidates c
+        JOIN bean_flavors bf ON bf.bean_id = c.id
+        WHERE %s
+        GROUP BY bf.flavor_id
+        ORDER BY facet, bean_count DESC, facet_value
+        """;
+
+    private static final String FACET_SQL = """
+        UNION ALL
+        SELECT '%s', CAST(%s AS varchar), COUNT(*)
+        FROM candidates
+        WHERE %s
+        GROUP BY %s
+        """;
+
+    private static final List<Facet> FACETS = List.of(
+        new Facet("roastLevel", "roast_level", Condition.ROAST_LEVEL),
+        new Facet("processType", "process_type", Condition.PROCESS_TYPE),
+        new Facet("blendType", "blend_type", Condition.BLEND_TYPE),
+        new Facet("decaf", "is_decaf", Condition.DECAF),
+        new Facet("country", "origin_country", Condition.COUNTRY)
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final FlavorDictionary flavorDictionary;
+
+    public BeanFacets count(final BeanFilter filter) {
+        Map<String, List<Row>> facets = jdbcTemplate.query(
+                sql(BeanFilterSql.conditions(filter)),
+                BeanFilterSql.parameters(filter),
+                (rs, rowNum) -> new Row(
+                    rs.getString("facet"),
+                    rs.getString("facet_value"),
+                    rs.getLong("bean_count")
+                ))
+            .stream()
+            .collect(Collectors.groupingBy(Row::facet));
+
+        return BeanFacets.builder()
+            .total(facets.getOrDefault("total", List.of()).stream()
+                .mapToLong(Row::count)
+                .sum())
+            .roastLevels(toCounts(facets, "roastLevel",
+                value -> RoastLevel.valueOf(value).getDescription()))
+            .processTypes(toCounts(facets, "processType",
+                value -> ProcessType.valueOf(value).getDescription()))
+            .blendTypes(toCounts(facets, "blendType",
+                value -> BlendType.valueOf(value).getDescription()))
+            .decaf(toCounts(facets, "decaf",
+                value -> CaffeineType.of(Boolean.parseBoolean(value)).getDescription()))
+            .countries(toCounts(facets, "country", Function.identity()))
+            .flavors(toFlavorCounts(facets.getOrDefault("flavor", List.of())))
+            .build();
+    }
+
+    /**
+     * 항목 조건마다 일치 여부 열(matches_*)을 만들고, 각 개수에는 그 항목을 뺀 나머지 열이 모두 참인 원두만 셉니다.
+     */
+    private static String sql(final Map<Condition, String> conditions) {
+        String flags = conditions.entrySet().stream()
+            .map(entry -> ",\n           COALESCE(%s, FALSE) AS %s"
+                .formatted(entry.getValue(), flag(entry.getKey())))
+            .collect(Collectors.joining());
+        String candidates = conditions.size() <= 1 ? "TRUE" : conditions.keySet().stream()
+            .map(condition -> "CAST(NOT %s AS int)".formatted(flag(condition)))
+            .collect(Collectors.joining(" + ", "", " <= 1"));
+        String facets = FACETS.stream()
+            .map(facet -> FACET_SQL.formatted(facet.name(), facet.column(),
+                matchingAllBut(conditions, facet.condition()), facet.column()))
+            .collect(Collectors.joining());
+        return SQL.formatted(flags, candidates, matchingAllBut(conditions, null), facets,
+            matchingAllBut(conditions, Condition.FLAVOR));
+    }
+
+    private static String matchingAllBut(final Map<Condition, String> conditions,
+        final Condition excluded) {
+        List<String> flags = conditions.keySet().stream()
+            .filter(condition -> condition != excluded)
+            .map(BeanFacetQuery::flag)
+            .toList();
+        return flags.isEmpty() ? "TRUE" : String.join(" AND ", flags);
+    }
+
+    private static String flag(final Condition condition) {
+        return "matches_" + condition.name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * groupingBy 는 같은 항목 안의 순서를 유지하므로 SQL 의 개수 내림차순이 그대로 남습니다.
+     */
+    private static List<FacetCount> toCounts(final Map<String, List<Row>> facets,
+        final String facet, final Function<String, String> labelOf) {
+        return facets.getOrDefault(facet, List.of()).stream()
+            .map(row -> new FacetCount(row.value(), labelOf.apply(row.value()), row.count()))
+            .toList();
+    }
+
+    /**
+     * flavor 이름은 메모리 사전에서 채우며, 사전에 없는 flavor 는 ID 를 이름으로 사용합니다.
+     */
+    private List<FacetCount> toFlavorCounts(final List<Row> rows) {
+        Map<String, String> names = flavorDictionary.findAllByIds(rows.stream()
+                .map(row -> Long.valueOf(row.value()))
+                .toList())
+            .stream()
+            .collect(Collectors.toMap(flavor -> String.valueOf(flavor.id()), Flavor::name));
+        return rows.stream()
+            .map(row -> new FacetCount(row.value(), names.getOrDefault(row.value(), row.value()),
+                row.count()))
+            .toList();
+    }
+
+    private record Facet(
+        String name,
+        String column,
+        Condition condition
+    ) {
+
+    }
+
+    private record Row(
+        String facet,
+        String value,
+        long count
+    ) {
+
+    }
+}
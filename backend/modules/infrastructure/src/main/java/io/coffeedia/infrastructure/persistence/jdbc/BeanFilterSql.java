@@ -0,0 +1,72 @@
+package io.coffeedia.infrastructure.persistence.jdbc;
+
+import io.coffeedia.domain.vo.BeanFilter;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+/**
+ * 원두 검색 필터를 beans(b) 에 대한 WHERE 조건과 파라미터로 바꿉니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class BeanFilterSql {
+
+    static String where(final BeanFilter filter) {
+        Map<Condition, String> conditions = conditions(filter);
+        return conditions.isEmpty() ? "TRUE" : String.join(" AND ", conditions.values());
+    }
+
+    /**
+     * 필터에 값이 있는 항목만 항목별 조건으로 반환합니다.
+     */
+    static Map<Condition, String> conditions(final BeanFilter filter) {
+        Map<Condition, String> conditions = new EnumMap<>(Condition.class);
+        if (!filter.roastLevels().isEmpty()) {
+            conditions.put(Condition.ROAST_LEVEL, "b.roast_level IN (:roastLevels)");
+        }
+        if (!filter.processTypes().isEmpty()) {
+            conditions.put(Condition.PROCESS_TYPE, "b.process_type IN (:processTypes)");
+        }
+        if (!filter.blendTypes().isEmpty()) {
+            conditions.put(Condition.BLEND_TYPE, "b.blend_type IN (:blendTypes)");
+        }
+        if (filter.isDecaf() != null) {
+            conditions.put(Condition.DECAF, "b.is_decaf = :isDecaf");
+        }
+        if (!filter.countries().isEmpty()) {
+            conditions.put(Condition.COUNTRY, "b.origin_country IN (:countries)");
+        }
+        if (!filter.flavorIds().isEmpty()) {
+            conditions.put(Condition.FLAVOR, """
+                EXISTS (
+                    SELECT 1 FROM bean_flavors bf
+                    WHERE bf.bean_id = b.id AND bf.flavor_id IN (:flavorIds)
+                )""");
+        }
+        return conditions;
+    }
+
+    static MapSqlParameterSource parameters(final BeanFilter filter) {
+        return new MapSqlParameterSource()
+            .addValue("roastLevels", filter.roastLevels().stream().map(Enum::name).toList())
+            .addValue("processTypes", filter.processTypes().stream().map(Enum::name).toList())
+            .addValue("blendTypes", filter.blendTypes().stream().map(Enum::name).toList())
+            .addValue("isDecaf", filter.isDecaf())
+            .addValue("countries", filter.countries())
+            .addValue("flavorIds", filter.flavorIds());
+    }
+
+    /**
+     * 필터 항목
+     */
+    enum Condition {
+        ROAST_LEVEL,
+        PROCESS_TYPE,
+        BLEND_TYPE,
+        DECAF,
+        COUNTRY,
+        FLAVOR
+    }
+}
@@ -0,0 +1,132 @@
+package io.coffeedia.infrastructure.persistence.jdbc;
+
+import io.coffeedia.domain.model.Bean;
+import io.coffeedia.domain.vo.ActiveStatus;
+import io.coffeedia.domain.vo.BeanFilter;
+import io.coffeedia.domain.vo.BlendType;
+import io.coffeedia.domain.vo.Origin;
+import io.coffeedia.domain.vo.PageCursor;
+import io.coffeedia.domain.vo.ProcessType;
+import io.coffeedia.domain.vo.RoastLevel;
+import io.coffeedia.domain.vo.SortType;
+import io.coffeedia.infrastructure.persistence.jpa.flavor.FlavorDictionary;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 원두 목록 조회 전용 쿼리
+ * <p>
+ * 한 번의 SQL 로 원두 페이지를 자르고 각 원두의 flavor id 를 배열로 모아 가져오므로, 엔티티를 만들지 않고 영속성 컨텍스트에도 올리지
+ * 않습니다. flavor 이름은 메모리 사전에서 채우며, 정렬 순서는 페이지를 자른 순서 그대로 유지합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BeanListQuery {
+
+    /**
+     * 목록과 커서 조회가 함께 쓰는 컬럼. 한쪽만 바뀌지 않도록 두 문장 모두 이 목록에서 만듭니다.
+     */
+    private static final String SELECT = """
+        SELECT b.id, b.user_id, b.name, b.origin_country, b.origin_region, b.roaster,
+               b.roast_date, b.grams, b.roast_level, b.process_type, b.blend_type, b.is_decaf,
+               b.memo, b.status, b.created_at, b.updated_at,
+               ARRAY(
+                   SELECT bf.flavor_id FROM bean_flavors bf
+                   WHERE bf.bean_id = b.id
+                   ORDER BY bf.id
+               ) AS flavor_ids
+        FROM beans b
+        WHERE %s
+        ORDER BY %s
+        """;
+
+    private static final String SQL = SELECT + "LIMIT :limit OFFSET :offset";
+
+    private static final String AFTER_SQL = SELECT + "LIMIT :limit";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final FlavorDictionary flavorDictionary;
+
+    public List<Bean> findPage(final int page, final int size, final List<SortType> sorts) {
+        return findPage(BeanFilter.none(), page, size, sorts);
+    }
+
+    public List<Bean> findPage(final BeanFilter filter, final int page, final int size,
+        final List<SortType> sorts) {
+        MapSqlParameterSource parameters = BeanFilterSql.parameters(filter)
+            .addValue("limit", size)
+            .addValue("offset", (long) page * size);
+        String sql = SQL.formatted(BeanFilterSql.where(filter), orderBy(sorts));
+        return jdbcTemplate.query(sql, parameters, (rs, rowNum) -> toDomain(rs));
+    }
+
+    /**
+     * 커서 다음 행부터 읽습니다. (created_at, id) 인덱스에서 시작 위치를 바로 찾으므로 OFFSET 처럼 앞 행을 건너뛰며 읽지 않습니다.
+     *
+     * @param cursor 마지막으로 읽은 원두 위치 (첫 페이지면 null)
+     */
+    public List<Bean> findAfter(final PageCursor cursor, final int limit, final SortType sort) {
+        String sql = AFTER_SQL.formatted(Keyset.where("b", cursor), Keyset.orderBy("b", sort));
+        return jdbcTemplate.query(sql, Keyset.parameters(cursor, limit),
+            (rs, rowNum) -> toDomain(rs));
+    }
+
+    /**
+     * 같은 정렬 값을 가진 행의 순서가 페이지마다 달라지지 않도록 id 를 마지막 정렬 기준으로 붙입니다.
+     */
+    private static String orderBy(final List<SortType> sorts) {
+        String orders = sorts.stream()
+            .map(sort -> Keyset.column("b", sort) + " " + sort.getDirection().toUpperCase())
+            .collect(Collectors.joining(", "));
+        return orders.isEmpty() ? "b.id" : orders + ", b.id";
+    }
+
+    private Bean toDomain(final ResultSet rs) throws SQLException {
+        return Bean.builder()
+            .id(rs.getLong("id"))
+            .userId(rs.getLong("user_id"))
+            .name(rs.getString("name"))
+            .origin(Origin.builder()
+                .country(rs.getString("origin_country"))
+                .region(rs.getString("origin_region"))
+                .build())
+            .roaster(rs.getString("roaster"))
+            .roastDate(rs.getDate("roast_date").toLocalDate())
+            .grams(rs.getInt("grams"))
+            .roastLevel(RoastLevel.valueOf(rs.getString("roast_level")))
+            .processType(ProcessType.valueOf(rs.getString("process_type")))
+            .blendType(BlendType.valueOf(rs.getString("blend_type")))
+            .isDecaf(rs.getBoolean("is_decaf"))
+            .flavors(flavorDictionary.findAllByIds(flavorIds(rs.getArray("flavor_ids"))))
+            .memo(rs.getString("memo"))
+            .status(ActiveStatus.valueOf(rs.getString("status")))
+            .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+            .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+            .build();
+    }
+
+    private static List<Long> flavorIds(final Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        try {
+            return Arrays.stream((Long[]) array.getArray()).toList();
+        } finally {
+            array.free();
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(final Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
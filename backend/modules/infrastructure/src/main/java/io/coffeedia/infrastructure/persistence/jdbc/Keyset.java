@@ -0,0 +1,61 @@
+package io.coffeedia.infrastructure.persistence.jdbc;
+
+import io.coffeedia.domain.vo.PageCursor;
+import io.coffeedia.domain.vo.SortType;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+/**
+ * 커서(seek) 페이지 조회용 조건과 정렬
+ * <p>
+ * (정렬 컬럼, id) 행 값 비교로 커서 다음 행부터 읽으므로, 같은 순서의 (정렬 컬럼, id) 인덱스를 타고 OFFSET 없이 시작 위치를 찾습니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class Keyset {
+
+    /**
+     * 정렬 필드와 컬럼의 대응. SQL 에 직접 넣으므로 여기에 등록한 컬럼만 허용합니다.
+     */
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+        "createdAt", "created_at"
+    );
+
+    /**
+     * 커서가 없으면(첫 페이지) 항상 참인 조건을 반환합니다.
+     */
+    static String where(final String alias, final PageCursor cursor) {
+        if (cursor == null) {
+            return "TRUE";
+        }
+        String operator = cursor.isAscending() ? ">" : "<";
+        return "(%s, %s.id) %s (:cursorValue, :cursorId)".formatted(
+            column(alias, cursor.sort()), alias, operator);
+    }
+
+    static String orderBy(final String alias, final SortType sort) {
+        String direction = sort.getDirection().toUpperCase();
+        return "%s %s, %s.id %s".formatted(column(alias, sort), direction, alias, direction);
+    }
+
+    static MapSqlParameterSource parameters(final PageCursor cursor, final int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("limit", limit);
+        if (cursor != null) {
+            parameters.addValue("cursorValue", cursor.createdAt());
+            parameters.addValue("cursorId", cursor.id());
+        }
+        return parameters;
+    }
+
+    /**
+     * 정렬 필드를 별칭이 붙은 컬럼으로 바꿉니다. 오프셋 페이지 조회의 정렬도 같은 목록을 사용합니다.
+     */
+    static String column(final String alias, final SortType sort) {
+        String column = SORT_COLUMNS.get(sort.getField());
+        if (column == null) {
+            throw new IllegalArgumentException("지원하지 않는 정렬 필드입니다. (field: " + sort.getField() + ")");
+        }
+        return alias + "." + column;
+    }
+}
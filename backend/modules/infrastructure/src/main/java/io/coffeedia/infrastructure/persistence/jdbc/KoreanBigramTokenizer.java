@@ -0,0 +1,87 @@
+package io.coffeedia.infrastructure.persistence.jdbc;
+
+import java.lang.Character.UnicodeScript;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색 문서와 검색어를 같은 규칙으로 자르는 토크나이저
+ * <p>
+ * PostgreSQL 기본 설정은 한국어 형태소를 나누지 못해 "핸드드립" 으로 "드립" 을 찾을 수 없습니다. 한글은 두 글자씩 겹쳐 자르고(bigram),
+ * 그 밖의 글자와 숫자는 단어 그대로 둔 뒤 'simple' 설정으로 tsvector 를 만들어 조사나 복합어 안의 부분 검색도 되도록 합니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class KoreanBigramTokenizer {
+
+    static List<String> tokenize(final String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        int[] codePoints = Normalizer.normalize(text, Normalizer.Form.NFKC)
+            .toLowerCase(Locale.ROOT)
+            .codePoints()
+            .toArray();
+
+        int start = 0;
+        while (start < codePoints.length) {
+            if (!Character.isLetterOrDigit(codePoints[start])) {
+                start++;
+                continue;
+            }
+            boolean hangul = isHangul(codePoints[start]);
+            int end = start + 1;
+            while (end < codePoints.length
+                && Character.isLetterOrDigit(codePoints[end])
+                && isHangul(codePoints[end]) == hangul) {
+                end++;
+            }
+            if (hangul) {
+                addBigrams(tokens, codePoints, start, end);
+            } else {
+                tokens.add(new String(codePoints, start, end - start));
+            }
+            start = end;
+        }
+        return tokens;
+    }
+
+    /**
+     * 토큰을 공백으로 이어 to_tsvector 에 넘길 문자열을 만듭니다.
+     */
+    static String toDocument(final String text) {
+        return String.join(" ", tokenize(text));
+    }
+
+    /**
+     * 모든 토큰을 포함하는 to_tsquery 식을 만듭니다. 한 글자 검색어도 찾을 수 있도록 접두어 일치로 비교합니다.
+     *
+     * @return 검색할 토큰이 없으면 빈 문자열
+     */
+    static String toQuery(final String keyword) {
+        return tokenize(keyword).stream()
+            .distinct()
+            .map(token -> "'" + token + "':*")
+            .collect(Collectors.joining(" & "));
+    }
+
+    private static void addBigrams(final List<String> tokens, final int[] codePoints,
+        final int start, final int end) {
+        if (end - start == 1) {
+            tokens.add(new String(codePoints, start, 1));
+            return;
+        }
+        for (int i = start; i < end - 1; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+    }
+
+    private static boolean isHangul(final int codePoint) {
+        return UnicodeScript.of(codePoint) == UnicodeScript.HANGUL;
+    }
+}
@@ -0,0 +1,125 @@
+package io.coffeedia.infrastructure.persistence.jdbc;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.coffeedia.domain.model.Ingredient;
+import io.coffeedia.domain.model.Recipe;
+import io.coffeedia.domain.model.RecipeStep;
+import io.coffeedia.domain.vo.ActiveStatus;
+import io.coffeedia.domain.vo.CategoryType;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 레시피 상세 조회 전용 쿼리
+ * <p>
+ * 레시피 한 건과 태그 이름, 재료, 단계를 한 번의 SQL 로 가져옵니다. 태그는 이름 배열로, 재료와 단계는 JSON 배열로 모아 받으므로 지연 로딩
+ * 컬렉션을 따라가며 추가 쿼리를 보내지 않습니다. 태그와 재료는 등록 순서, 단계는 sort_order 순서를 유지합니다.
+ */
+@Component
+public class RecipeDetailQuery {
+
+    private static final String SQL = """
+        SELECT r.id, r.user_id, r.category, r.title, r.thumbnail_url, r.description,
+               r.serving, r.tips, r.status, r.created_at, r.updated_at,
+               ARRAY(
+                   SELECT t.name FROM recipe_tags rt
+                   JOIN tags t ON t.id = rt.tag_id
+                   WHERE rt.recipe_id = r.id
+                   ORDER BY rt.id
+               ) AS tag_names,
+               (
+                   SELECT COALESCE(json_agg(json_build_object(
+                       'id', i.id, 'recipeId', i.recipe_id, 'name', i.name,
+                       'amount', i.amount, 'unit', i.unit, 'buyUrl', i.buy_url
+                   ) ORDER BY i.id), '[]')
+                   FROM ingredients i
+                   WHERE i.recipe_id = r.id
+               ) AS ingredients,
+               (
+                   SELECT COALESCE(json_agg(json_build_object(
+                       'id', s.id, 'recipeId', s.recipe_id, 'sortOrder', s.sort_order,
+                       'imageUrl', s.image_url, 'description', s.description
+                   ) ORDER BY s.sort_order, s.id), '[]')
+                   FROM recipe_steps s
+                   WHERE s.recipe_id = r.id
+               ) AS steps
+        FROM recipes r
+        WHERE r.id = :id
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final JavaType ingredientsType;
+    private final JavaType stepsType;
+
+    public RecipeDetailQuery(
+        final NamedParameterJdbcTemplate jdbcTemplate,
+        final ObjectMapper objectMapper
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.ingredientsType = objectMapper.getTypeFactory()
+            .constructCollectionType(List.class, Ingredient.class);
+        this.stepsType = objectMapper.getTypeFactory()
+            .constructCollectionType(List.class, RecipeStep.class);
+    }
+
+    public Optional<Recipe> findById(final Long id) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("id", id);
+        return jdbcTemplate.query(SQL, parameters, (rs, rowNum) -> toDomain(rs)).stream()
+            .findFirst();
+    }
+
+    private Recipe toDomain(final ResultSet rs) throws SQLException {
+        return Recipe.builder()
+            .id(rs.getLong("id"))
+            .userId(rs.getLong("user_id"))
+            .category(CategoryType.valueOf(rs.getString("category")))
+            .title(rs.getString("title"))
+            .thumbnailUrl(rs.getString("thumbnail_url"))
+            .description(rs.getString("description"))
+            .serving(rs.getInt("serving"))
+            .tips(rs.getString("tips"))
+            .status(ActiveStatus.valueOf(rs.getString("status")))
+            .tags(tagNames(rs.getArray("tag_names")))
+            .ingredients(readJson(rs.getString("ingredients"), ingredientsType))
+            .steps(readJson(rs.getString("steps"), stepsType))
+            .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+            .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+            .build();
+    }
+
+    private <T> List<T> readJson(final String json, final JavaType type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("레시피 상세 조회 결과를 변환할 수 없습니다.", e);
+        }
+    }
+
+    private static List<String> tagNames(final Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        try {
+            return Arrays.stream((String[]) array.getArray()).toList();
+        } finally {
+            array.free();
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(final Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
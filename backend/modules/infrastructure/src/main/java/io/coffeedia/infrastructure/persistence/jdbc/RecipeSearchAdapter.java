@@ -0,0 +1,174 @@
+package io.coffeedia.infrastructure.persistence.jdbc;
+
+import io.coffeedia.application.port.repository.RecipeSearchPort;
+import io.coffeedia.domain.model.RecipeSearchResult;
+import io.coffeedia.domain.vo.SearchCursor;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 레시피 전문 검색 저장소
+ * <p>
+ * 검색 문서는 제목(A), 태그(B), 재료 이름(C), 설명(D) 순으로 가중치를 주어 만들고, GIN 인덱스로 일치하는 문서를 찾은 뒤 ts_rank
+ * 점수와 id 로 커서 페이지를 자릅니다. 문서와 검색어는 모두 {@link KoreanBigramTokenizer} 로 자릅니다.
+ */
+@Component
+@RequiredArgsConstructor
+class RecipeSearchAdapter implements RecipeSearchPort {
+
+    private static final String SEARCH_SQL = """
+        SELECT hits.*
+        FROM (
+            SELECT r.id, r.user_id, r.category, r.title, r.thumbnail_url, r.created_at, r.updated_at,
+                   ts_rank(d.document, q, 1) AS score
+            FROM recipe_search_documents d
+            JOIN recipes r ON r.id = d.recipe_id
+            CROSS JOIN to_tsquery('simple', :query) AS q
+            WHERE d.document @@ q
+              AND r.status = 'ACTIVE'
+        ) hits
+        WHERE %s
+        ORDER BY hits.score DESC, hits.id DESC
+        LIMIT :limit
+        """;
+
+    private static final String AFTER_CURSOR = "(hits.score, hits.id) < (CAST(:score AS real), :cursorId)";
+
+    private static final String SOURCE_SQL = """
+        SELECT r.id, r.title, r.description, r.updated_at,
+               COALESCE((
+                   SELECT string_agg(t.name, ' ' ORDER BY rt.id)
+                   FROM recipe_tags rt
+                   JOIN tags t ON t.id = rt.tag_id
+                   WHERE rt.recipe_id = r.id
+               ), '') AS tag_names,
+               COALESCE((
+                   SELECT string_agg(i.name, ' ' ORDER BY i.id)
+                   FROM ingredients i
+                   WHERE i.recipe_id = r.id
+               ), '') AS ingredient_names
+        FROM recipes r
+        WHERE %s
+        """;
+
+    private static final String MISSING_IN_RANGE = """
+        r.id > :fromId AND r.id <= :toId
+          AND NOT EXISTS (SELECT 1 FROM recipe_search_documents d WHERE d.recipe_id = r.id)
+        """;
+
+    private static final String UPSERT_SQL = """
+        INSERT INTO recipe_search_documents (recipe_id, document, source_updated_at, refreshed_at)
+        VALUES (
+            :recipeId,
+            setweight(to_tsvector('simple', :title), 'A')
+                || setweight(to_tsvector('simple', :tags), 'B')
+                || setweight(to_tsvector('simple', :ingredients), 'C')
+                || setweight(to_tsvector('simple', :description), 'D'),
+            :sourceUpdatedAt,
+            now()
+        )
+        ON CONFLICT (recipe_id) DO UPDATE
+            SET document = EXCLUDED.document,
+                source_updated_at = EXCLUDED.source_updated_at,
+                refreshed_at = EXCLUDED.refreshed_at
+            WHERE recipe_search_documents.source_updated_at <= EXCLUDED.source_updated_at
+        """;
+
+    private static final String MAX_ID_SQL = """
+        SELECT COALESCE(MAX(id), 0) FROM recipes
+        """;
+
+    private static final String DELETE_SQL = """
+        DELETE FROM recipe_search_documents WHERE recipe_id = :recipeId
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Override
+    public List<RecipeSearchResult> search(final String keyword, final SearchCursor cursor,
+        final int size) {
+        String query = KoreanBigramTokenizer.toQuery(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("query", query)
+            .addValue("limit", size + 1);  // 다음 페이지가 있는지 확인하기 위해 +1
+        if (cursor != null) {
+            parameters.addValue("score", cursor.score());
+            parameters.addValue("cursorId", cursor.id());
+        }
+        String sql = SEARCH_SQL.formatted(cursor != null ? AFTER_CURSOR : "TRUE");
+        return jdbcTemplate.query(sql, parameters, (rs, rowNum) -> RecipeSearchResult.builder()
+            .summary(RecipeSummaryQuery.toDomain(rs))
+            .score(rs.getFloat("score"))
+            .build());
+    }
+
+    /**
+     * 같은 트랜잭션에서 아직 flush 되지 않은 JPA 변경이 있으면 먼저 내보낸 뒤 문서를 만듭니다.
+     */
+    @Override
+    public void refresh(final Long recipeId) {
+        flushPendingChanges();
+        upsert(SOURCE_SQL.formatted("r.id = :recipeId"),
+            new MapSqlParameterSource("recipeId", recipeId));
+    }
+
+    /**
+     * 레시피 ID 가 (fromId, toId] 범위에서 검색 문서가 없는 레시피만 문서를 만듭니다.
+     *
+     * @return 새로 만든 검색 문서 수
+     */
+    int refreshMissing(final long fromId, final long toId) {
+        return upsert(SOURCE_SQL.formatted(MISSING_IN_RANGE), new MapSqlParameterSource()
+            .addValue("fromId", fromId)
+            .addValue("toId", toId));
+    }
+
+    long findMaxRecipeId() {
+        Long maxId = jdbcTemplate.queryForObject(MAX_ID_SQL, new MapSqlParameterSource(),
+            Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+
+    @Override
+    public void delete(final Long recipeId) {
+        jdbcTemplate.update(DELETE_SQL, new MapSqlParameterSource("recipeId", recipeId));
+    }
+
+    /**
+     * 원문을 읽어 애플리케이션에서 토큰으로 자른 뒤 한 번의 배치로 upsert 합니다. 읽은 뒤 쓰기 전에 다른 갱신이 더 최신 원문으로 문서를 만들었을
+     * 수 있으므로, 원문 수정일시가 저장된 문서보다 오래되지 않은 경우에만 덮어씁니다.
+     */
+    private int upsert(final String sourceSql, final MapSqlParameterSource parameters) {
+        MapSqlParameterSource[] documents = jdbcTemplate.query(sourceSql, parameters,
+                (rs, rowNum) -> new MapSqlParameterSource()
+                    .addValue("recipeId", rs.getLong("id"))
+                    .addValue("title", KoreanBigramTokenizer.toDocument(rs.getString("title")))
+                    .addValue("tags", KoreanBigramTokenizer.toDocument(rs.getString("tag_names")))
+                    .addValue("ingredients",
+                        KoreanBigramTokenizer.toDocument(rs.getString("ingredient_names")))
+                    .addValue("description",
+                        KoreanBigramTokenizer.toDocument(rs.getString("description")))
+                    .addValue("sourceUpdatedAt", rs.getTimestamp("updated_at")))
+            .toArray(MapSqlParameterSource[]::new);
+        if (documents.length == 0) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, documents);
+        return documents.length;
+    }
+
+    private void flushPendingChanges() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            entityManager.flush();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.coffeedia.infrastructure.persistence.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 레시피 검색 문서 초기화
+ * <p>
+ * 기동 시 검색 문서의 GIN 인덱스를 만들고, 검색 문서가 없는 레시피(이벤트 없이 적재된 기존/샘플 레시피)의 문서를 구간별로 채웁니다.
+ * 이미 문서가 있는 레시피는 건드리지 않으므로 매 기동마다 실행해도 되고, 상세 읽기 모델 재생성과는 별개로 동작합니다. 기동을 늦추지 않도록
+ * 전용 스레드에서 실행합니다.
+ */
+@Slf4j
+@Component
+class RecipeSearchBackfill {
+
+    private static final long CHUNK_SIZE = 1_000;
+
+    // 쓰기를 막지 않도록 CONCURRENTLY 로 만들며, 트랜잭션 밖(auto-commit)에서 실행해야 합니다.
+    private static final String CREATE_INDEX_SQL = """
+        CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_recipe_search_documents_document
+            ON recipe_search_documents USING GIN (document)
+        """;
+
+    private final RecipeSearchAdapter searchAdapter;
+    private final JdbcTemplate ddlTemplate;
+
+    RecipeSearchBackfill(
+        final RecipeSearchAdapter searchAdapter,
+        final NamedParameterJdbcTemplate jdbcTemplate
+    ) {
+        this.searchAdapter = searchAdapter;
+        // 인덱스 생성 시간은 테이블 크기에 비례하므로 기본 문장 타임아웃을 적용하지 않습니다.
+        this.ddlTemplate = new JdbcTemplate(jdbcTemplate.getJdbcTemplate().getDataSource());
+        this.ddlTemplate.setQueryTimeout(0);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread.ofPlatform()
+            .name("recipe-search-backfill")
+            .daemon()
+            .start(this::run);
+    }
+
+    void run() {
+        try {
+            ddlTemplate.execute(CREATE_INDEX_SQL);
+            backfill();
+        } catch (Exception e) {
+            // 채우지 못한 문서는 다음 기동 때 다시 채웁니다.
+            log.error("Recipe search backfill failed", e);
+        }
+    }
+
+    /**
+     * 검색 문서가 없는 레시피의 문서를 만들고 만든 수를 반환합니다.
+     */
+    long backfill() {
+        long startedAt = System.currentTimeMillis();
+        long maxId = searchAdapter.findMaxRecipeId();
+        long created = 0;
+        for (long from = 0; from < maxId; from += CHUNK_SIZE) {
+            created += searchAdapter.refreshMissing(from, Math.min(from + CHUNK_SIZE, maxId));
+        }
+        log.info("Recipe search documents backfilled - created: {}, elapsed: {}ms",
+            created, System.currentTimeMillis() - startedAt);
+        return created;
+    }
+}
@@ -0,0 +1,91 @@
+package io.coffeedia.infrastructure.persistence.jdbc;
+
+import io.coffeedia.domain.model.RecipeSummary;
+import io.coffeedia.domain.vo.CategoryType;
+import io.coffeedia.domain.vo.PageCursor;
+import io.coffeedia.domain.vo.SortType;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 레시피 목록 커서 조회 전용 쿼리
+ * <p>
+ * 활성 레시피를 (status, created_at, id) 인덱스 순서대로 커서 다음 행부터 읽으므로, 뒤쪽 페이지도 앞쪽 페이지와 같은 비용으로
+ * 조회됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecipeSummaryQuery {
+
+    private static final String SQL = """
+        SELECT r.id, r.user_id, r.category, r.title, r.thumbnail_url, r.created_at, r.updated_at
+        FROM recipes r
+        WHERE r.status = 'ACTIVE'
+          AND %s
+        ORDER BY %s
+        LIMIT :limit
+        """;
+
+    private static final String BY_IDS_SQL = """
+        SELECT r.id, r.user_id, r.category, r.title, r.thumbnail_url, r.created_at, r.updated_at
+        FROM recipes r
+        WHERE r.status = 'ACTIVE'
+          AND r.id IN (:ids)
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * @param cursor 마지막으로 읽은 레시피 위치 (첫 페이지면 null)
+     */
+    public List<RecipeSummary> findAfter(final PageCursor cursor, final int limit,
+        final SortType sort) {
+        String sql = SQL.formatted(Keyset.where("r", cursor), Keyset.orderBy("r", sort));
+        return jdbcTemplate.query(sql, Keyset.parameters(cursor, limit),
+            (rs, rowNum) -> toDomain(rs));
+    }
+
+    /**
+     * 역색인에서 고른 ID 를 한 번에 조회하고 요청한 순서로 되돌립니다.
+     */
+    public List<RecipeSummary> findAllByIds(final List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, RecipeSummary> summaries = jdbcTemplate.query(BY_IDS_SQL,
+                new MapSqlParameterSource("ids", ids), (rs, rowNum) -> toDomain(rs))
+            .stream()
+            .collect(Collectors.toMap(RecipeSummary::id, Function.identity()));
+        return ids.stream()
+            .map(summaries::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    static RecipeSummary toDomain(final ResultSet rs) throws SQLException {
+        return RecipeSummary.builder()
+            .id(rs.getLong("id"))
+            .userId(rs.getLong("user_id"))
+            .category(CategoryType.valueOf(rs.getString("category")))
+            .title(rs.getString("title"))
+            .thumbnailUrl(rs.getString("thumbnail_url"))
+            .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+            .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+            .build();
+    }
+
+    private static LocalDateTime toLocalDateTime(final Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,153 @@
+package io.coffeedia.infrastructure.persistence.jdbc;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.coffeedia.application.port.repository.RecipeViewRepositoryPort;
+import io.coffeedia.domain.model.Recipe;
+import jakarta.persistence.EntityManager;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 레시피 상세 읽기 모델(recipe_views) 저장소
+ * <p>
+ * 상세 문서는 정규화 테이블을 읽는 INSERT ... SELECT 한 문장으로 만들어 upsert 하므로, 문서를 애플리케이션으로 가져왔다가 다시 쓰지
+ * 않습니다. 문서의 키는 Recipe 필드 이름과 같아 조회 시 그대로 역직렬화합니다.
+ * <p>
+ * 재생성이 먼저 읽은 값을 이벤트로 갱신된 문서 위에 늦게 쓰지 않도록, 원본 수정일시가 저장된 문서보다 오래되지 않은 경우에만 덮어씁니다.
+ */
+@Component
+@RequiredArgsConstructor
+class RecipeViewRepositoryAdapter implements RecipeViewRepositoryPort {
+
+    private static final String FIND_SQL = """
+        SELECT document FROM recipe_views WHERE recipe_id = :recipeId
+        """;
+
+    private static final String REFRESH_SQL = """
+        INSERT INTO recipe_views (recipe_id, document, refreshed_at)
+        SELECT r.id,
+               jsonb_build_object(
+                   'id', r.id,
+                   'userId', r.user_id,
+                   'category', r.category,
+                   'title', r.title,
+                   'thumbnailUrl', r.thumbnail_url,
+                   'description', r.description,
+                   'serving', r.serving,
+                   'tips', r.tips,
+                   'status', r.status,
+                   'createdAt', r.created_at,
+                   'updatedAt', r.updated_at,
+                   'tags', COALESCE((
+                       SELECT jsonb_agg(t.name ORDER BY rt.id)
+                       FROM recipe_tags rt
+                       JOIN tags t ON t.id = rt.tag_id
+                       WHERE rt.recipe_id = r.id
+                   ), '[]'::jsonb),
+                   'ingredients', COALESCE((
+                       SELECT jsonb_agg(jsonb_build_object(
+                           'id', i.id, 'recipeId', i.recipe_id, 'name', i.name,
+                           'amount', i.amount, 'unit', i.unit, 'buyUrl', i.buy_url
+                       ) ORDER BY i.id)
+                       FROM ingredients i
+                       WHERE i.recipe_id = r.id
+                   ), '[]'::jsonb),
+                   'steps', COALESCE((
+                       SELECT jsonb_agg(jsonb_build_object(
+                           'id', s.id, 'recipeId', s.recipe_id, 'sortOrder', s.sort_order,
+                           'imageUrl', s.image_url, 'description', s.description
+                       ) ORDER BY s.sort_order, s.id)
+                       FROM recipe_steps s
+                       WHERE s.recipe_id = r.id
+                   ), '[]'::jsonb)
+               ),
+               now()
+        FROM recipes r
+        WHERE %s
+        ON CONFLICT (recipe_id) DO UPDATE
+            SET document = EXCLUDED.document,
+                refreshed_at = EXCLUDED.refreshed_at
+            WHERE (recipe_views.document->>'updatedAt')::timestamp
+                      <= (EXCLUDED.document->>'updatedAt')::timestamp
+        """;
+
+    private static final String DELETE_SQL = """
+        DELETE FROM recipe_views WHERE recipe_id = :recipeId
+        """;
+
+    private static final String DELETE_ORPHANS_SQL = """
+        DELETE FROM recipe_views v
+        WHERE v.recipe_id > :fromId AND v.recipe_id <= :toId
+          AND NOT EXISTS (SELECT 1 FROM recipes r WHERE r.id = v.recipe_id)
+        """;
+
+    private static final String MAX_ID_SQL = """
+        SELECT GREATEST(
+            (SELECT COALESCE(MAX(id), 0) FROM recipes),
+            (SELECT COALESCE(MAX(recipe_id), 0) FROM recipe_views)
+        )
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<Recipe> findById(final Long recipeId) {
+        return jdbcTemplate.queryForList(FIND_SQL,
+                new MapSqlParameterSource("recipeId", recipeId), String.class).stream()
+            .findFirst()
+            .map(this::toDomain);
+    }
+
+    /**
+     * 같은 트랜잭션에서 아직 flush 되지 않은 JPA 변경이 있으면 먼저 내보낸 뒤 문서를 만듭니다.
+     */
+    @Override
+    public void refresh(final Long recipeId) {
+        flushPendingChanges();
+        jdbcTemplate.update(REFRESH_SQL.formatted("r.id = :recipeId"),
+            new MapSqlParameterSource("recipeId", recipeId));
+    }
+
+    @Override
+    public int refreshRange(final long fromId, final long toId) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("fromId", fromId)
+            .addValue("toId", toId);
+        jdbcTemplate.update(DELETE_ORPHANS_SQL, parameters);
+        return jdbcTemplate.update(REFRESH_SQL.formatted("r.id > :fromId AND r.id <= :toId"),
+            parameters);
+    }
+
+    @Override
+    public void delete(final Long recipeId) {
+        jdbcTemplate.update(DELETE_SQL, new MapSqlParameterSource("recipeId", recipeId));
+    }
+
+    @Override
+    public long findMaxRecipeId() {
+        Long maxId = jdbcTemplate.queryForObject(MAX_ID_SQL, new MapSqlParameterSource(),
+            Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+
+    private void flushPendingChanges() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            entityManager.flush();
+        }
+    }
+
+    private Recipe toDomain(final String document) {
+        try {
+            return objectMapper.readValue(document, Recipe.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("레시피 읽기 모델을 변환할 수 없습니다.", e);
+        }
+    }
+}
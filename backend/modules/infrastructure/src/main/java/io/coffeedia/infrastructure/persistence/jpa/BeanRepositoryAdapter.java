@@ -2,17 +2,20 @@ package io.coffeedia.infrastructure.persistence.jpa;
 
 import io.coffeedia.application.port.repository.BeanRepositoryPort;
 import io.coffeedia.domain.model.Bean;
+import io.coffeedia.domain.model.BeanFacets;
+import io.coffeedia.domain.vo.BeanFilter;
+import io.coffeedia.domain.vo.PageCursor;
 import io.coffeedia.domain.vo.PageSize;
 import io.coffeedia.domain.vo.SortType;
+import io.coffeedia.infrastructure.persistence.jdbc.BeanFacetQuery;
+import io.coffeedia.infrastructure.persistence.jdbc.BeanListQuery;
 import io.coffeedia.infrastructure.persistence.jpa.entity.BeanJpaEntity;
+import io.coffeedia.infrastructure.persistence.jpa.flavor.FlavorDictionary;
 import io.coffeedia.infrastructure.persistence.jpa.mapper.BeanJpaMapper;
 import io.coffeedia.infrastructure.persistence.jpa.repository.BeanJpaRepository;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -20,19 +23,24 @@ import org.springframework.stereotype.Component;
 class BeanRepositoryAdapter implements BeanRepositoryPort {
 
     private final BeanJpaRepository beanRepository;
+    private final FlavorDictionary flavorDictionary;
+    private final BeanListQuery beanListQuery;
+    private final BeanFacetQuery beanFacetQuery;
 
     @Override
     public Bean create(final Bean bean) {
         BeanJpaEntity entity = BeanJpaMapper.toEntity(bean);
         BeanJpaEntity saved = beanRepository.save(entity);
-        return BeanJpaMapper.toDomain(saved);
+        return toDomain(saved);
     }
 
     @Override
     public List<Bean> createAll(final List<Bean> beans) {
         List<BeanJpaEntity> entity = BeanJpaMapper.toEntity(beans);
         List<BeanJpaEntity> saved = beanRepository.saveAll(entity);
-        return BeanJpaMapper.toDomain(saved);
+        return saved.stream()
+            .map(this::toDomain)
+            .toList();
     }
 
     @Override
@@ -48,7 +56,7 @@ class BeanRepositoryAdapter implements BeanRepositoryPort {
                 "원두를 찾을 수 없습니다. (id: " + beanId + ")"
             ));
         bean.update(newBean);  // 더티체킹으로 변경
-        return BeanJpaMapper.toDomain(bean);
+        return toDomain(bean);
     }
 
     @Override
@@ -59,20 +67,38 @@ class BeanRepositoryAdapter implements BeanRepositoryPort {
     @Override
     public Optional<Bean> findById(final Long beanId) {
         return beanRepository.findByIdWithFlavors(beanId)
-            .map(BeanJpaMapper::toDomain);
+            .map(this::toDomain);
     }
 
     @Override
     public List<Bean> findAll(final PageSize pageSize, final List<SortType> sorts) {
-        Pageable pageable = PageRequest.of(
+        // 한 번의 쿼리로 페이지와 flavor id 를 함께 읽고, 정렬 순서를 그대로 유지합니다.
+        return beanListQuery.findPage(
             pageSize.page(),
             pageSize.size() + 1,  // 다음 페이지가 있는지 확인하기 위해 +1
-            toSort(sorts)
+            sorts
+        );
+    }
+
+    @Override
+    public List<Bean> search(final BeanFilter filter, final PageSize pageSize,
+        final List<SortType> sorts) {
+        return beanListQuery.findPage(
+            filter,
+            pageSize.page(),
+            pageSize.size() + 1,  // 다음 페이지가 있는지 확인하기 위해 +1
+            sorts
         );
-        List<BeanJpaEntity> beans = beanRepository.findAllBeans(pageable);
-        return beanRepository.findAllWithFlavors(beans).stream()
-            .map(BeanJpaMapper::toDomain)
-            .toList();
+    }
+
+    @Override
+    public BeanFacets countFacets(final BeanFilter filter) {
+        return beanFacetQuery.count(filter);
+    }
+
+    @Override
+    public List<Bean> findAllAfter(final PageCursor cursor, final int size, final SortType sort) {
+        return beanListQuery.findAfter(cursor, size + 1, sort);  // 다음 페이지가 있는지 확인하기 위해 +1
     }
 
     @Override
@@ -80,12 +106,10 @@ class BeanRepositoryAdapter implements BeanRepositoryPort {
         beanRepository.deleteById(beanId);
     }
 
-    private Sort toSort(final List<SortType> sorts) {
-        List<Sort.Order> orders = sorts.stream()
-            .map(sort -> new Sort.Order(
-                Sort.Direction.fromString(sort.getDirection()), sort.getField())
-            )
-            .toList();
-        return Sort.by(orders);
+    /**
+     * bean_flavors 의 flavor id 만 사용하고, flavor 정보는 메모리 사전에서 채웁니다.
+     */
+    private Bean toDomain(final BeanJpaEntity bean) {
+        return BeanJpaMapper.toDomain(bean, flavorDictionary.findAllByIds(bean.getFlavorIds()));
     }
 }
@@ -2,8 +2,7 @@ package io.coffeedia.infrastructure.persistence.jpa;
 
 import io.coffeedia.application.port.repository.FlavorRepositoryPort;
 import io.coffeedia.domain.model.Flavor;
-import io.coffeedia.infrastructure.persistence.jpa.mapper.FlavorJpaMapper;
-import io.coffeedia.infrastructure.persistence.jpa.repository.FlavorJpaRepository;
+import io.coffeedia.infrastructure.persistence.jpa.flavor.FlavorDictionary;
 import java.util.List;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
@@ -13,12 +12,10 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 class FlavorRepositoryAdapter implements FlavorRepositoryPort {
 
-    private final FlavorJpaRepository repository;
+    private final FlavorDictionary flavorDictionary;
 
     @Override
     public List<Flavor> findAllByIds(final Set<Long> ids) {
-        return repository.findAllById(ids).stream()
-            .map(FlavorJpaMapper::toDomain)
-            .toList();
+        return flavorDictionary.findAllByIds(ids);
     }
 }
@@ -3,18 +3,20 @@ package io.coffeedia.infrastructure.persistence.jpa;
 import io.coffeedia.application.port.repository.RecipeRepositoryPort;
 import io.coffeedia.domain.model.Recipe;
 import io.coffeedia.domain.model.RecipeSummary;
+import io.coffeedia.domain.vo.PageCursor;
 import io.coffeedia.domain.vo.PageSize;
 import io.coffeedia.domain.vo.SortType;
+import io.coffeedia.infrastructure.persistence.jdbc.RecipeDetailQuery;
+import io.coffeedia.infrastructure.persistence.jdbc.RecipeSummaryQuery;
 import io.coffeedia.infrastructure.persistence.jpa.entity.RecipeJpaEntity;
 import io.coffeedia.infrastructure.persistence.jpa.entity.TagJpaEntity;
 import io.coffeedia.infrastructure.persistence.jpa.mapper.RecipeJpaMapper;
 import io.coffeedia.infrastructure.persistence.jpa.repository.RecipeJpaRepository;
-import io.coffeedia.infrastructure.persistence.jpa.repository.TagJpaRepository;
+import io.coffeedia.infrastructure.persistence.jpa.tag.TagDictionary;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -26,7 +28,9 @@ import org.springframework.stereotype.Component;
 class RecipeRepositoryAdapter implements RecipeRepositoryPort {
 
     private final RecipeJpaRepository recipeRepository;
-    private final TagJpaRepository tagRepository;
+    private final TagDictionary tagDictionary;
+    private final RecipeDetailQuery recipeDetailQuery;
+    private final RecipeSummaryQuery recipeSummaryQuery;
 
     @Override
     public Recipe save(final Recipe recipe) {
@@ -36,10 +40,42 @@ class RecipeRepositoryAdapter implements RecipeRepositoryPort {
         return RecipeJpaMapper.toDomain(saved);
     }
 
+    /**
+     * 저장된 레시피와 비교해 바뀐 자식 행만 INSERT/UPDATE/DELETE 하므로, 바뀌지 않은 재료, 단계, 태그는 id 가 그대로 유지됩니다.
+     */
+    @Override
+    public Recipe update(final Recipe recipe) {
+        Long recipeId = recipe.id();
+
+        if (recipeId == null) {
+            throw new IllegalArgumentException("레시피 ID는 필수입니다.");
+        }
+
+        RecipeJpaEntity entity = recipeRepository.findById(recipeId)
+            .orElseThrow(() -> new IllegalArgumentException(
+                "레시피를 찾을 수 없습니다. (id: " + recipeId + ")"
+            ));
+        List<TagJpaEntity> tags = findOrCreateTagsByNames(recipe.tags());
+
+        entity.update(recipe);
+        entity.updateIngredients(recipe.ingredients());
+        entity.updateSteps(recipe.steps());
+        entity.updateTags(tags);
+        recipeRepository.flush();  // 새로 추가된 자식 행의 id 를 채움
+
+        Map<Long, String> tagNames = tags.stream()
+            .collect(Collectors.toMap(TagJpaEntity::getId, TagJpaEntity::getName));
+        return RecipeJpaMapper.toDomain(entity, entity.getRecipeTags().stream()
+            .map(recipeTag -> tagNames.get(recipeTag.getTag().getId()))
+            .toList());
+    }
+
+    /**
+     * 태그, 재료, 단계까지 한 번의 쿼리로 읽습니다.
+     */
     @Override
     public Optional<Recipe> findById(final Long id) {
-        return recipeRepository.findById(id)
-            .map(RecipeJpaMapper::toDomain);
+        return recipeDetailQuery.findById(id);
     }
 
     @Override
@@ -52,6 +88,17 @@ class RecipeRepositoryAdapter implements RecipeRepositoryPort {
         return recipeRepository.findAllSummaries(pageable);
     }
 
+    @Override
+    public List<RecipeSummary> findAllAfter(final PageCursor cursor, final int size,
+        final SortType sort) {
+        return recipeSummaryQuery.findAfter(cursor, size + 1, sort);  // 다음 페이지가 있는지 확인하기 위해 +1
+    }
+
+    @Override
+    public List<RecipeSummary> findAllSummariesByIds(final List<Long> ids) {
+        return recipeSummaryQuery.findAllByIds(ids);
+    }
+
     @Override
     public void deleteById(final Long id) {
         recipeRepository.deleteById(id);
@@ -62,36 +109,20 @@ class RecipeRepositoryAdapter implements RecipeRepositoryPort {
         recipeRepository.deleteAll();
     }
 
+    /**
+     * 태그 사전에서 id 를 얻어 영속성 컨텍스트 조회 없이 태그 엔티티를 구성합니다.
+     */
     private List<TagJpaEntity> findOrCreateTagsByNames(final List<String> tagNames) {
         if (tagNames == null || tagNames.isEmpty()) {
             return List.of();
         }
 
-        List<TagJpaEntity> existingTags = tagRepository.findAllByNameIn(tagNames);
-
-        if (tagNames.size() == existingTags.size()) {
-            return existingTags;
-        }
-
-        // 기존에 있는 태그 이름들 추출
-        Set<String> existingTagNames = existingTags.stream()
-            .map(TagJpaEntity::getName)
-            .collect(Collectors.toSet());
-
-        // 없는 태그들 찾아서 새로 생성
-        List<TagJpaEntity> newTags = tagNames.stream()
-            .filter(tagName -> !existingTagNames.contains(tagName))
-            .map(tagName -> TagJpaEntity.builder()
-                .name(tagName)
+        return tagDictionary.resolve(tagNames).entrySet().stream()
+            .map(tag -> TagJpaEntity.builder()
+                .id(tag.getValue())
+                .name(tag.getKey())
                 .build())
             .toList();
-
-        // 새로운 태그들 저장
-        List<TagJpaEntity> savedNewTags = tagRepository.saveAll(newTags);
-
-        // 불변 리스트로 반환 (기존 리스트를 수정하지 않음)
-        return Stream.concat(existingTags.stream(), savedNewTags.stream())
-            .toList();
     }
 
     private Sort toSort(final List<SortType> sorts) {
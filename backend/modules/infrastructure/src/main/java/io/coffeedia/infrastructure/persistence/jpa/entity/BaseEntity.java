@@ -31,4 +31,13 @@ abstract class BaseEntity {
     @Column(nullable = false, columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
     @Comment("수정일시")
     private LocalDateTime updatedAt;
+
+    /**
+     * 자식 행만 바뀐 경우에도 수정일시가 갱신되도록 직접 지정합니다.
+     */
+    protected void touch(final LocalDateTime updatedAt) {
+        if (updatedAt != null) {
+            this.updatedAt = updatedAt;
+        }
+    }
 }
@@ -5,8 +5,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -18,13 +20,17 @@ import org.hibernate.annotations.Comment;
 @Getter
 @Builder
 @Entity
-@Table(name = "bean_flavors")
+@Table(
+    name = "bean_flavors",
+    indexes = @Index(name = "idx_bean_flavors_bean_id", columnList = "bean_id")
+)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class BeanFlavorJpaEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bean_flavors_seq")
+    @SequenceGenerator(name = "bean_flavors_seq", sequenceName = "bean_flavors_seq", allocationSize = 50)
     @Comment("PK")
     private Long id;
 
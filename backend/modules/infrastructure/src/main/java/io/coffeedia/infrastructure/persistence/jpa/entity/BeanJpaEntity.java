@@ -17,7 +17,9 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -34,7 +36,10 @@ import org.hibernate.annotations.DynamicUpdate;
 @Getter
 @Builder
 @Entity
-@Table(name = "beans")
+@Table(
+    name = "beans",
+    indexes = @Index(name = "idx_beans_created_at", columnList = "created_at, id")
+)
 @Comment("원두")
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -42,7 +47,8 @@ import org.hibernate.annotations.DynamicUpdate;
 public class BeanJpaEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "beans_seq")
+    @SequenceGenerator(name = "beans_seq", sequenceName = "beans_seq", allocationSize = 50)
     @Comment("PK")
     private Long id;
 
@@ -111,6 +117,15 @@ public class BeanJpaEntity extends BaseEntity {
             .toList();
     }
 
+    /**
+     * flavor 프록시의 id 만 읽으므로 flavors 테이블을 조회하지 않습니다.
+     */
+    public List<Long> getFlavorIds() {
+        return beanFlavors.stream()
+            .map(beanFlavor -> beanFlavor.getFlavor().getId())
+            .toList();
+    }
+
     public void addFlavors(final List<FlavorJpaEntity> flavors) {
         flavors.forEach(this::addFlavors);
     }
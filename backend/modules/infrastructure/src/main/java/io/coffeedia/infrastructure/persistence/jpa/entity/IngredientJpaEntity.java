@@ -1,5 +1,6 @@
 package io.coffeedia.infrastructure.persistence.jpa.entity;
 
+import io.coffeedia.domain.model.Ingredient;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -7,6 +8,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import lombok.AccessLevel;
@@ -28,7 +30,8 @@ import org.hibernate.annotations.DynamicUpdate;
 public class IngredientJpaEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ingredients_seq")
+    @SequenceGenerator(name = "ingredients_seq", sequenceName = "ingredients_seq", allocationSize = 50)
     @Comment("PK")
     private Long id;
 
@@ -50,4 +53,11 @@ public class IngredientJpaEntity extends BaseEntity {
     @Column(length = 2048)
     @Comment("구매 URL")
     private String buyUrl;
+
+    public void update(final Ingredient ingredient) {
+        this.name = ingredient.name();
+        this.amount = ingredient.amount();
+        this.unit = ingredient.unit();
+        this.buyUrl = ingredient.buyUrl();
+    }
 }
@@ -1,5 +1,8 @@
 package io.coffeedia.infrastructure.persistence.jpa.entity;
 
+import io.coffeedia.domain.model.Ingredient;
+import io.coffeedia.domain.model.Recipe;
+import io.coffeedia.domain.model.RecipeStep;
 import io.coffeedia.domain.vo.ActiveStatus;
 import io.coffeedia.domain.vo.CategoryType;
 import jakarta.persistence.CascadeType;
@@ -10,11 +13,14 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder.Default;
@@ -27,7 +33,10 @@ import org.hibernate.annotations.DynamicUpdate;
 @Getter
 @SuperBuilder
 @Entity
-@Table(name = "recipes")
+@Table(
+    name = "recipes",
+    indexes = @Index(name = "idx_recipes_status_created_at", columnList = "status, created_at, id")
+)
 @Comment("레시피")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
@@ -35,7 +44,8 @@ import org.hibernate.annotations.DynamicUpdate;
 public class RecipeJpaEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recipes_seq")
+    @SequenceGenerator(name = "recipes_seq", sequenceName = "recipes_seq", allocationSize = 50)
     @Comment("PK")
     private Long id;
 
@@ -66,10 +76,12 @@ public class RecipeJpaEntity extends BaseEntity {
 
     @Default
     @OneToMany(mappedBy = "recipe", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id ASC")
     private List<RecipeTagJpaEntity> recipeTags = new ArrayList<>();
 
     @Default
     @OneToMany(mappedBy = "recipe", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id ASC")
     private List<IngredientJpaEntity> ingredients = new ArrayList<>();
 
     @Default
@@ -85,4 +97,81 @@ public class RecipeJpaEntity extends BaseEntity {
     @Comment("상태")
     @Enumerated(EnumType.STRING)
     private ActiveStatus status;
+
+    public void update(final Recipe recipe) {
+        this.category = recipe.category();
+        this.title = recipe.title();
+        this.thumbnailUrl = recipe.thumbnailUrl();
+        this.description = recipe.description();
+        this.serving = recipe.serving();
+        this.tips = recipe.tips();
+        this.status = recipe.status();
+        touch(recipe.updatedAt());
+    }
+
+    /**
+     * 같은 위치의 재료는 기존 행을 고쳐 쓰고, 늘어난 만큼만 추가하고 줄어든 만큼만 삭제합니다. 값이 같은 행은 더티 체킹에서 제외되어 UPDATE
+     * 도 나가지 않습니다.
+     */
+    public void updateIngredients(final List<Ingredient> newIngredients) {
+        int common = Math.min(ingredients.size(), newIngredients.size());
+        for (int i = 0; i < common; i++) {
+            ingredients.get(i).update(newIngredients.get(i));
+        }
+        for (int i = common; i < newIngredients.size(); i++) {
+            Ingredient ingredient = newIngredients.get(i);
+            ingredients.add(IngredientJpaEntity.builder()
+                .recipe(this)
+                .name(ingredient.name())
+                .amount(ingredient.amount())
+                .unit(ingredient.unit())
+                .buyUrl(ingredient.buyUrl())
+                .build());
+        }
+        while (ingredients.size() > newIngredients.size()) {
+            ingredients.remove(ingredients.size() - 1);
+        }
+    }
+
+    /**
+     * 단계도 재료와 같이 순서(위치) 기준으로 비교합니다.
+     */
+    public void updateSteps(final List<RecipeStep> newSteps) {
+        int common = Math.min(steps.size(), newSteps.size());
+        for (int i = 0; i < common; i++) {
+            steps.get(i).update(newSteps.get(i));
+        }
+        for (int i = common; i < newSteps.size(); i++) {
+            RecipeStep step = newSteps.get(i);
+            steps.add(RecipeStepJpaEntity.builder()
+                .recipe(this)
+                .sortOrder(step.sortOrder())
+                .imageUrl(step.imageUrl())
+                .description(step.description())
+                .build());
+        }
+        while (steps.size() > newSteps.size()) {
+            steps.remove(steps.size() - 1);
+        }
+    }
+
+    /**
+     * 태그는 id 순서로 읽으므로 명령의 순서를 지키도록, 앞에서부터 같은 태그가 이어지는 구간만 남기고 나머지는 지운 뒤 새로 추가합니다.
+     * 태그 프록시의 id 만 읽으므로 tags 테이블을 조회하지 않습니다.
+     */
+    public void updateTags(final List<TagJpaEntity> newTags) {
+        int common = 0;
+        while (common < recipeTags.size() && common < newTags.size()
+            && Objects.equals(recipeTags.get(common).getTag().getId(), newTags.get(common).getId())) {
+            common++;
+        }
+        while (recipeTags.size() > common) {
+            recipeTags.remove(recipeTags.size() - 1);
+        }
+        newTags.subList(common, newTags.size())
+            .forEach(tag -> recipeTags.add(RecipeTagJpaEntity.builder()
+                .recipe(this)
+                .tag(tag)
+                .build()));
+    }
 }
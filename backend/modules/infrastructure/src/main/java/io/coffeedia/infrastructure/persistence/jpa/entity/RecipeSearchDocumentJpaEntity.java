@@ -0,0 +1,45 @@
+package io.coffeedia.infrastructure.persistence.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+/**
+ * 레시피 검색 문서
+ * <p>
+ * 제목, 태그, 재료 이름, 설명을 가중치를 주어 하나의 tsvector 로 보관합니다. 쓰기는 SQL 로만 하며, 이 엔티티는 스키마 정의용입니다.
+ * GIN 인덱스는 JPA 로 정의할 수 없어 기동 시 RecipeSearchBackfill 이 만듭니다.
+ */
+@Getter
+@Builder
+@Entity
+@Table(name = "recipe_search_documents")
+@Comment("레시피 검색 문서")
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RecipeSearchDocumentJpaEntity {
+
+    @Id
+    @Comment("레시피 ID")
+    private Long recipeId;
+
+    @Column(nullable = false, columnDefinition = "tsvector")
+    @Comment("검색 문서")
+    private String document;
+
+    @Column(nullable = false)
+    @Comment("문서를 만든 레시피의 수정일시")
+    private LocalDateTime sourceUpdatedAt;
+
+    @Column(nullable = false)
+    @Comment("문서 생성일시")
+    private LocalDateTime refreshedAt;
+}
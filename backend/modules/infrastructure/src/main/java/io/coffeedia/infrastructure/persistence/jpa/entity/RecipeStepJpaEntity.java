@@ -1,5 +1,6 @@
 package io.coffeedia.infrastructure.persistence.jpa.entity;
 
+import io.coffeedia.domain.model.RecipeStep;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -7,6 +8,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -27,7 +29,8 @@ import org.hibernate.annotations.DynamicUpdate;
 public class RecipeStepJpaEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recipe_steps_seq")
+    @SequenceGenerator(name = "recipe_steps_seq", sequenceName = "recipe_steps_seq", allocationSize = 50)
     @Comment("PK")
     private Long id;
 
@@ -45,4 +48,10 @@ public class RecipeStepJpaEntity extends BaseEntity {
     @Column(nullable = false, columnDefinition = "TEXT")
     @Comment("레시피 설명")
     private String description;
+
+    public void update(final RecipeStep step) {
+        this.sortOrder = step.sortOrder();
+        this.imageUrl = step.imageUrl();
+        this.description = step.description();
+    }
 }
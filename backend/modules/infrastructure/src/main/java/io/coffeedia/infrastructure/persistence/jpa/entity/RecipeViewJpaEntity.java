@@ -0,0 +1,43 @@
+package io.coffeedia.infrastructure.persistence.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * 레시피 상세 읽기 모델
+ * <p>
+ * 정규화 테이블에서 만든 상세 문서를 레시피당 한 행으로 보관합니다. 쓰기는 SQL 로만 하며, 이 엔티티는 스키마 정의용입니다.
+ */
+@Getter
+@Builder
+@Entity
+@Table(name = "recipe_views")
+@Comment("레시피 상세 읽기 모델")
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RecipeViewJpaEntity {
+
+    @Id
+    @Comment("레시피 ID")
+    private Long recipeId;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false, columnDefinition = "jsonb")
+    @Comment("레시피 상세 문서")
+    private String document;
+
+    @Column(nullable = false)
+    @Comment("문서 생성일시")
+    private LocalDateTime refreshedAt;
+}
@@ -0,0 +1,113 @@
+package io.coffeedia.infrastructure.persistence.jpa.flavor;
+
+import io.coffeedia.domain.model.Flavor;
+import io.coffeedia.infrastructure.persistence.jpa.mapper.FlavorJpaMapper;
+import io.coffeedia.infrastructure.persistence.jpa.repository.FlavorJpaRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * flavors 테이블의 메모리 사전
+ * <p>
+ * 거의 바뀌지 않는 참조 테이블이므로 기동 시 전체를 읽어 불변 스냅샷으로 보관하고, 주기적으로 또는 변경 신호(Redis pub/sub)를 받으면
+ * 새 스냅샷으로 교체합니다. 스냅샷에 없는 id 가 조회되면 새로 추가된 flavor 일 수 있으므로 최소 간격을 두고 다시 읽습니다.
+ */
+@Slf4j
+@Component
+public class FlavorDictionary implements MessageListener {
+
+    private final FlavorJpaRepository repository;
+    private final FlavorDictionaryProperties properties;
+
+    private volatile FlavorSnapshot snapshot = FlavorSnapshot.EMPTY;
+    private volatile long loadedAt;
+
+    public FlavorDictionary(
+        final FlavorJpaRepository repository,
+        final FlavorDictionaryProperties properties
+    ) {
+        this.repository = repository;
+        this.properties = properties;
+    }
+
+    /**
+     * 요청한 id 중 존재하는 flavor 만 요청 순서대로 반환합니다.
+     */
+    public List<Flavor> findAllByIds(final Collection<Long> ids) {
+        List<Flavor> flavors = lookup(snapshot, ids);
+        if (flavors.size() == ids.size() || !reloadOnMissAllowed()) {
+            return flavors;
+        }
+
+        return lookup(reloadOnMiss(), ids);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    @Scheduled(
+        initialDelayString = "${app.flavor-dictionary.refresh-interval:5m}",
+        fixedDelayString = "${app.flavor-dictionary.refresh-interval:5m}"
+    )
+    public void refresh() {
+        reload();
+    }
+
+    /**
+     * flavor 변경 신호 수신
+     */
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        reload();
+    }
+
+    /**
+     * 동시에 미스가 난 요청이 잠금을 기다렸다가 연달아 다시 읽지 않도록, 잠금을 얻은 뒤 최소 간격을 다시 확인합니다.
+     */
+    private synchronized FlavorSnapshot reloadOnMiss() {
+        if (!reloadOnMissAllowed()) {
+            return snapshot;
+        }
+        return reload();
+    }
+
+    private synchronized FlavorSnapshot reload() {
+        try {
+            List<Flavor> flavors = repository.findAll().stream()
+                .map(FlavorJpaMapper::toDomain)
+                .toList();
+            snapshot = FlavorSnapshot.of(flavors);
+            log.debug("Flavor dictionary loaded - size: {}", snapshot.size());
+        } catch (Exception e) {
+            // 다시 읽지 못하면 이전 스냅샷을 계속 사용합니다.
+            log.error("Flavor dictionary reload failed, keeping {} entries", snapshot.size(), e);
+        }
+        loadedAt = System.currentTimeMillis();
+        return snapshot;
+    }
+
+    private boolean reloadOnMissAllowed() {
+        return System.currentTimeMillis() - loadedAt >= properties.reloadOnMissInterval().toMillis();
+    }
+
+    private static List<Flavor> lookup(final FlavorSnapshot snapshot, final Collection<Long> ids) {
+        List<Flavor> flavors = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Flavor flavor = id != null ? snapshot.get(id) : null;
+            if (flavor != null) {
+                flavors.add(flavor);
+            }
+        }
+        return flavors;
+    }
+}
@@ -0,0 +1,21 @@
+package io.coffeedia.infrastructure.persistence.jpa.flavor;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * flavor 사전 설정
+ *
+ * @param refreshInterval      주기적으로 스냅샷을 다시 읽는 간격
+ * @param reloadOnMissInterval 스냅샷에 없는 id 를 조회했을 때 다시 읽는 최소 간격
+ * @param channel              flavor 변경 신호를 받을 Redis pub/sub 채널
+ */
+@ConfigurationProperties(prefix = "app.flavor-dictionary")
+public record FlavorDictionaryProperties(
+    @DefaultValue("5m") Duration refreshInterval,
+    @DefaultValue("10s") Duration reloadOnMissInterval,
+    @DefaultValue("coffeedia:flavor:changed") String channel
+) {
+
+}
@@ -0,0 +1,43 @@
+package io.coffeedia.infrastructure.persistence.jpa.flavor;
+
+import io.coffeedia.domain.model.Flavor;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 특정 시점의 flavors 테이블 전체를 담는 불변 스냅샷
+ * <p>
+ * id 를 정렬된 long 배열로 보관하고 이진 탐색으로 조회하므로, 박싱된 키나 해시 엔트리 없이 flavor 수만큼의 배열 두 개만 사용합니다.
+ */
+final class FlavorSnapshot {
+
+    static final FlavorSnapshot EMPTY = new FlavorSnapshot(new long[0], new Flavor[0]);
+
+    private final long[] ids;
+    private final Flavor[] flavors;
+
+    private FlavorSnapshot(final long[] ids, final Flavor[] flavors) {
+        this.ids = ids;
+        this.flavors = flavors;
+    }
+
+    static FlavorSnapshot of(final List<Flavor> flavors) {
+        Flavor[] sorted = flavors.stream()
+            .sorted(Comparator.comparingLong(Flavor::id))
+            .toArray(Flavor[]::new);
+        long[] ids = Arrays.stream(sorted)
+            .mapToLong(Flavor::id)
+            .toArray();
+        return new FlavorSnapshot(ids, sorted);
+    }
+
+    Flavor get(final long id) {
+        int index = Arrays.binarySearch(ids, id);
+        return index >= 0 ? flavors[index] : null;
+    }
+
+    int size() {
+        return ids.length;
+    }
+}
@@ -0,0 +1,22 @@
+package io.coffeedia.infrastructure.persistence.jpa.flavor.config;
+
+import io.coffeedia.infrastructure.cache.redis.RedisSubscription;
+import io.coffeedia.infrastructure.persistence.jpa.flavor.FlavorDictionary;
+import io.coffeedia.infrastructure.persistence.jpa.flavor.FlavorDictionaryProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+@Configuration
+@EnableConfigurationProperties(FlavorDictionaryProperties.class)
+public class FlavorDictionaryConfig {
+
+    @Bean
+    public RedisSubscription flavorDictionarySubscription(
+        FlavorDictionary flavorDictionary,
+        FlavorDictionaryProperties properties
+    ) {
+        return new RedisSubscription(flavorDictionary, new ChannelTopic(properties.channel()));
+    }
+}
@@ -1,6 +1,7 @@
 package io.coffeedia.infrastructure.persistence.jpa.mapper;
 
 import io.coffeedia.domain.model.Bean;
+import io.coffeedia.domain.model.Flavor;
 import io.coffeedia.infrastructure.persistence.jpa.entity.BeanJpaEntity;
 import io.coffeedia.infrastructure.persistence.jpa.entity.FlavorJpaEntity;
 import java.util.List;
@@ -39,13 +40,10 @@ public class BeanJpaMapper {
         return entity;
     }
 
-    public static List<Bean> toDomain(final List<BeanJpaEntity> beans) {
-        return beans.stream()
-            .map(BeanJpaMapper::toDomain)
-            .toList();
-    }
-
-    public static Bean toDomain(final BeanJpaEntity bean) {
+    /**
+     * flavor 는 엔티티 연관관계 대신 호출하는 쪽에서 찾아 전달합니다. (flavor 사전 사용)
+     */
+    public static Bean toDomain(final BeanJpaEntity bean, final List<Flavor> flavors) {
         return Bean.builder()
             .id(bean.getId())
             .userId(bean.getUserId())
@@ -58,7 +56,7 @@ public class BeanJpaMapper {
             .processType(bean.getProcessType())
             .blendType(bean.getBlendType())
             .isDecaf(bean.isDecaf())
-            .flavors(FlavorJpaMapper.toDomain(bean.getFlavors()))
+            .flavors(flavors)
             .memo(bean.getMemo())
             .status(bean.getStatus())
             .createdAt(bean.getCreatedAt())
@@ -97,6 +97,13 @@ public class RecipeJpaMapper {
     }
 
     public static Recipe toDomain(final RecipeJpaEntity recipe) {
+        return toDomain(recipe, extractTagNames(recipe.getRecipeTags()));
+    }
+
+    /**
+     * 태그 이름을 호출하는 쪽에서 전달합니다. (태그 프록시를 초기화하지 않도록 태그 사전 사용)
+     */
+    public static Recipe toDomain(final RecipeJpaEntity recipe, final List<String> tagNames) {
         return Recipe.builder()
             .id(recipe.getId())
             .userId(recipe.getUserId())
@@ -107,7 +114,7 @@ public class RecipeJpaMapper {
             .serving(recipe.getServing())
             .tips(recipe.getTips())
             .status(recipe.getStatus())
-            .tags(extractTagNames(recipe.getRecipeTags()))
+            .tags(tagNames)
             .ingredients(toIngredients(recipe.getIngredients()))
             .steps(toSteps(recipe.getSteps()))
             .createdAt(recipe.getCreatedAt())
@@ -0,0 +1,136 @@
+package io.coffeedia.infrastructure.persistence.jpa.tag;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 태그 이름 → id 사전
+ * <p>
+ * 한 번 확인한 태그는 메모리에 보관해 다시 조회하지 않고, 처음 보는 태그만 {@code INSERT ... ON CONFLICT DO NOTHING} 한 문장으로
+ * 생성하거나 기존 id 를 읽어옵니다. 같은 새 태그를 동시에 만들어도 유니크 제약 위반 없이 한쪽이 만든 행을 함께 사용합니다.
+ */
+@Slf4j
+@Component
+public class TagDictionary {
+
+    /**
+     * 입력 이름 중 없는 태그만 삽입하고, 삽입한 행과 이미 있던 행을 함께 반환합니다. 이름 순으로 삽입해 겹치는 태그를 동시에 만드는
+     * 트랜잭션끼리 서로 다른 순서로 잠금을 기다리지 않도록 합니다.
+     */
+    private static final String UPSERT_SQL = """
+        WITH input AS (
+            SELECT DISTINCT unnest(?::varchar[]) AS name
+        ), inserted AS (
+            INSERT INTO tags (name)
+            SELECT name FROM input ORDER BY name
+            ON CONFLICT (name) DO NOTHING
+            RETURNING id, name
+        )
+        SELECT id, name, true AS created FROM inserted
+        UNION ALL
+        SELECT t.id, t.name, false AS created FROM tags t JOIN input i ON i.name = t.name
+        """;
+
+    private static final int MAX_ATTEMPTS = 2;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<String, Long> ids;
+
+    public TagDictionary(final JdbcTemplate jdbcTemplate, final TagDictionaryProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ids = Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .build();
+    }
+
+    /**
+     * 태그 이름별 id 를 요청 순서대로 반환하며, 없는 태그는 생성합니다.
+     */
+    public Map<String, Long> resolve(final Collection<String> names) {
+        Map<String, Long> resolved = new LinkedHashMap<>();
+        if (names == null || names.isEmpty()) {
+            return resolved;
+        }
+
+        LinkedHashSet<String> distinct = new LinkedHashSet<>(names);
+        Map<String, Long> cached = new HashMap<>(ids.getAllPresent(distinct));
+        if (cached.size() < distinct.size()) {
+            List<String> missing = distinct.stream()
+                .filter(name -> !cached.containsKey(name))
+                .toList();
+            cached.putAll(upsert(missing));
+        }
+
+        distinct.forEach(name -> resolved.put(name, cached.get(name)));
+        return resolved;
+    }
+
+    private Map<String, Long> upsert(final List<String> names) {
+        Map<String, Long> found = new HashMap<>();
+        Map<String, Long> created = new HashMap<>();
+
+        // 다른 트랜잭션이 같은 태그를 먼저 커밋하면 이번 문장의 스냅샷에는 보이지 않으므로, 새 스냅샷으로 한 번 더 실행합니다.
+        for (int attempt = 0; attempt < MAX_ATTEMPTS && found.size() + created.size() < names.size();
+            attempt++) {
+            List<String> remaining = names.stream()
+                .filter(name -> !found.containsKey(name) && !created.containsKey(name))
+                .toList();
+            jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(UPSERT_SQL);
+                    statement.setArray(1,
+                        connection.createArrayOf("varchar", remaining.toArray()));
+                    return statement;
+                },
+                rs -> {
+                    Map<String, Long> target = rs.getBoolean("created") ? created : found;
+                    target.put(rs.getString("name"), rs.getLong("id"));
+                }
+            );
+        }
+
+        if (found.size() + created.size() < names.size()) {
+            throw new IllegalStateException("태그를 생성하거나 조회하지 못했습니다: " + names);
+        }
+
+        ids.putAll(found);
+        cacheAfterCommit(created);
+        log.debug("Tags resolved - found: {}, created: {}", found.size(), created.size());
+
+        Map<String, Long> result = new HashMap<>(found);
+        result.putAll(created);
+        return result;
+    }
+
+    /**
+     * 새로 만든 태그는 롤백될 수 있으므로 커밋된 뒤에만 사전에 넣습니다.
+     */
+    private void cacheAfterCommit(final Map<String, Long> created) {
+        if (created.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ids.putAll(created);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.putAll(created);
+            }
+        });
+    }
+}
@@ -0,0 +1,16 @@
+package io.coffeedia.infrastructure.persistence.jpa.tag;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 태그 사전 설정
+ *
+ * @param maximumSize 메모리에 보관할 태그 이름 → id 최대 엔트리 수
+ */
+@ConfigurationProperties(prefix = "app.tag-dictionary")
+public record TagDictionaryProperties(
+    @DefaultValue("10000") long maximumSize
+) {
+
+}
@@ -0,0 +1,11 @@
+package io.coffeedia.infrastructure.persistence.jpa.tag.config;
+
+import io.coffeedia.infrastructure.persistence.jpa.tag.TagDictionaryProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(TagDictionaryProperties.class)
+public class TagDictionaryConfig {
+
+}
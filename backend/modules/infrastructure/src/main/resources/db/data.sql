@@ -133,17 +133,17 @@ VALUES ('초보자'),
 -- =============================================================================
 -- 2. 레시피 메인 데이터 (recipes 테이블) - 3가지만
 -- =============================================================================
-INSERT INTO recipes (user_id, category, title, thumbnail_url, description, serving, tips, status,
+INSERT INTO recipes (id, user_id, category, title, thumbnail_url, description, serving, tips, status,
                      created_at, updated_at)
-VALUES (1, 'HAND_DRIP', 'V60으로 만드는 에티오피아 원두 핸드드립', 'https://example.com/v60-ethiopia.jpg',
+VALUES (1, 1, 'HAND_DRIP', 'V60으로 만드는 에티오피아 원두 핸드드립', 'https://example.com/v60-ethiopia.jpg',
         '에티오피아 원두의 꽃향기와 산미를 살린 클래식한 V60 핸드드립 레시피입니다.', 1, '물 온도는 92-94도가 적당하며, 원두는 중간 굵기로 분쇄하세요.',
         'ACTIVE', NOW(), NOW()),
 
-       (2, 'ESPRESSO', '클래식 에스프레소 추출법', 'https://example.com/classic-espresso.jpg',
+       (2, 2, 'ESPRESSO', '클래식 에스프레소 추출법', 'https://example.com/classic-espresso.jpg',
         '완벽한 에스프레소 추출을 위한 기본 레시피입니다. 크레마가 풍부하고 균형잡힌 맛을 만들어냅니다.', 1, '추출 시간 25-30초, 추출량 30ml 기준입니다.',
         'ACTIVE', NOW(), NOW()),
 
-       (3, 'COLD_BREW', '12시간 콜드브루 농축액', 'https://example.com/12h-coldbrew.jpg',
+       (3, 3, 'COLD_BREW', '12시간 콜드브루 농축액', 'https://example.com/12h-coldbrew.jpg',
         '12시간 저온 추출로 만드는 진한 콜드브루 농축액입니다.', 4, '원두는 굵게 분쇄하고, 1:8 비율로 12시간 냉장고에서 추출하세요.', 'ACTIVE',
         NOW(), NOW());
 
@@ -152,71 +152,85 @@ VALUES (1, 'HAND_DRIP', 'V60으로 만드는 에티오피아 원두 핸드드립
 -- =============================================================================
 
 -- 레시피 1: V60 에티오피아 원두 핸드드립
-INSERT INTO ingredients (recipe_id, name, amount, unit, buy_url)
-VALUES (1, '에티오피아 원두 (예가체프)', 20.0, 'g', 'https://shop.example.com/ethiopia-yirgacheffe'),
-       (1, '필터된 물', 300.0, 'ml', NULL),
-       (1, 'V60 드리퍼', 1.0, '개', 'https://shop.example.com/v60-dripper'),
-       (1, 'V60 필터', 1.0, '장', 'https://shop.example.com/v60-filter');
+INSERT INTO ingredients (id, recipe_id, name, amount, unit, buy_url)
+VALUES (1, 1, '에티오피아 원두 (예가체프)', 20.0, 'g', 'https://shop.example.com/ethiopia-yirgacheffe'),
+       (2, 1, '필터된 물', 300.0, 'ml', NULL),
+       (3, 1, 'V60 드리퍼', 1.0, '개', 'https://shop.example.com/v60-dripper'),
+       (4, 1, 'V60 필터', 1.0, '장', 'https://shop.example.com/v60-filter');
 
 -- 레시피 2: 클래식 에스프레소
-INSERT INTO ingredients (recipe_id, name, amount, unit, buy_url)
-VALUES (2, '에스프레소 블렌드 원두', 18.0, 'g', 'https://shop.example.com/espresso-blend'),
-       (2, '필터된 물', 30.0, 'ml', NULL);
+INSERT INTO ingredients (id, recipe_id, name, amount, unit, buy_url)
+VALUES (5, 2, '에스프레소 블렌드 원두', 18.0, 'g', 'https://shop.example.com/espresso-blend'),
+       (6, 2, '필터된 물', 30.0, 'ml', NULL);
 
 -- 레시피 3: 12시간 콜드브루
-INSERT INTO ingredients (recipe_id, name, amount, unit, buy_url)
-VALUES (3, '콜드브루용 원두 (굵은 분쇄)', 100.0, 'g', 'https://shop.example.com/coldbrew-beans'),
-       (3, '차가운 물', 800.0, 'ml', NULL),
-       (3, '콜드브루 추출기', 1.0, '개', 'https://shop.example.com/coldbrew-maker');
+INSERT INTO ingredients (id, recipe_id, name, amount, unit, buy_url)
+VALUES (7, 3, '콜드브루용 원두 (굵은 분쇄)', 100.0, 'g', 'https://shop.example.com/coldbrew-beans'),
+       (8, 3, '차가운 물', 800.0, 'ml', NULL),
+       (9, 3, '콜드브루 추출기', 1.0, '개', 'https://shop.example.com/coldbrew-maker');
 
 -- =============================================================================
 -- 4. 레시피 단계 데이터 (recipe_steps 테이블)
 -- =============================================================================
 
 -- 레시피 1: V60 에티오피아 원두 핸드드립 단계
-INSERT INTO recipe_steps (recipe_id, sort_order, image_url, description)
-VALUES (1, 1, 'https://example.com/steps/v60-step1.jpg', '에티오피아 원두 20g을 중간 굵기로 분쇄합니다.'),
-       (1, 2, 'https://example.com/steps/v60-step2.jpg',
+INSERT INTO recipe_steps (id, recipe_id, sort_order, image_url, description)
+VALUES (1, 1, 1, 'https://example.com/steps/v60-step1.jpg', '에티오피아 원두 20g을 중간 굵기로 분쇄합니다.'),
+       (2, 1, 2, 'https://example.com/steps/v60-step2.jpg',
         'V60 드리퍼에 필터를 설치하고, 92-94도의 뜨거운 물로 필터를 린싱합니다.'),
-       (1, 3, 'https://example.com/steps/v60-step3.jpg', '분쇄된 원두를 필터에 넣고 가운데를 살짝 눌러 우물을 만듭니다.'),
-       (1, 4, 'https://example.com/steps/v60-step4.jpg',
+       (3, 1, 3, 'https://example.com/steps/v60-step3.jpg', '분쇄된 원두를 필터에 넣고 가운데를 살짝 눌러 우물을 만듭니다.'),
+       (4, 1, 4, 'https://example.com/steps/v60-step4.jpg',
         '30초간 블루밍: 가운데부터 시작해서 40ml의 물을 부어 30초간 기다립니다.'),
-       (1, 5, 'https://example.com/steps/v60-step5.jpg', '2차 푸어링: 총 150ml가 되도록 천천히 물을 부어줍니다.'),
-       (1, 6, 'https://example.com/steps/v60-step6.jpg', '3차 푸어링: 나머지 110ml를 부어 총 300ml를 완성합니다.');
+       (5, 1, 5, 'https://example.com/steps/v60-step5.jpg', '2차 푸어링: 총 150ml가 되도록 천천히 물을 부어줍니다.'),
+       (6, 1, 6, 'https://example.com/steps/v60-step6.jpg', '3차 푸어링: 나머지 110ml를 부어 총 300ml를 완성합니다.');
 
 -- 레시피 2: 클래식 에스프레소 단계
-INSERT INTO recipe_steps (recipe_id, sort_order, image_url, description)
-VALUES (2, 1, 'https://example.com/steps/espresso-step1.jpg', '에스프레소용 원두 18g을 곱게 분쇄합니다.'),
-       (2, 2, 'https://example.com/steps/espresso-step2.jpg', '포터필터에 원두를 넣고 평평하게 고르게 펴줍니다.'),
-       (2, 3, 'https://example.com/steps/espresso-step3.jpg', '탬퍼를 사용해 30파운드 압력으로 눌러 평평하게 탬핑합니다.'),
-       (2, 4, 'https://example.com/steps/espresso-step4.jpg', '에스프레소 머신에 포터필터를 장착하고 추출을 시작합니다.'),
-       (2, 5, 'https://example.com/steps/espresso-step5.jpg', '25-30초 동안 30ml의 에스프레소가 추출되도록 합니다.');
+INSERT INTO recipe_steps (id, recipe_id, sort_order, image_url, description)
+VALUES (7, 2, 1, 'https://example.com/steps/espresso-step1.jpg', '에스프레소용 원두 18g을 곱게 분쇄합니다.'),
+       (8, 2, 2, 'https://example.com/steps/espresso-step2.jpg', '포터필터에 원두를 넣고 평평하게 고르게 펴줍니다.'),
+       (9, 2, 3, 'https://example.com/steps/espresso-step3.jpg', '탬퍼를 사용해 30파운드 압력으로 눌러 평평하게 탬핑합니다.'),
+       (10, 2, 4, 'https://example.com/steps/espresso-step4.jpg', '에스프레소 머신에 포터필터를 장착하고 추출을 시작합니다.'),
+       (11, 2, 5, 'https://example.com/steps/espresso-step5.jpg', '25-30초 동안 30ml의 에스프레소가 추출되도록 합니다.');
 
 -- 레시피 3: 12시간 콜드브루 단계
-INSERT INTO recipe_steps (recipe_id, sort_order, image_url, description)
-VALUES (3, 1, 'https://example.com/steps/coldbrew-step1.jpg', '콜드브루용 원두 100g을 굵게 분쇄합니다.'),
-       (3, 2, 'https://example.com/steps/coldbrew-step2.jpg', '콜드브루 메이커에 분쇄된 원두를 넣습니다.'),
-       (3, 3, 'https://example.com/steps/coldbrew-step3.jpg', '차가운 물 800ml를 천천히 부어 원두가 잠기도록 합니다.'),
-       (3, 4, 'https://example.com/steps/coldbrew-step4.jpg', '뚜껑을 덮고 냉장고에서 12시간 동안 추출합니다.'),
-       (3, 5, 'https://example.com/steps/coldbrew-step5.jpg', '필터나 체를 사용해 원두를 걸러낸 후 농축액을 완성합니다.');
+INSERT INTO recipe_steps (id, recipe_id, sort_order, image_url, description)
+VALUES (12, 3, 1, 'https://example.com/steps/coldbrew-step1.jpg', '콜드브루용 원두 100g을 굵게 분쇄합니다.'),
+       (13, 3, 2, 'https://example.com/steps/coldbrew-step2.jpg', '콜드브루 메이커에 분쇄된 원두를 넣습니다.'),
+       (14, 3, 3, 'https://example.com/steps/coldbrew-step3.jpg', '차가운 물 800ml를 천천히 부어 원두가 잠기도록 합니다.'),
+       (15, 3, 4, 'https://example.com/steps/coldbrew-step4.jpg', '뚜껑을 덮고 냉장고에서 12시간 동안 추출합니다.'),
+       (16, 3, 5, 'https://example.com/steps/coldbrew-step5.jpg', '필터나 체를 사용해 원두를 걸러낸 후 농축액을 완성합니다.');
 
 -- =============================================================================
 -- 5. 레시피-태그 매핑 데이터 (recipe_tags 테이블)
 -- =============================================================================
 
 -- V60 에티오피아 레시피 태그
-INSERT INTO recipe_tags (recipe_id, tag_id)
-VALUES (1, 1), -- 초보자
-       (1, 5), -- 산미
-       (1, 6);
+INSERT INTO recipe_tags (id, recipe_id, tag_id)
+VALUES (1, 1, 1), -- 초보자
+       (2, 1, 5), -- 산미
+       (3, 1, 6);
 -- 에티오피아
 
 -- 클래식 에스프레소 태그
-INSERT INTO recipe_tags (recipe_id, tag_id)
-VALUES (2, 3);
+INSERT INTO recipe_tags (id, recipe_id, tag_id)
+VALUES (4, 2, 3);
 -- 진한맛
 
 -- 12시간 콜드브루 태그
-INSERT INTO recipe_tags (recipe_id, tag_id)
-VALUES (3, 1), -- 초보자
-       (3, 2); -- 간단함
+INSERT INTO recipe_tags (id, recipe_id, tag_id)
+VALUES (5, 3, 1), -- 초보자
+       (6, 3, 2); -- 간단함
+
+
+-- =============================================================================
+-- 6. 시퀀스 위치 맞추기
+-- =============================================================================
+-- 위 데이터는 id 를 직접 넣었으므로, 애플리케이션이 할당하는 id 와 겹치지 않도록 시퀀스를 현재 최대값으로 옮깁니다.
+-- (pooled 옵티마이저는 nextval 값을 블록의 상한으로 사용하므로 max(id) 이후부터 할당됩니다.)
+SELECT setval('beans_seq', (SELECT MAX(id) FROM beans));
+SELECT setval('bean_flavors_seq', (SELECT MAX(id) FROM bean_flavors));
+SELECT setval('recipes_seq', (SELECT MAX(id) FROM recipes));
+SELECT setval('ingredients_seq', (SELECT MAX(id) FROM ingredients));
+SELECT setval('recipe_steps_seq', (SELECT MAX(id) FROM recipe_steps));
+SELECT setval('recipe_tags_seq', (SELECT MAX(id) FROM recipe_tags));
+
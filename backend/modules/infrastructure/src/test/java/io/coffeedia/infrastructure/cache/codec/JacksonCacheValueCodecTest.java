@@ -0,0 +1,98 @@
+package io.coffeedia.infrastructure.cache.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.coffeedia.domain.model.Flavor;
+import io.coffeedia.infrastructure.cache.codec.CacheCodecProperties.CodecType;
+import io.coffeedia.infrastructure.cache.config.CacheConfig;
+import java.util.Map;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Jackson 캐시 값 코덱")
+class JacksonCacheValueCodecTest {
+
+    private static final int COMPRESSION_THRESHOLD = 128;
+
+    private final ObjectMapper objectMapper =
+        new ObjectMapper(new SmileFactory()).registerModule(new JavaTimeModule());
+    private final CacheValueCodec codec =
+        new JacksonCacheValueCodec(objectMapper, COMPRESSION_THRESHOLD);
+
+    @Nested
+    @DisplayName("인코딩 후 디코딩")
+    class RoundTripTest {
+
+        @Test
+        @DisplayName("임계값보다 작은 값은 압축 없이 저장되고 같은 값으로 복원된다")
+        void restoresSmallValue() {
+            // given
+            Flavor flavor = Flavor.builder().id(1L).name("초콜릿").build();
+
+            // when
+            byte[] encoded = codec.encode(flavor);
+            Flavor decoded = codec.decode(encoded, objectMapper.constructType(Flavor.class));
+
+            // then
+            assertThat(encoded[0]).isZero();
+            assertThat(decoded).isEqualTo(flavor);
+        }
+
+        @Test
+        @DisplayName("임계값 이상인 값은 압축되어 저장되고 같은 값으로 복원된다")
+        void restoresCompressedValue() {
+            // given
+            List<Flavor> flavors = IntStream.rangeClosed(1, 50)
+                .mapToObj(i -> Flavor.builder().id((long) i).name("플레이버" + i).build())
+                .toList();
+            JavaType listType = objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, Flavor.class);
+
+            // when
+            byte[] encoded = codec.encode(flavors);
+            List<Flavor> decoded = codec.decode(encoded, listType);
+
+            // then
+            assertThat(encoded[0]).isEqualTo((byte) 1);
+            assertThat(decoded).containsExactlyElementsOf(flavors);
+        }
+    }
+
+    @Test
+    @DisplayName("대상 타입으로 읽을 수 없는 값이면 IllegalArgumentException이 발생한다")
+    void throwsWhenTypeMismatch() {
+        // given
+        byte[] encoded = codec.encode("string-value");
+
+        // when & then
+        assertThatThrownBy(() -> codec.decode(encoded, objectMapper.constructType(Integer.class)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("설정으로 만든 코덱은 형식과 관계없이 모르는 필드가 있어도 값을 읽는다")
+    void configuredCodecIgnoresUnknownProperties() {
+        for (CodecType type : CodecType.values()) {
+            // given
+            CacheValueCodec configured = new CacheConfig().cacheValueCodec(
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                new CacheCodecProperties(type, COMPRESSION_THRESHOLD)
+            );
+            byte[] encoded = configured.encode(Map.of("id", 1, "name", "초콜릿", "removed", "x"));
+
+            // when
+            Flavor decoded = configured.decode(encoded, objectMapper.constructType(Flavor.class));
+
+            // then
+            assertThat(decoded).isEqualTo(Flavor.builder().id(1L).name("초콜릿").build());
+        }
+    }
+}
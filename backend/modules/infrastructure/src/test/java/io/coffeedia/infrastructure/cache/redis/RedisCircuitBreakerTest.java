@@ -0,0 +1,126 @@
+package io.coffeedia.infrastructure.cache.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.coffeedia.infrastructure.cache.redis.RedisCircuitBreaker.State;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Redis 서킷 브레이커")
+class RedisCircuitBreakerTest {
+
+    private static final int MINIMUM_CALLS = 4;
+    private static final int HALF_OPEN_PROBES = 2;
+    private static final long FAST = Duration.ofMillis(1).toNanos();
+    private static final long SLOW = Duration.ofSeconds(1).toNanos();
+
+    private RedisCircuitBreaker circuitBreaker(final Duration openDuration) {
+        return new RedisCircuitBreaker(
+            new RedisCircuitBreakerProperties(true, 10, MINIMUM_CALLS, 50,
+                Duration.ofMillis(200), 80, openDuration, HALF_OPEN_PROBES),
+            new SimpleMeterRegistry()
+        );
+    }
+
+    @Nested
+    @DisplayName("닫힌 상태")
+    class ClosedTest {
+
+        @Test
+        @DisplayName("실패율이 임계치를 넘으면 서킷이 열리고 호출을 거부한다")
+        void opensWhenFailureRateExceeded() {
+            // given
+            RedisCircuitBreaker breaker = circuitBreaker(Duration.ofMinutes(1));
+
+            // when
+            breaker.onSuccess(FAST);
+            breaker.onSuccess(FAST);
+            breaker.onError(FAST);
+            breaker.onError(FAST);
+
+            // then
+            assertThat(breaker.state()).isEqualTo(State.OPEN);
+            assertThat(breaker.tryAcquirePermission()).isFalse();
+        }
+
+        @Test
+        @DisplayName("느린 호출 비율이 임계치를 넘으면 서킷이 열린다")
+        void opensWhenSlowCallRateExceeded() {
+            // given
+            RedisCircuitBreaker breaker = circuitBreaker(Duration.ofMinutes(1));
+
+            // when
+            for (int i = 0; i < MINIMUM_CALLS; i++) {
+                breaker.onSuccess(SLOW);
+            }
+
+            // then
+            assertThat(breaker.state()).isEqualTo(State.OPEN);
+        }
+
+        @Test
+        @DisplayName("최소 호출 수에 도달하기 전에는 실패해도 서킷이 열리지 않는다")
+        void staysClosedBelowMinimumCalls() {
+            // given
+            RedisCircuitBreaker breaker = circuitBreaker(Duration.ofMinutes(1));
+
+            // when
+            breaker.onError(FAST);
+            breaker.onError(FAST);
+
+            // then
+            assertThat(breaker.state()).isEqualTo(State.CLOSED);
+            assertThat(breaker.tryAcquirePermission()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("반열림 상태")
+    class HalfOpenTest {
+
+        @Test
+        @DisplayName("대기 시간이 지나면 시험 호출만 허용하고, 모두 성공하면 서킷을 닫는다")
+        void closesWhenProbesSucceed() {
+            // given
+            RedisCircuitBreaker breaker = openedCircuitBreaker();
+
+            // when
+            boolean firstProbe = breaker.tryAcquirePermission();
+            boolean secondProbe = breaker.tryAcquirePermission();
+            boolean extraCall = breaker.tryAcquirePermission();
+            breaker.onSuccess(FAST);
+            breaker.onSuccess(FAST);
+
+            // then
+            assertThat(firstProbe).isTrue();
+            assertThat(secondProbe).isTrue();
+            assertThat(extraCall).isFalse();
+            assertThat(breaker.state()).isEqualTo(State.CLOSED);
+        }
+
+        @Test
+        @DisplayName("시험 호출이 실패하면 서킷을 다시 연다")
+        void reopensWhenProbeFails() {
+            // given
+            RedisCircuitBreaker breaker = openedCircuitBreaker();
+
+            // when
+            breaker.tryAcquirePermission();
+            breaker.onError(FAST);
+
+            // then
+            assertThat(breaker.state()).isEqualTo(State.OPEN);
+        }
+
+        private RedisCircuitBreaker openedCircuitBreaker() {
+            RedisCircuitBreaker breaker = circuitBreaker(Duration.ZERO);
+            for (int i = 0; i < MINIMUM_CALLS; i++) {
+                breaker.onError(FAST);
+            }
+            return breaker;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package io.coffeedia.infrastructure.persistence.budget;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import io.coffeedia.domain.exception.QueryBudgetExceededException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("쿼리 시간 예산 DataSource")
+class QueryBudgetDataSourceTest {
+
+    private static final String SQL = "SELECT 1";
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    private QueryBudgetDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        given(target.getConnection()).willReturn(connection);
+        dataSource = new QueryBudgetDataSource(target, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryBudget.close();
+    }
+
+    @Test
+    @DisplayName("유스케이스 예산이 없으면 기본 문장 타임아웃을 적용한다")
+    void appliesDefaultTimeout() throws SQLException {
+        // given
+        given(connection.prepareStatement(anyString())).willReturn(statement);
+
+        // when
+        dataSource.getConnection().prepareStatement(SQL);
+
+        // then
+        then(statement).should().setQueryTimeout(5);
+    }
+
+    @Test
+    @DisplayName("남은 예산이 문장 타임아웃보다 짧으면 남은 예산을 올림한 초를 적용한다")
+    void appliesRemainingBudget() throws SQLException {
+        // given
+        given(connection.prepareStatement(anyString())).willReturn(statement);
+        QueryBudget budget = new QueryBudget("GetAllRecipeSummariesService",
+            Duration.ofSeconds(2), Duration.ofSeconds(3));
+        QueryBudget.open(budget);
+        budget.charge(Duration.ofMillis(2_500).toNanos());
+
+        // when
+        dataSource.getConnection().prepareStatement(SQL);
+
+        // then
+        then(statement).should().setQueryTimeout(1);
+    }
+
+    @Test
+    @DisplayName("실행한 쿼리 시간을 유스케이스 예산에 더한다")
+    void chargesExecutionTime() throws SQLException {
+        // given
+        given(connection.prepareStatement(anyString())).willReturn(statement);
+        given(statement.execute()).willAnswer(invocation -> {
+            Thread.sleep(20);
+            return true;
+        });
+        QueryBudget budget = new QueryBudget("GetAllRecipeSummariesService",
+            Duration.ofSeconds(2), Duration.ofSeconds(3));
+        QueryBudget.open(budget);
+
+        // when
+        dataSource.getConnection().prepareStatement(SQL).execute();
+
+        // then
+        assertThat(budget.spentNanos()).isGreaterThanOrEqualTo(Duration.ofMillis(20).toNanos());
+    }
+
+    @Test
+    @DisplayName("예산을 모두 쓰면 다음 쿼리를 실행하지 않고 예외를 던진다")
+    void rejectsWhenBudgetExhausted() throws SQLException {
+        // given
+        given(connection.prepareStatement(anyString())).willReturn(statement);
+        QueryBudget budget = new QueryBudget("GetAllRecipeSummariesService",
+            Duration.ofSeconds(2), Duration.ofSeconds(3));
+        QueryBudget.open(budget);
+        budget.charge(Duration.ofSeconds(3).toNanos());
+        Connection proxy = dataSource.getConnection();
+
+        // when & then
+        assertThatThrownBy(() -> proxy.prepareStatement(SQL))
+            .isInstanceOf(QueryBudgetExceededException.class)
+            .extracting("reason")
+            .isEqualTo(QueryBudget.BUDGET_EXHAUSTED);
+    }
+}
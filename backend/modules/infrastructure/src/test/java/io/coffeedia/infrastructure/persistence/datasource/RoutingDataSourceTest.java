@@ -0,0 +1,348 @@
+package io.coffeedia.infrastructure.persistence.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+@DisplayName("읽기/쓰기 데이터소스 라우팅")
+class RoutingDataSourceTest {
+
+    private static final String USER = "bjorn";
+    private static final int FAILURE_THRESHOLD = 2;
+    private static final int SUCCESS_THRESHOLD = 2;
+    private static final long FAST = Duration.ofMillis(1).toNanos();
+
+    private SimpleMeterRegistry meterRegistry;
+    private DataSource mainDataSource;
+    private ReplicaNode first;
+    private ReplicaNode second;
+    private WriteStickiness writeStickiness;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        mainDataSource = mock(DataSource.class);
+        first = replica("replica-1", Duration.ZERO);
+        second = replica("replica-2", Duration.ZERO);
+        admit(first);
+        admit(second);
+        writeStickiness = new WriteStickiness(properties(Duration.ZERO));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadConsistencyContext.end();
+    }
+
+    private ReadRoutingProperties properties(final Duration minEjection) {
+        return new ReadRoutingProperties(Duration.ofSeconds(1), Duration.ofSeconds(1),
+            Duration.ofMinutes(1), 100, ReplicaBalancing.ROUND_ROBIN, FAILURE_THRESHOLD,
+            SUCCESS_THRESHOLD, minEjection);
+    }
+
+    private ReplicaNode replica(final String name, final Duration minEjection) {
+        return new ReplicaNode(name, mock(DataSource.class), properties(minEjection),
+            meterRegistry);
+    }
+
+    private RoutingDataSource routingDataSource(final ReplicaBalancing balancing) {
+        RoutingDataSource routingDataSource = new RoutingDataSource(
+            new ReplicaSelector(List.of(first, second), balancing), writeStickiness, meterRegistry
+        );
+        routingDataSource.setTargetDataSources(Map.of(
+            DataSourceType.MAIN, mainDataSource,
+            first, first.dataSource(),
+            second, second.dataSource()
+        ));
+        routingDataSource.setDefaultTargetDataSource(mainDataSource);
+        routingDataSource.afterPropertiesSet();
+        return routingDataSource;
+    }
+
+    private static Object route(final RoutingDataSource routingDataSource) {
+        Object key = routingDataSource.determineCurrentLookupKey();
+        return key instanceof ReplicaNode node ? node.name() : key;
+    }
+
+    private static void admit(final ReplicaNode node) {
+        node.recordProbe(0, FAST, true);
+    }
+
+    private static void eject(final ReplicaNode node) {
+        IntStream.range(0, FAILURE_THRESHOLD).forEach(i -> node.recordFailure("test"));
+    }
+
+    @Nested
+    @DisplayName("Replica 분산")
+    class BalancingTest {
+
+        @Test
+        @DisplayName("읽기 전용 트랜잭션을 사용 가능한 Replica 에 순서대로 나누어 보낸다")
+        void roundRobinsAcrossReplicas() {
+            // given
+            RoutingDataSource routingDataSource = routingDataSource(ReplicaBalancing.ROUND_ROBIN);
+
+            // when
+            List<Object> keys = IntStream.range(0, 4)
+                .mapToObj(i -> route(routingDataSource))
+                .toList();
+
+            // then
+            assertThat(keys).containsExactly("replica-1", "replica-2", "replica-1", "replica-2");
+            assertThat(meterRegistry.get("datasource.replica.routed").tag("replica", "replica-1")
+                .counter().count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("응답 시간 가중 분산은 빠른 Replica 에 더 많이 보낸다")
+        void prefersFasterReplica() {
+            // given
+            first.recordProbe(0, FAST, true);
+            second.recordProbe(0, Duration.ofMillis(9).toNanos(), true);
+            RoutingDataSource routingDataSource = routingDataSource(ReplicaBalancing.LATENCY);
+
+            // when
+            long toFirst = IntStream.range(0, 1000)
+                .mapToObj(i -> route(routingDataSource))
+                .filter("replica-1"::equals)
+                .count();
+
+            // then
+            assertThat(toFirst).isGreaterThan(700);
+        }
+
+        @Test
+        @DisplayName("사용 가능한 Replica 가 없으면 MAIN 으로 보낸다")
+        void routesToMainWhenAllReplicasEjected() {
+            // given
+            RoutingDataSource routingDataSource = routingDataSource(ReplicaBalancing.ROUND_ROBIN);
+            eject(first);
+            eject(second);
+
+            // when & then
+            assertThat(route(routingDataSource)).isEqualTo(DataSourceType.MAIN);
+        }
+    }
+
+    @Nested
+    @DisplayName("Replica 제외와 복귀")
+    class FailoverTest {
+
+        @Test
+        @DisplayName("첫 상태 확인 전에는 Replica 로 보내지 않고, 첫 확인에 성공하면 바로 사용한다")
+        void admitsOnlyAfterFirstProbe() {
+            // given
+            ReplicaNode node = replica("replica-3", Duration.ofMinutes(1));
+
+            // when
+            boolean beforeProbe = node.available();
+            node.recordProbe(0, FAST, true);
+
+            // then
+            assertThat(beforeProbe).isFalse();
+            assertThat(node.available()).isTrue();
+        }
+
+        @Test
+        @DisplayName("첫 상태 확인에서 지연이 허용치를 넘으면 계속 사용하지 않는다")
+        void keepsLaggingReplicaOutOnStartup() {
+            // given
+            ReplicaNode node = replica("replica-3", Duration.ZERO);
+
+            // when
+            node.recordProbe(5_000, FAST, false);
+
+            // then
+            assertThat(node.available()).isFalse();
+        }
+
+        @Test
+        @DisplayName("연속 실패가 임계치에 도달하기 전에는 Replica 를 제외하지 않는다")
+        void toleratesSingleFailure() {
+            // when
+            first.recordFailure("test");
+            first.recordProbe(0, FAST, true);
+            first.recordFailure("test");
+
+            // then
+            assertThat(first.available()).isTrue();
+        }
+
+        @Test
+        @DisplayName("제외된 Replica 는 건너뛰고 연속 성공이 임계치에 도달하면 복귀시킨다")
+        void readmitsAfterConsecutiveSuccesses() {
+            // given
+            RoutingDataSource routingDataSource = routingDataSource(ReplicaBalancing.ROUND_ROBIN);
+            eject(first);
+
+            // when
+            List<Object> whileEjected = List.of(route(routingDataSource), route(routingDataSource));
+            first.recordProbe(0, FAST, true);
+            boolean afterOneSuccess = first.available();
+            first.recordProbe(0, FAST, true);
+
+            // then
+            assertThat(whileEjected).containsOnly("replica-2");
+            assertThat(afterOneSuccess).isFalse();
+            assertThat(first.available()).isTrue();
+        }
+
+        @Test
+        @DisplayName("최소 제외 시간이 지나기 전에는 성공이 이어져도 복귀시키지 않는다")
+        void keepsEjectedWithinMinimumDuration() {
+            // given
+            ReplicaNode node = replica("replica-3", Duration.ofMinutes(1));
+            admit(node);
+            eject(node);
+
+            // when
+            IntStream.range(0, SUCCESS_THRESHOLD * 2).forEach(i -> node.recordProbe(0, FAST, true));
+
+            // then
+            assertThat(node.available()).isFalse();
+        }
+
+        @Test
+        @DisplayName("복제 지연이 허용치를 넘는 상태가 이어지면 Replica 를 제외한다")
+        void ejectsLaggingReplica() {
+            // when
+            IntStream.range(0, FAILURE_THRESHOLD).forEach(i -> first.recordProbe(5_000, FAST, false));
+
+            // then
+            assertThat(first.available()).isFalse();
+            assertThat(meterRegistry.get("datasource.replica.transitions")
+                .tag("replica", "replica-1").tag("to", "ejected").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Replica 커넥션을 얻지 못하면 MAIN 커넥션으로 대신 응답한다")
+        void fallsBackToMainOnConnectionFailure() throws SQLException {
+            // given
+            RoutingDataSource routingDataSource = routingDataSource(ReplicaBalancing.ROUND_ROBIN);
+            Connection mainConnection = mock(Connection.class);
+            given(first.dataSource().getConnection()).willThrow(new SQLException("refused"));
+            given(mainDataSource.getConnection()).willReturn(mainConnection);
+
+            // when
+            Connection connection = routingDataSource.getConnection();
+
+            // then
+            connection.close();
+            verify(mainConnection).close();
+            assertThat(first.consecutiveFailures()).isEqualTo(1);
+            assertThat(meterRegistry.get("datasource.routing.fallback")
+                .tag("reason", "connection_failure").counter().count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("쓰기 후 읽기 고정")
+    class StickinessTest {
+
+        @Test
+        @DisplayName("쓰기를 커밋한 사용자는 다음 요청에서도 잠시 동안 MAIN 에서 읽는다")
+        void sticksWriterToMain() {
+            // given
+            RoutingDataSource routingDataSource = routingDataSource(ReplicaBalancing.ROUND_ROBIN);
+            ReadConsistencyContext.begin(USER);
+            writeStickiness.markWritten();
+            ReadConsistencyContext.end();
+
+            // when
+            ReadConsistencyContext.begin(USER);
+
+            // then
+            assertThat(route(routingDataSource)).isEqualTo(DataSourceType.MAIN);
+        }
+
+        @Test
+        @DisplayName("다른 사용자의 쓰기는 읽기 라우팅에 영향을 주지 않는다")
+        void doesNotStickOtherUsers() {
+            // given
+            RoutingDataSource routingDataSource = routingDataSource(ReplicaBalancing.ROUND_ROBIN);
+            ReadConsistencyContext.begin(USER);
+            writeStickiness.markWritten();
+            ReadConsistencyContext.end();
+
+            // when
+            ReadConsistencyContext.begin("isabelle");
+
+            // then
+            assertThat(route(routingDataSource)).isEqualTo("replica-1");
+        }
+
+        @Test
+        @DisplayName("DML 을 실행한 트랜잭션이 커밋된 뒤에만 MAIN 에 고정한다")
+        void sticksOnlyAfterCommittedDml() throws SQLException {
+            // given
+            RoutingDataSource routingDataSource = routingDataSource(ReplicaBalancing.ROUND_ROBIN);
+            Connection mainConnection = mock(Connection.class);
+            given(mainConnection.prepareStatement("sql")).willReturn(mock(PreparedStatement.class));
+            given(mainDataSource.getConnection()).willReturn(mainConnection);
+            ReadConsistencyContext.begin(USER);
+
+            // when
+            boolean afterReadOnlyCommit = commit(routingDataSource, false);
+            boolean afterWriteCommit = commit(routingDataSource, true);
+
+            // then
+            assertThat(afterReadOnlyCommit).isFalse();
+            assertThat(afterWriteCommit).isTrue();
+        }
+
+        /**
+         * 쓰기 트랜잭션에서 MAIN 커넥션으로 조회 또는 DML 을 실행하고 커밋한 뒤 고정 여부를 반환합니다.
+         */
+        private boolean commit(final RoutingDataSource routingDataSource, final boolean dml)
+            throws SQLException {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                PreparedStatement statement = routingDataSource.getConnection()
+                    .prepareStatement("sql");
+                if (dml) {
+                    statement.executeUpdate();
+                } else {
+                    statement.executeQuery();
+                }
+                TransactionSynchronizationUtils.triggerAfterCommit();
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            }
+            return writeStickiness.isSticky();
+        }
+
+        @Test
+        @DisplayName("사용자 키가 없는 요청도 같은 요청 안에서 쓰기 후의 읽기는 MAIN 으로 보낸다")
+        void sticksWithinRequestWithoutKey() {
+            // given
+            RoutingDataSource routingDataSource = routingDataSource(ReplicaBalancing.ROUND_ROBIN);
+            ReadConsistencyContext.begin(null);
+            writeStickiness.markWritten();
+
+            // when & then
+            assertThat(route(routingDataSource)).isEqualTo(DataSourceType.MAIN);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.coffeedia.infrastructure.persistence.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.coffeedia.domain.vo.ActiveStatus;
+import io.coffeedia.domain.vo.CategoryType;
+import io.coffeedia.domain.vo.RecipeTagFilter;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("레시피 비트맵 역색인")
+class RecipeBitmapsTest {
+
+    private static final long ICE = 1L;
+    private static final long ACIDITY = 2L;
+    private static final long MILK = 3L;
+
+    private RecipeBitmaps bitmaps;
+
+    @BeforeEach
+    void setUp() {
+        bitmaps = new RecipeBitmaps();
+        bitmaps.nameTag(ICE, "아이스");
+        bitmaps.nameTag(ACIDITY, "산미");
+        bitmaps.nameTag(MILK, "우유");
+
+        index(1L, CategoryType.HAND_DRIP, ActiveStatus.ACTIVE, ICE, ACIDITY);
+        index(2L, CategoryType.COLD_BREW, ActiveStatus.ACTIVE, ICE, MILK);
+        index(3L, CategoryType.HAND_DRIP, ActiveStatus.ACTIVE, ACIDITY);
+        index(4L, CategoryType.ESPRESSO, ActiveStatus.ACTIVE, MILK);
+        index(5L, CategoryType.HAND_DRIP, ActiveStatus.INACTIVE, ICE, ACIDITY);
+    }
+
+    @Test
+    @DisplayName("조건이 없으면 활성 레시피를 최신순으로 반환한다")
+    void findsActiveRecipesWithoutFilter() {
+        assertThat(bitmaps.find(RecipeTagFilter.builder().build(), null, 10))
+            .containsExactly(4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("모두 포함, 하나 이상 포함, 제외 태그와 카테고리를 함께 적용한다")
+    void combinesTagAndCategoryConditions() {
+        RecipeTagFilter filter = RecipeTagFilter.builder()
+            .allTags(List.of("아이스"))
+            .anyTags(List.of("산미", "우유"))
+            .excludeTags(List.of("우유"))
+            .categories(List.of(CategoryType.HAND_DRIP))
+            .build();
+
+        assertThat(bitmaps.find(filter, null, 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("모두 포함해야 하는 태그 중 없는 태그가 있으면 빈 결과를 반환한다")
+    void returnsEmptyForUnknownRequiredTag() {
+        RecipeTagFilter filter = RecipeTagFilter.builder()
+            .allTags(List.of("아이스", "없는태그"))
+            .build();
+
+        assertThat(bitmaps.find(filter, null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커서보다 작은 ID 부터 limit 건까지 반환한다")
+    void pagesBeforeCursor() {
+        assertThat(bitmaps.find(RecipeTagFilter.builder().build(), 4L, 2))
+            .containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("제거한 레시피는 다시 추가하기 전까지 조회되지 않는다")
+    void removesRecipeFromAllBitmaps() {
+        bitmaps.remove(1L);
+
+        RecipeTagFilter filter = RecipeTagFilter.builder()
+            .allTags(List.of("산미"))
+            .build();
+        assertThat(bitmaps.find(filter, null, 10)).containsExactly(3L);
+        assertThat(bitmaps.recipeCount()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("32비트 정수 범위를 넘는 레시피 ID 는 색인하지 않는다")
+    void rejectsIdOutOfRange() {
+        assertThatThrownBy(() -> bitmaps.add(Integer.MAX_VALUE + 1L,
+            CategoryType.HAND_DRIP, ActiveStatus.ACTIVE))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private void index(
+        final long recipeId,
+        final CategoryType category,
+        final ActiveStatus status,
+        final long... tagIds
+    ) {
+        bitmaps.add(recipeId, category, status);
+        for (long tagId : tagIds) {
+            bitmaps.addTag(recipeId, tagId);
+        }
+    }
+}
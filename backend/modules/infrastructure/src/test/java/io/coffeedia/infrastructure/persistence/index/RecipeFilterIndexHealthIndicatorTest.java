@@ -0,0 +1,56 @@
+package io.coffeedia.infrastructure.persistence.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("레시피 필터 역색인 health")
+class RecipeFilterIndexHealthIndicatorTest {
+
+    @Mock
+    private RecipeFilterIndex recipeFilterIndex;
+
+    @InjectMocks
+    private RecipeFilterIndexHealthIndicator healthIndicator;
+
+    @Test
+    @DisplayName("아직 한 번도 만들지 못했으면 DOWN 이다")
+    void downBeforeFirstRebuild() {
+        Health health = healthIndicator.health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+    }
+
+    @Test
+    @DisplayName("마지막 재생성이 실패하면 이전 색인이 있어도 실패 사유와 함께 DOWN 이다")
+    void downWhenLastRebuildFailed() {
+        given(recipeFilterIndex.rebuiltAt()).willReturn(Instant.now());
+        given(recipeFilterIndex.rebuildFailure()).willReturn("QueryTimeoutException: timeout");
+        given(recipeFilterIndex.recipeCount()).willReturn(120L);
+
+        Health health = healthIndicator.health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails()).containsEntry("failure", "QueryTimeoutException: timeout");
+    }
+
+    @Test
+    @DisplayName("만들었지만 비어 있으면 UNKNOWN, 레시피가 있으면 UP 이다")
+    void reportsEmptyIndex() {
+        given(recipeFilterIndex.rebuiltAt()).willReturn(Instant.now());
+        given(recipeFilterIndex.recipeCount()).willReturn(0L, 120L);
+
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UNKNOWN);
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+}
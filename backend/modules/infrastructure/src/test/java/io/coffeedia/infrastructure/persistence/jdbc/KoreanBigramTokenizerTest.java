@@ -0,0 +1,37 @@
+package io.coffeedia.infrastructure.persistence.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("한글 bigram 토크나이저")
+class KoreanBigramTokenizerTest {
+
+    @Test
+    @DisplayName("한글은 두 글자씩 겹쳐 자르고, 영문과 숫자는 소문자 단어 그대로 둔다")
+    void tokenizesHangulIntoBigrams() {
+        assertThat(KoreanBigramTokenizer.tokenize("V60 핸드드립"))
+            .containsExactly("v60", "핸드", "드드", "드립");
+    }
+
+    @Test
+    @DisplayName("한글과 숫자가 붙어 있으면 나눠서 자르고, 한 글자 한글은 그대로 둔다")
+    void splitsMixedScripts() {
+        assertThat(KoreanBigramTokenizer.tokenize("12시간 콜드브루, 물!"))
+            .containsExactly("12", "시간", "콜드", "드브", "브루", "물");
+    }
+
+    @Test
+    @DisplayName("검색어는 중복을 제거한 토큰을 모두 포함하는 접두어 검색식으로 만든다")
+    void buildsPrefixQuery() {
+        assertThat(KoreanBigramTokenizer.toQuery("드립 드립 물"))
+            .isEqualTo("'드립':* & '물':*");
+    }
+
+    @Test
+    @DisplayName("글자나 숫자가 없으면 빈 검색식을 만든다")
+    void returnsEmptyQueryWithoutTokens() {
+        assertThat(KoreanBigramTokenizer.toQuery("'&|!")).isEmpty();
+    }
+}
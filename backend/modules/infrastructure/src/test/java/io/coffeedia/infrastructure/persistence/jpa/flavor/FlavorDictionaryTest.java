@@ -0,0 +1,129 @@
+package io.coffeedia.infrastructure.persistence.jpa.flavor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import io.coffeedia.domain.model.Flavor;
+import io.coffeedia.infrastructure.persistence.jpa.entity.FlavorJpaEntity;
+import io.coffeedia.infrastructure.persistence.jpa.repository.FlavorJpaRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("flavor 사전")
+class FlavorDictionaryTest {
+
+    @Mock
+    private FlavorJpaRepository repository;
+
+    private FlavorDictionary flavorDictionary(final Duration reloadOnMissInterval) {
+        return new FlavorDictionary(
+            repository,
+            new FlavorDictionaryProperties(Duration.ofMinutes(5), reloadOnMissInterval,
+                "test:flavor:changed")
+        );
+    }
+
+    @Nested
+    @DisplayName("id 로 조회")
+    class FindAllByIdsTest {
+
+        @Test
+        @DisplayName("기동 시 읽은 스냅샷에서 요청 순서대로 조회하고 DB 를 다시 조회하지 않는다")
+        void findsFromSnapshot() {
+            // given
+            given(repository.findAll()).willReturn(List.of(flavor(3L, "베리"), flavor(1L, "초콜릿")));
+            FlavorDictionary dictionary = flavorDictionary(Duration.ofMinutes(1));
+            dictionary.load();
+
+            // when
+            List<Flavor> result = dictionary.findAllByIds(List.of(3L, 1L));
+
+            // then
+            assertThat(result).extracting(Flavor::name).containsExactly("베리", "초콜릿");
+            then(repository).should(times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("스냅샷에 없는 id 는 최소 간격이 지나지 않았으면 다시 읽지 않고 제외한다")
+        void skipsReloadWithinInterval() {
+            // given
+            given(repository.findAll()).willReturn(List.of(flavor(1L, "초콜릿")));
+            FlavorDictionary dictionary = flavorDictionary(Duration.ofMinutes(1));
+            dictionary.load();
+
+            // when
+            List<Flavor> result = dictionary.findAllByIds(List.of(1L, 99L));
+
+            // then
+            assertThat(result).extracting(Flavor::id).containsExactly(1L);
+            then(repository).should(times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("스냅샷에 없는 id 는 최소 간격이 지났으면 다시 읽어 새로 추가된 flavor 를 찾는다")
+        void reloadsOnMiss() {
+            // given
+            given(repository.findAll())
+                .willReturn(List.of(flavor(1L, "초콜릿")))
+                .willReturn(List.of(flavor(1L, "초콜릿"), flavor(2L, "캐러멜")));
+            FlavorDictionary dictionary = flavorDictionary(Duration.ZERO);
+            dictionary.load();
+
+            // when
+            List<Flavor> result = dictionary.findAllByIds(List.of(1L, 2L));
+
+            // then
+            assertThat(result).extracting(Flavor::name).containsExactly("초콜릿", "캐러멜");
+            then(repository).should(times(2)).findAll();
+        }
+
+        @Test
+        @DisplayName("여러 요청이 동시에 미스가 나도 최소 간격 안에서는 한 번만 다시 읽는다")
+        void reloadsOnceForConcurrentMisses() throws Exception {
+            // given
+            given(repository.findAll()).willReturn(List.of(flavor(1L, "초콜릿")));
+            FlavorDictionary dictionary = flavorDictionary(Duration.ofMinutes(1));
+            int threadCount = 8;
+            CountDownLatch startLatch = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+            // when
+            List<Future<List<Flavor>>> futures = IntStream.range(0, threadCount)
+                .mapToObj(i -> executor.submit(() -> {
+                    startLatch.await();
+                    return dictionary.findAllByIds(List.of(99L));
+                }))
+                .toList();
+            startLatch.countDown();
+            for (Future<List<Flavor>> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+
+            // then
+            then(repository).should(times(1)).findAll();
+        }
+    }
+
+    private static FlavorJpaEntity flavor(final Long id, final String name) {
+        return FlavorJpaEntity.builder()
+            .id(id)
+            .name(name)
+            .build();
+    }
+}